@@ -0,0 +1,78 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.fortune.saju.DailyFortuneCalculator;
+import com.cheonjiyeon.api.fortune.saju.SajuCalculator;
+import com.cheonjiyeon.api.fortune.saju.SajuChart;
+import com.cheonjiyeon.api.fortune.saju.SajuFortuneTexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일진 운세: 직접 계산 + 문구 조합 대비 DailyFortuneTable 조회.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DailyFortuneTableBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String[] HOURS = {"unknown", "자시", "묘시", "오시", "유시", "해시"};
+
+    private SajuChart[] charts;
+    private LocalDate[] days;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        charts = new SajuChart[SIZE];
+        days = new LocalDate[SIZE];
+        LocalDate birth = LocalDate.of(1950, 1, 1);
+        LocalDate today = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < SIZE; i++) {
+            charts[i] = SajuCalculator.calculateChart(birth.plusDays(i * 53L), HOURS[i % HOURS.length],
+                    i % 2 == 0 ? "male" : "female");
+            days[i] = today.plusDays(i % 60);
+        }
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (SIZE - 1);
+    }
+
+    /** 사전 계산표 도입 전 요청 경로: 계산 후 문구를 매번 조합한다. */
+    @Benchmark
+    public FortuneEntity direct() {
+        int i = next();
+        SajuChart chart = charts[i];
+        LocalDate date = days[(i * 7) & (SIZE - 1)];
+        DailyFortuneCalculator.DailyFortuneResult result = DailyFortuneCalculator.calculate(chart, date);
+
+        FortuneEntity fortune = new FortuneEntity();
+        fortune.setUserId(1L);
+        fortune.setFortuneDate(date);
+        fortune.setOverallScore(result.getOverallScore());
+        fortune.setOverallText(SajuFortuneTexts.getOverallText(result.getSipseong(), result.getOverallScore()));
+        fortune.setCareerText(SajuFortuneTexts.getCategoryText("career", result.getCareerScore()));
+        fortune.setStudyText(SajuFortuneTexts.getCategoryText("study", result.getStudyScore()));
+        fortune.setSajuInsight(SajuFortuneTexts.generateSajuInsight(result.getSipseong(), result.getUnseong(),
+                result.getHarmonyType(), chart.getDayGan(), result.getTodayGan()));
+        fortune.setCounselorCtaMessage(SajuFortuneTexts.getCounselorCtaMessage(result.getSipseong(),
+                result.getOverallScore()));
+        return fortune;
+    }
+
+    @Benchmark
+    public FortuneEntity table() {
+        int i = next();
+        LocalDate date = days[(i * 7) & (SIZE - 1)];
+        return DailyFortuneTable.lookup(charts[i], date).newFortune(1L, date);
+    }
+}
@@ -0,0 +1,84 @@
+package com.cheonjiyeon.api.fortune;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 기반 운세(폴백·띠별)와 궁합 점수 기준선.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FortuneHashBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"sha256", "mix64"})
+    public String mode;
+
+    private FortuneService fortuneService;
+
+    private Long[] userIds;
+    private LocalDate[] days;
+    private LocalDate[] birthDates;
+    private byte[] hash;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // Hash fortunes and compatibility scoring do not touch the repositories
+        fortuneService = new FortuneService(null, null, null, new FortuneHash(mode), null,
+                Clock.system(ZoneId.of("Asia/Seoul")));
+        userIds = new Long[SIZE];
+        days = new LocalDate[SIZE];
+        birthDates = new LocalDate[SIZE];
+        LocalDate today = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < SIZE; i++) {
+            userIds[i] = 100_000L + i * 7919L;
+            days[i] = today.plusDays(i % 366);
+            birthDates[i] = LocalDate.of(1950 + i % 60, i % 12 + 1, i % 28 + 1);
+        }
+        hash = fortuneService.computeHash(1L, today).clone();
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public byte[] computeHash() {
+        int i = next();
+        return fortuneService.computeHash(userIds[i], days[i]);
+    }
+
+    @Benchmark
+    public int scoreFromHash() {
+        return FortuneService.scoreFromHash(hash, (next() & 3) * 4);
+    }
+
+    /** 폴백 운세 한 건에 필요한 해시와 네 가지 점수. */
+    @Benchmark
+    public int hashFortuneScores() {
+        int i = next();
+        byte[] h = fortuneService.computeHash(userIds[i], days[i]);
+        return FortuneService.scoreFromHash(h, 0) + FortuneService.scoreFromHash(h, 4)
+                + FortuneService.scoreFromHash(h, 8) + FortuneService.scoreFromHash(h, 12);
+    }
+
+    @Benchmark
+    public FortuneDtos.CompatibilityResponse compatibility() {
+        int i = next();
+        return fortuneService.calculateCompatibility(birthDates[i], birthDates[(i * 31) & (SIZE - 1)]);
+    }
+}
@@ -0,0 +1,86 @@
+package com.cheonjiyeon.api.fortune.saju;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사주 엔진 핫패스 기준선: 명식 계산, 일진 운세, 음양력 변환, 일진 간지.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SajuEngineBenchmark {
+
+    private static final int SIZE = 1024;                      // power of two for cheap index masking
+    private static final String[] HOURS = {"unknown", "자시", "축시", "인시", "묘시", "진시", "사시",
+            "오시", "미시", "신시", "유시", "술시", "해시"};
+
+    private LocalDate[] birthDates;
+    private LocalDate[] lunarBirthDates;
+    private String[] birthHours;
+    private SajuChart[] charts;
+    private LocalDate[] days;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        birthDates = new LocalDate[SIZE];
+        lunarBirthDates = new LocalDate[SIZE];
+        birthHours = new String[SIZE];
+        charts = new SajuChart[SIZE];
+        days = new LocalDate[SIZE];
+        LocalDate birth = LocalDate.of(1950, 1, 1);
+        LocalDate today = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < SIZE; i++) {
+            birthDates[i] = birth.plusDays(i * 23L);
+            lunarBirthDates[i] = LocalDate.of(1950 + i % 50, i % 12 + 1, i % 28 + 1);
+            birthHours[i] = HOURS[i % HOURS.length];
+            charts[i] = SajuCalculator.calculateChart(birthDates[i], birthHours[i], i % 2 == 0 ? "male" : "female");
+            days[i] = today.plusDays(i);
+        }
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public SajuChart calculateChart() {
+        int i = next();
+        return SajuCalculator.calculateChart(birthDates[i], birthHours[i], "male");
+    }
+
+    @Benchmark
+    public DailyFortuneCalculator.DailyFortuneResult dailyFortune() {
+        int i = next();
+        return DailyFortuneCalculator.calculate(charts[i], days[(i * 7) & (SIZE - 1)]);
+    }
+
+    @Benchmark
+    public LocalDate resolveSolarDate_solar() {
+        return SolarLunarConverter.resolveSolarDate(birthDates[next()], "solar", false);
+    }
+
+    @Benchmark
+    public LocalDate resolveSolarDate_lunar() {
+        return SolarLunarConverter.resolveSolarDate(lunarBirthDates[next()], "lunar", false);
+    }
+
+    @Benchmark
+    public CheonganEnum dayGan() {
+        return ManseryeokData.getDayGan(days[next()]);
+    }
+
+    @Benchmark
+    public JijiEnum dayJi() {
+        return ManseryeokData.getDayJi(days[next()]);
+    }
+}
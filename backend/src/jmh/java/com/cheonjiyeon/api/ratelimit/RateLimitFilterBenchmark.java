@@ -0,0 +1,94 @@
+package com.cheonjiyeon.api.ratelimit;
+
+import com.cheonjiyeon.api.config.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청당 필터 오버헤드: 기존 compute 고정 윈도우 대비 RateLimitFilter + LocalRateLimiter.
+ * 클라이언트 4096명이 번갈아 요청하고, 한도는 넉넉히 둬 허용 경로를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+
+    private static final int CLIENTS = 4096;
+    private static final String[] PATHS = {"/api/v1/counselors", "/api/v1/auth/login", "/api/v1/bookings/me"};
+    private static final FilterChain NOOP = (req, res) -> { };
+
+    private final Map<String, LegacyEntry> legacyBuckets = new ConcurrentHashMap<>();
+    private RateLimitFilter filter;
+    private String[] ips;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+    }
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(List.of(
+                new RateLimitPolicy("auth", List.of("/api/v1/auth/login", "/api/v1/auth/signup"), 60_000, Duration.ofMinutes(1)),
+                new RateLimitPolicy("general", List.of("/"), 60_000, Duration.ofMinutes(1))));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(new LocalRateLimiter(properties, registry), properties, registry);
+
+        ips = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) ips[i] = "10.0." + (i >> 8) + "." + (i & 255);
+    }
+
+    private MockHttpServletRequest request(Cursor cursor) {
+        int i = cursor.next = (cursor.next + 1) & (CLIENTS - 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATHS[i % PATHS.length]);
+        request.setRemoteAddr(ips[i]);
+        return request;
+    }
+
+    /** 기존 필터와 같은 판단: 키마다 compute 락을 잡는 고정 윈도우 */
+    @Benchmark
+    public int legacyFixedWindow(Cursor cursor) {
+        MockHttpServletRequest request = request(cursor);
+        String path = request.getRequestURI();
+        boolean isAuth = path.startsWith("/api/v1/auth/login") || path.startsWith("/api/v1/auth/signup");
+        LegacyEntry entry = legacyBuckets.compute(request.getRemoteAddr() + (isAuth ? ":auth" : ":general"),
+                (k, existing) -> {
+                    long now = System.currentTimeMillis();
+                    if (existing == null || now - existing.windowStart > 60_000) {
+                        return new LegacyEntry(now, new AtomicInteger(1));
+                    }
+                    existing.count.incrementAndGet();
+                    return existing;
+                });
+        cursor.response.setHeader("X-RateLimit-Remaining", String.valueOf(Math.max(0, 60_000 - entry.count.get())));
+        return entry.count.get();
+    }
+
+    @Benchmark
+    public int localTokenBucket(Cursor cursor) throws Exception {
+        filter.doFilter(request(cursor), cursor.response, NOOP);
+        return cursor.response.getStatus();
+    }
+
+    private record LegacyEntry(long windowStart, AtomicInteger count) {}
+}
@@ -1,5 +1,6 @@
 package com.cheonjiyeon.api.admin;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
 import com.cheonjiyeon.api.auth.AuthService;
 import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
@@ -66,7 +67,7 @@ public class AdminCounselorApplicationService {
 
     @Transactional
     public CounselorApplicationEntity approveApplication(String authHeader, Long id) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         CounselorApplicationEntity app = applicationRepository.findById(id)
                 .orElseThrow(() -> new ApiException(404, "상담사 신청을 찾을 수 없습니다."));
@@ -76,7 +77,7 @@ public class AdminCounselorApplicationService {
         }
 
         app.setStatus("APPROVED");
-        app.setReviewedBy(admin.getId());
+        app.setReviewedBy(admin.id());
         app.setReviewedAt(LocalDateTime.now());
 
         // Change user role to COUNSELOR
@@ -95,13 +96,13 @@ public class AdminCounselorApplicationService {
             counselorRepository.save(counselor);
         }
 
-        auditLogService.log(admin.getId(), "ADMIN_COUNSELOR_APP_APPROVE", "COUNSELOR_APPLICATION", id);
+        auditLogService.log(admin.id(), "ADMIN_COUNSELOR_APP_APPROVE", "COUNSELOR_APPLICATION", id);
         return applicationRepository.save(app);
     }
 
     @Transactional
     public CounselorApplicationEntity rejectApplication(String authHeader, Long id, String reason) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         if (reason == null || reason.isBlank()) {
             throw new ApiException(400, "거절 사유를 입력해주세요.");
@@ -116,10 +117,10 @@ public class AdminCounselorApplicationService {
 
         app.setStatus("REJECTED");
         app.setAdminNote(reason);
-        app.setReviewedBy(admin.getId());
+        app.setReviewedBy(admin.id());
         app.setReviewedAt(LocalDateTime.now());
 
-        auditLogService.log(admin.getId(), "ADMIN_COUNSELOR_APP_REJECT", "COUNSELOR_APPLICATION", id);
+        auditLogService.log(admin.id(), "ADMIN_COUNSELOR_APP_REJECT", "COUNSELOR_APPLICATION", id);
         return applicationRepository.save(app);
     }
 
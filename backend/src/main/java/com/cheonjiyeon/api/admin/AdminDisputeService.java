@@ -1,5 +1,6 @@
 package com.cheonjiyeon.api.admin;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
 import com.cheonjiyeon.api.auth.AuthService;
 import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
@@ -99,7 +100,7 @@ public class AdminDisputeService {
 
     @Transactional
     public DisputeEntity reviewDispute(String authHeader, Long id) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         DisputeEntity dispute = disputeRepository.findById(id)
                 .orElseThrow(() -> new ApiException(404, "분쟁을 찾을 수 없습니다."));
@@ -109,13 +110,13 @@ public class AdminDisputeService {
         }
 
         dispute.setStatus("IN_REVIEW");
-        auditLogService.log(admin.getId(), "ADMIN_DISPUTE_REVIEW", "DISPUTE", id);
+        auditLogService.log(admin.id(), "ADMIN_DISPUTE_REVIEW", "DISPUTE", id);
         return disputeRepository.save(dispute);
     }
 
     @Transactional
     public DisputeEntity resolveDispute(String authHeader, Long id, String resolutionType, String note) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         DisputeEntity dispute = disputeRepository.findById(id)
                 .orElseThrow(() -> new ApiException(404, "분쟁을 찾을 수 없습니다."));
@@ -135,16 +136,16 @@ public class AdminDisputeService {
         dispute.setStatus("RESOLVED");
         dispute.setResolutionType(resolutionType);
         dispute.setResolutionNote(note);
-        dispute.setResolvedBy(admin.getId());
+        dispute.setResolvedBy(admin.id());
         dispute.setResolvedAt(LocalDateTime.now());
 
         executeResolution(dispute, resolutionType, admin);
 
-        auditLogService.log(admin.getId(), "ADMIN_DISPUTE_RESOLVE", "DISPUTE", id);
+        auditLogService.log(admin.id(), "ADMIN_DISPUTE_RESOLVE", "DISPUTE", id);
         return disputeRepository.save(dispute);
     }
 
-    private void executeResolution(DisputeEntity dispute, String resolutionType, UserEntity admin) {
+    private void executeResolution(DisputeEntity dispute, String resolutionType, AuthPrincipal admin) {
         switch (resolutionType) {
             case "REFUND" -> executeRefund(dispute, admin);
             case "CREDIT" -> executeCredit(dispute, admin);
@@ -153,7 +154,7 @@ public class AdminDisputeService {
         }
     }
 
-    private void executeRefund(DisputeEntity dispute, UserEntity admin) {
+    private void executeRefund(DisputeEntity dispute, AuthPrincipal admin) {
         PaymentEntity payment = paymentRepository.findByBookingId(dispute.getReservationId()).orElse(null);
         if (payment == null || !"PAID".equals(payment.getStatus())) {
             log.warn("분쟁 환불 처리 불가 - 결제 정보 없음 또는 미결제: disputeId={}, reservationId={}",
@@ -184,7 +185,7 @@ public class AdminDisputeService {
         log.info("분쟁 환불 처리 완료: disputeId={}, amount={}", dispute.getId(), payment.getAmount());
     }
 
-    private void executeCredit(DisputeEntity dispute, UserEntity admin) {
+    private void executeCredit(DisputeEntity dispute, AuthPrincipal admin) {
         // Grant 1 bonus credit (1 unit = 30 minutes)
         CreditEntity credit = new CreditEntity();
         credit.setUserId(dispute.getUserId());
@@ -194,12 +195,12 @@ public class AdminDisputeService {
         credit.setPurchasedAt(LocalDateTime.now());
         creditRepository.save(credit);
 
-        auditLogService.log(admin.getId(), "DISPUTE_BONUS_CREDIT", "DISPUTE", dispute.getId());
+        auditLogService.log(admin.id(), "DISPUTE_BONUS_CREDIT", "DISPUTE", dispute.getId());
         log.info("분쟁 보상 크레딧 지급 완료: disputeId={}, userId={}, units=1", dispute.getId(), dispute.getUserId());
     }
 
-    private void executeWarning(DisputeEntity dispute, UserEntity admin) {
-        auditLogService.log(admin.getId(), "COUNSELOR_WARNING", "DISPUTE", dispute.getId());
+    private void executeWarning(DisputeEntity dispute, AuthPrincipal admin) {
+        auditLogService.log(admin.id(), "COUNSELOR_WARNING", "DISPUTE", dispute.getId());
         log.info("상담사 경고 기록 완료: disputeId={}, reservationId={}", dispute.getId(), dispute.getReservationId());
     }
 
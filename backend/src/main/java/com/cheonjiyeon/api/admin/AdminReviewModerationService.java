@@ -1,7 +1,7 @@
 package com.cheonjiyeon.api.admin;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
 import com.cheonjiyeon.api.auth.AuthService;
-import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.audit.AuditLogService;
 import com.cheonjiyeon.api.common.ApiException;
@@ -55,7 +55,7 @@ public class AdminReviewModerationService {
 
     @Transactional
     public ReviewEntity moderateReview(String authHeader, Long reviewId, String action) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         ReviewEntity review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ApiException(404, "리뷰를 찾을 수 없습니다."));
@@ -77,9 +77,9 @@ public class AdminReviewModerationService {
         }
 
         review.setModeratedAt(LocalDateTime.now());
-        review.setModeratedBy(admin.getId());
+        review.setModeratedBy(admin.id());
 
-        auditLogService.log(admin.getId(), "ADMIN_REVIEW_MODERATE_" + action, "REVIEW", reviewId);
+        auditLogService.log(admin.id(), "ADMIN_REVIEW_MODERATE_" + action, "REVIEW", reviewId);
         return reviewRepository.save(review);
     }
 
@@ -0,0 +1,77 @@
+package com.cheonjiyeon.api.admin;
+
+import com.cheonjiyeon.api.audit.AuditLogService;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthService;
+import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.fortune.SajuChartRebuildJob;
+import com.cheonjiyeon.api.fortune.SajuChartRebuildJobEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/admin/saju-charts/rebuild")
+public class AdminSajuChartRebuildController {
+
+    private final SajuChartRebuildJob rebuildJob;
+    private final AuthService authService;
+    private final AuditLogService auditLogService;
+
+    public AdminSajuChartRebuildController(SajuChartRebuildJob rebuildJob,
+                                           AuthService authService,
+                                           AuditLogService auditLogService) {
+        this.rebuildJob = rebuildJob;
+        this.authService = authService;
+        this.auditLogService = auditLogService;
+    }
+
+    /** 재계산 시작. 끝나지 않은 직전 작업은 체크포인트부터 이어 가며, fresh=true면 처음부터 다시 시작한다. */
+    @PostMapping
+    public RebuildJobResponse start(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(defaultValue = "false") boolean fresh) {
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
+        SajuChartRebuildJobEntity job = rebuildJob.start(admin.id(), fresh);
+        auditLogService.log(admin.id(), "ADMIN_SAJU_CHART_REBUILD_START", "SAJU_CHART_REBUILD_JOB", job.getId());
+        return RebuildJobResponse.from(job, true);
+    }
+
+    @PostMapping("/stop")
+    public RebuildJobResponse stop(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
+        SajuChartRebuildJobEntity job = rebuildJob.stop();
+        auditLogService.log(admin.id(), "ADMIN_SAJU_CHART_REBUILD_STOP", "SAJU_CHART_REBUILD_JOB", job.getId());
+        return RebuildJobResponse.from(job, true);
+    }
+
+    @GetMapping
+    public RebuildJobResponse status(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        authService.requireAdmin(authHeader);
+        SajuChartRebuildJobEntity job = rebuildJob.latest()
+                .orElseThrow(() -> new ApiException(404, "사주 명식 재계산 이력이 없습니다."));
+        return RebuildJobResponse.from(job, rebuildJob.isRunning());
+    }
+
+    public record RebuildJobResponse(
+            Long id,
+            String status,
+            boolean active,
+            Long checkpointUserId,
+            Long processed,
+            Long failed,
+            Long totalEstimate,
+            String errorMessage,
+            LocalDateTime startedAt,
+            LocalDateTime updatedAt,
+            LocalDateTime finishedAt
+    ) {
+        static RebuildJobResponse from(SajuChartRebuildJobEntity job, boolean active) {
+            return new RebuildJobResponse(job.getId(), job.getStatus(), active && SajuChartRebuildJob.RUNNING.equals(job.getStatus()),
+                    job.getCheckpointUserId(), job.getProcessed(), job.getFailed(), job.getTotalEstimate(),
+                    job.getErrorMessage(), job.getStartedAt(), job.getUpdatedAt(), job.getFinishedAt());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.cheonjiyeon.api.admin;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
 import com.cheonjiyeon.api.auth.AuthService;
+import com.cheonjiyeon.api.auth.TokenStore;
 import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.auth.refresh.RefreshTokenRepository;
@@ -27,6 +29,7 @@ public class AdminUserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final AuditLogService auditLogService;
     private final AuthService authService;
+    private final TokenStore tokenStore;
 
     public AdminUserService(
             UserRepository userRepository,
@@ -34,7 +37,8 @@ public class AdminUserService {
             WalletRepository walletRepository,
             RefreshTokenRepository refreshTokenRepository,
             AuditLogService auditLogService,
-            AuthService authService
+            AuthService authService,
+            TokenStore tokenStore
     ) {
         this.userRepository = userRepository;
         this.bookingRepository = bookingRepository;
@@ -42,6 +46,7 @@ public class AdminUserService {
         this.refreshTokenRepository = refreshTokenRepository;
         this.auditLogService = auditLogService;
         this.authService = authService;
+        this.tokenStore = tokenStore;
     }
 
     public Page<UserEntity> listUsers(String authHeader, String search, String status, String role, int page, int size) {
@@ -82,7 +87,7 @@ public class AdminUserService {
 
     @Transactional
     public UserEntity suspendUser(String authHeader, Long userId, String reason) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         if (reason == null || reason.isBlank()) {
             throw new ApiException(400, "정지 사유를 입력해주세요.");
@@ -104,14 +109,15 @@ public class AdminUserService {
             t.setRevoked(true);
             refreshTokenRepository.save(t);
         });
+        tokenStore.revokeAccessTokens(userId);
 
-        auditLogService.log(admin.getId(), "ADMIN_USER_SUSPEND", "USER", userId);
+        auditLogService.log(admin.id(), "ADMIN_USER_SUSPEND", "USER", userId);
         return userRepository.save(user);
     }
 
     @Transactional
     public UserEntity unsuspendUser(String authHeader, Long userId) {
-        UserEntity admin = authService.requireAdmin(authHeader);
+        AuthPrincipal admin = authService.requireAdmin(authHeader);
 
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(404, "사용자를 찾을 수 없습니다."));
@@ -124,7 +130,7 @@ public class AdminUserService {
         user.setSuspendedAt(null);
         user.setSuspendedReason(null);
 
-        auditLogService.log(admin.getId(), "ADMIN_USER_UNSUSPEND", "USER", userId);
+        auditLogService.log(admin.id(), "ADMIN_USER_UNSUSPEND", "USER", userId);
         return userRepository.save(user);
     }
 
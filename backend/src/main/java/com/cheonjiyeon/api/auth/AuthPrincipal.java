@@ -0,0 +1,15 @@
+package com.cheonjiyeon.api.auth;
+
+/**
+ * 요청을 보낸 인증 사용자의 불변 스냅샷 (id, 역할, 상태).
+ * 요청 안에서 한 번 만들어 컨트롤러·서비스가 공유한다.
+ */
+public record AuthPrincipal(
+        Long id,
+        String role,
+        String status
+) {
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+}
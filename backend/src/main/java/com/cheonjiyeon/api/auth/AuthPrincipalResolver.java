@@ -0,0 +1,106 @@
+package com.cheonjiyeon.api.auth;
+
+import com.cheonjiyeon.api.common.ApiException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Authorization 헤더 → 인증 사용자 해석.
+ *
+ * AuthPrincipalFilter가 요청마다 RequestPrincipal을 붙여 두면, 같은 헤더에 대한 JWT 검증과
+ * 사용자 조회는 요청당 한 번만 일어나고 이후 호출은 그 결과(실패 포함)를 재사용한다.
+ * 요청 밖(스케줄러, 비동기 스레드)에서 호출되거나 다른 헤더를 넘기면 매번 직접 검증한다.
+ */
+@Component
+public class AuthPrincipalResolver {
+
+    public static final String REQUEST_ATTRIBUTE = AuthPrincipalResolver.class.getName() + ".principal";
+
+    private final TokenStore tokenStore;
+    private final UserRepository userRepository;
+
+    public AuthPrincipalResolver(TokenStore tokenStore, UserRepository userRepository) {
+        this.tokenStore = tokenStore;
+        this.userRepository = userRepository;
+    }
+
+    /** 요청 단위 해석 결과를 담을 객체. 필터가 요청 속성으로 붙인다. */
+    public static RequestPrincipal forRequest(String authHeader) {
+        return new RequestPrincipal(authHeader);
+    }
+
+    /**
+     * 인증 사용자. 헤더가 없거나 형식이 틀리면, 토큰이 유효하지 않으면, 사용자가 없으면 401.
+     */
+    public AuthPrincipal require(String authHeader) {
+        Long userId = requireUserId(authHeader);
+        RequestPrincipal current = current(authHeader);
+        if (current == null) return loadPrincipal(userId);
+        synchronized (current) {
+            if (current.principal == null) current.principal = loadPrincipal(userId);
+            return current.principal;
+        }
+    }
+
+    /** 로그인하지 않았으면 empty. 토큰이 있는데 사용자가 없으면 401 */
+    public Optional<AuthPrincipal> optional(String authHeader) {
+        return userId(authHeader).isPresent() ? Optional.of(require(authHeader)) : Optional.empty();
+    }
+
+    /**
+     * 인증 사용자 엔티티. 엔티티 필드가 필요한 곳에서만 쓴다 (조회 1회).
+     */
+    public UserEntity requireUser(String authHeader, String notFoundMessage) {
+        return userRepository.findById(requireUserId(authHeader))
+                .orElseThrow(() -> new ApiException(401, notFoundMessage));
+    }
+
+    public UserEntity requireUser(String authHeader) {
+        return requireUser(authHeader, "유효하지 않은 토큰입니다.");
+    }
+
+    /** JWT만 검증한 사용자 ID. 사용자 존재 여부는 보지 않는다. */
+    public Long requireUserId(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
+        }
+        return userId(authHeader).orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
+    }
+
+    /** JWT만 검증한 사용자 ID. 헤더가 없거나 토큰이 유효하지 않으면 empty */
+    public Optional<Long> userId(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) return Optional.empty();
+        RequestPrincipal current = current(authHeader);
+        if (current == null) return tokenStore.resolveAccessUserId(authHeader.substring(7));
+        synchronized (current) {
+            if (current.userId == null) current.userId = tokenStore.resolveAccessUserId(authHeader.substring(7));
+            return current.userId;
+        }
+    }
+
+    private AuthPrincipal loadPrincipal(Long userId) {
+        return userRepository.findPrincipalById(userId)
+                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
+    }
+
+    private static RequestPrincipal current(String authHeader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+        Object value = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        // Only reuse what was resolved for this exact header
+        return value instanceof RequestPrincipal p && authHeader.equals(p.authHeader) ? p : null;
+    }
+
+    public static final class RequestPrincipal {
+        private final String authHeader;
+        private Optional<Long> userId;
+        private AuthPrincipal principal;
+
+        private RequestPrincipal(String authHeader) {
+            this.authHeader = authHeader;
+        }
+    }
+}
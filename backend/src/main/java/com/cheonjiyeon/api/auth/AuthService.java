@@ -10,9 +10,10 @@ import com.cheonjiyeon.api.counselor.CounselorRepository;
 import com.cheonjiyeon.api.credit.SignupBonusService;
 import com.cheonjiyeon.api.wallet.WalletService;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -26,6 +27,7 @@ import java.util.UUID;
 public class AuthService {
     private final UserRepository userRepository;
     private final TokenStore tokenStore;
+    private final AuthPrincipalResolver authPrincipals;
     private final RefreshTokenRepository refreshTokenRepository;
     private final AuditLogService auditLogService;
     private final AlertWebhookService alertWebhookService;
@@ -34,10 +36,13 @@ public class AuthService {
     private final EmailVerificationService emailVerificationService;
     private final SignupBonusService signupBonusService;
     private final boolean allowE2eAdminBootstrap;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final PasswordHasher passwordHasher;
+    // Password hashing runs outside any transaction; only the writes that follow hold a connection
+    private final TransactionTemplate tx;
 
     public AuthService(UserRepository userRepository,
                        TokenStore tokenStore,
+                       AuthPrincipalResolver authPrincipals,
                        RefreshTokenRepository refreshTokenRepository,
                        AuditLogService auditLogService,
                        AlertWebhookService alertWebhookService,
@@ -45,9 +50,12 @@ public class AuthService {
                        CounselorRepository counselorRepository,
                        EmailVerificationService emailVerificationService,
                        SignupBonusService signupBonusService,
+                       PasswordHasher passwordHasher,
+                       PlatformTransactionManager transactionManager,
                        @Value("${auth.allow-e2e-admin-bootstrap:false}") boolean allowE2eAdminBootstrap) {
         this.userRepository = userRepository;
         this.tokenStore = tokenStore;
+        this.authPrincipals = authPrincipals;
         this.refreshTokenRepository = refreshTokenRepository;
         this.auditLogService = auditLogService;
         this.alertWebhookService = alertWebhookService;
@@ -55,10 +63,11 @@ public class AuthService {
         this.counselorRepository = counselorRepository;
         this.emailVerificationService = emailVerificationService;
         this.signupBonusService = signupBonusService;
+        this.passwordHasher = passwordHasher;
+        this.tx = new TransactionTemplate(transactionManager);
         this.allowE2eAdminBootstrap = allowE2eAdminBootstrap;
     }
 
-    @Transactional
     public AuthDtos.AuthResponse signup(AuthDtos.SignupRequest req) {
         if (Boolean.TRUE.equals(req.termsAgreed())) {
             // termsAgreed is explicitly true — OK
@@ -68,6 +77,16 @@ public class AuthService {
         }
         // if termsAgreed is null, allow for backward compatibility (existing clients/tests)
 
+        // Reject known emails before spending a hash; checked again inside the transaction
+        userRepository.findByEmail(req.email()).ifPresent(u -> {
+            throw new ApiException(409, "이미 가입된 이메일입니다.");
+        });
+
+        String passwordHash = passwordHasher.hash(req.password());
+        return tx.execute(status -> createUser(req, passwordHash));
+    }
+
+    private AuthDtos.AuthResponse createUser(AuthDtos.SignupRequest req, String passwordHash) {
         userRepository.findByEmail(req.email()).ifPresent(u -> {
             throw new ApiException(409, "이미 가입된 이메일입니다.");
         });
@@ -75,7 +94,7 @@ public class AuthService {
         UserEntity user = new UserEntity();
         user.setEmail(req.email());
         user.setName(req.name());
-        user.setPasswordHash(encoder.encode(req.password()));
+        user.setPasswordHash(passwordHash);
         boolean e2eAdmin = allowE2eAdminBootstrap && req.email() != null && req.email().startsWith("e2e_admin_");
         boolean e2eCounselor = allowE2eAdminBootstrap && req.email() != null && req.email().startsWith("e2e_counselor_");
         user.setRole(e2eAdmin ? "ADMIN" : e2eCounselor ? "COUNSELOR" : "USER");
@@ -125,7 +144,6 @@ public class AuthService {
         return issueTokens(saved, req.deviceId(), req.deviceName());
     }
 
-    @Transactional
     public AuthDtos.AuthResponse login(AuthDtos.LoginRequest req) {
         UserEntity user = userRepository.findByEmail(req.email())
                 .orElseThrow(() -> {
@@ -134,30 +152,36 @@ public class AuthService {
                     return new ApiException(401, "이메일 또는 비밀번호가 올바르지 않습니다.");
                 });
 
-        if (!encoder.matches(req.password(), user.getPasswordHash())) {
+        PasswordHasher.Verification verification = passwordHasher.verify(req.password(), user.getPasswordHash());
+        if (!verification.matched()) {
             alertWebhookService.sendFailureEvent("AUTH_LOGIN_FAIL", "userId=" + user.getId());
             auditLogService.log(user.getId(), "AUTH_LOGIN_FAIL", "USER", user.getId());
             throw new ApiException(401, "이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        auditLogService.log(user.getId(), "AUTH_LOGIN", "USER", user.getId());
-        return issueTokens(user, req.deviceId(), req.deviceName());
+        return tx.execute(status -> {
+            upgradePasswordHash(user, verification);
+            auditLogService.log(user.getId(), "AUTH_LOGIN", "USER", user.getId());
+            return issueTokens(user, req.deviceId(), req.deviceName());
+        });
     }
 
-    @Transactional
     public AuthDtos.AuthResponse loginAdmin(AuthDtos.LoginRequest req) {
         UserEntity user = userRepository.findByEmail(req.email())
                 .orElseThrow(() -> new ApiException(401, "이메일 또는 비밀번호가 올바르지 않습니다."));
 
-        if (!encoder.matches(req.password(), user.getPasswordHash())) {
+        PasswordHasher.Verification verification = passwordHasher.verify(req.password(), user.getPasswordHash());
+        if (!verification.matched()) {
             throw new ApiException(401, "이메일 또는 비밀번호가 올바르지 않습니다.");
         }
         if (!"ADMIN".equals(user.getRole())) {
             throw new ApiException(403, "관리자 계정이 아닙니다.");
         }
-
-        auditLogService.log(user.getId(), "AUTH_ADMIN_LOGIN", "USER", user.getId());
-        return issueTokens(user, req.deviceId(), req.deviceName());
+        return tx.execute(status -> {
+            upgradePasswordHash(user, verification);
+            auditLogService.log(user.getId(), "AUTH_ADMIN_LOGIN", "USER", user.getId());
+            return issueTokens(user, req.deviceId(), req.deviceName());
+        });
     }
 
     @Transactional
@@ -217,8 +241,8 @@ public class AuthService {
 
     @Transactional(readOnly = true)
     public AuthDtos.SessionsResponse sessions(String bearerToken) {
-        UserEntity user = resolveUser(extractToken(bearerToken));
-        List<AuthDtos.SessionItem> items = refreshTokenRepository.findByUserIdOrderByIdDesc(user.getId()).stream()
+        AuthPrincipal user = authPrincipals.require(bearerToken);
+        List<AuthDtos.SessionItem> items = refreshTokenRepository.findByUserIdOrderByIdDesc(user.id()).stream()
                 .filter(t -> !t.isRevoked() && t.getExpiresAt().isAfter(LocalDateTime.now()))
                 .map(t -> new AuthDtos.SessionItem(t.getId(), t.getDeviceId(), t.getDeviceName(), t.getExpiresAt(), t.getCreatedAt()))
                 .toList();
@@ -227,28 +251,27 @@ public class AuthService {
 
     @Transactional
     public AuthDtos.MessageResponse revokeSession(String bearerToken, Long sessionId) {
-        UserEntity user = resolveUser(extractToken(bearerToken));
+        AuthPrincipal user = authPrincipals.require(bearerToken);
         RefreshTokenEntity token = refreshTokenRepository.findById(sessionId)
                 .orElseThrow(() -> new ApiException(404, "세션을 찾을 수 없습니다."));
-        if (!token.getUserId().equals(user.getId()) && !"ADMIN".equals(user.getRole())) {
+        if (!token.getUserId().equals(user.id()) && !user.isAdmin()) {
             throw new ApiException(403, "권한이 없습니다.");
         }
         token.setRevoked(true);
         refreshTokenRepository.save(token);
-        auditLogService.log(user.getId(), "AUTH_SESSION_REVOKED", "REFRESH_TOKEN", token.getId());
+        auditLogService.log(user.id(), "AUTH_SESSION_REVOKED", "REFRESH_TOKEN", token.getId());
         return new AuthDtos.MessageResponse("세션이 해제되었습니다.");
     }
 
     public AuthDtos.UserResponse me(String bearerToken) {
-        UserEntity user = resolveUser(extractToken(bearerToken));
+        UserEntity user = authPrincipals.requireUser(bearerToken);
         return toResponse(user);
     }
 
-    @Transactional
     public AuthDtos.MessageResponse changePassword(String bearerToken, String currentPassword, String newPassword) {
-        UserEntity user = resolveUser(extractToken(bearerToken));
+        UserEntity user = authPrincipals.requireUser(bearerToken);
 
-        if (!encoder.matches(currentPassword, user.getPasswordHash())) {
+        if (!passwordHasher.matches(currentPassword, user.getPasswordHash())) {
             throw new ApiException(400, "현재 비밀번호가 올바르지 않습니다.");
         }
 
@@ -256,32 +279,24 @@ public class AuthService {
             throw new ApiException(400, "새 비밀번호는 8자 이상이어야 합니다.");
         }
 
-        user.setPasswordHash(encoder.encode(newPassword));
-        userRepository.save(user);
-
-        auditLogService.log(user.getId(), "PASSWORD_CHANGED", "USER", user.getId());
-        return new AuthDtos.MessageResponse("비밀번호가 변경되었습니다.");
+        String passwordHash = passwordHasher.hash(newPassword);
+        return tx.execute(status -> {
+            user.setPasswordHash(passwordHash);
+            userRepository.save(user);
+            auditLogService.log(user.getId(), "PASSWORD_CHANGED", "USER", user.getId());
+            return new AuthDtos.MessageResponse("비밀번호가 변경되었습니다.");
+        });
     }
 
-    public UserEntity requireAdmin(String bearerToken) {
-        UserEntity user = resolveUser(extractToken(bearerToken));
-        if (!"ADMIN".equals(user.getRole())) throw new ApiException(403, "관리자 권한이 필요합니다.");
+    public AuthPrincipal requireAdmin(String bearerToken) {
+        AuthPrincipal user = authPrincipals.require(bearerToken);
+        if (!user.isAdmin()) throw new ApiException(403, "관리자 권한이 필요합니다.");
         return user;
     }
 
-    private UserEntity resolveUser(String accessToken) {
-        Long userId = tokenStore.resolveAccessUserId(accessToken)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
-
-    private String extractToken(String bearerToken) {
-        if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        return bearerToken.substring(7);
+    /** 인증 사용자 (ID·역할·상태). 엔티티가 필요 없는 호출부용 */
+    public AuthPrincipal principal(String bearerToken) {
+        return authPrincipals.require(bearerToken);
     }
 
     private AuthDtos.AuthResponse issueTokens(UserEntity user, String deviceIdIn, String deviceNameIn) {
@@ -308,6 +323,13 @@ public class AuthService {
         return new AuthDtos.AuthResponse(access, refresh, toResponse(user));
     }
 
+    /** 로그인 시 비밀번호 해시 설정(알고리즘·강도)이 바뀌었으면 새 해시로 교체한다. */
+    private void upgradePasswordHash(UserEntity user, PasswordHasher.Verification verification) {
+        if (verification.upgradedHash() == null) return;
+        user.setPasswordHash(verification.upgradedHash());
+        userRepository.save(user);
+    }
+
     private String sha256(String value) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
@@ -7,12 +7,9 @@ import org.springframework.web.bind.annotation.*;
 public class EmailVerificationController {
 
     private final EmailVerificationService emailVerificationService;
-    private final TokenStore tokenStore;
 
-    public EmailVerificationController(EmailVerificationService emailVerificationService,
-                                       TokenStore tokenStore) {
+    public EmailVerificationController(EmailVerificationService emailVerificationService) {
         this.emailVerificationService = emailVerificationService;
-        this.tokenStore = tokenStore;
     }
 
     @PostMapping("/verify-email")
@@ -25,7 +22,7 @@ public class EmailVerificationController {
     public AuthDtos.MessageResponse resendVerification(
             @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
-        emailVerificationService.resendVerification(authHeader, tokenStore);
+        emailVerificationService.resendVerification(authHeader);
         return new AuthDtos.MessageResponse("인증 이메일이 재발송되었습니다.");
     }
 }
@@ -24,13 +24,16 @@ public class EmailVerificationService {
     private String frontendBaseUrl;
 
     private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final EmailService emailService;
     private final AuditLogService auditLogService;
 
     public EmailVerificationService(UserRepository userRepository,
+                                    AuthPrincipalResolver authPrincipals,
                                     EmailService emailService,
                                     AuditLogService auditLogService) {
         this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.emailService = emailService;
         this.auditLogService = auditLogService;
     }
@@ -90,13 +93,8 @@ public class EmailVerificationService {
      * 인증 이메일 재발송 (1분 쿨다운).
      */
     @Transactional
-    public void resendVerification(String bearerToken, TokenStore tokenStore) {
-        String accessToken = extractToken(bearerToken);
-        Long userId = tokenStore.resolveAccessUserId(accessToken)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "사용자를 찾을 수 없습니다."));
+    public void resendVerification(String bearerToken) {
+        UserEntity user = authPrincipals.requireUser(bearerToken, "사용자를 찾을 수 없습니다.");
 
         if (user.isEmailVerified()) {
             throw new ApiException(400, "이미 인증된 이메일입니다.");
@@ -110,13 +108,6 @@ public class EmailVerificationService {
         sendVerificationEmail(user);
     }
 
-    private String extractToken(String bearerToken) {
-        if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        return bearerToken.substring(7);
-    }
-
     private String sha256(String value) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
@@ -0,0 +1,159 @@
+package com.cheonjiyeon.api.auth;
+
+import com.cheonjiyeon.api.common.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 계산 전용 스레드 풀.
+ *
+ * bcrypt/argon2는 요청당 수십 ms의 CPU를 쓰므로 고정 크기 풀에서만 돌려, 로그인이 몰려도
+ * 다른 API가 쓸 CPU를 남긴다. 대기열이 차 있거나 max-wait 안에 차례가 오지 않으면 즉시 503으로 거절한다.
+ * 저장된 해시가 현재 알고리즘·강도와 다르면 로그인 성공 시 같은 작업 안에서 새 해시를 만들어 돌려준다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String ARGON2_PREFIX = "$argon2";
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    /**
+     * @param upgradedHash 일치했고 재해시가 필요한 경우의 새 해시, 아니면 null
+     */
+    public record Verification(boolean matched, String upgradedHash) {}
+
+    private final boolean argon2Default;
+    private final BCryptPasswordEncoder bcrypt;
+    private final Argon2PasswordEncoder argon2 = Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Counter completed;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public PasswordHasher(@Value("${auth.password.algorithm:bcrypt}") String algorithm,
+                          @Value("${auth.password.bcrypt-strength:10}") int bcryptStrength,
+                          @Value("${auth.password.threads:0}") int threads,
+                          @Value("${auth.password.queue-capacity:32}") int queueCapacity,
+                          @Value("${auth.password.max-wait:PT3S}") Duration maxWait,
+                          MeterRegistry meterRegistry) {
+        if (!"bcrypt".equals(algorithm) && !"argon2".equals(algorithm)) {
+            throw new IllegalArgumentException("auth.password.algorithm must be bcrypt or argon2: " + algorithm);
+        }
+        this.argon2Default = "argon2".equals(algorithm);
+        this.bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        this.maxWait = maxWait;
+
+        // Leave at least half the cores to the rest of the API by default
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread thread = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.completed = taskCounter(meterRegistry, "completed");
+        this.rejected = taskCounter(meterRegistry, "rejected");
+        this.timedOut = taskCounter(meterRegistry, "timeout");
+        Gauge.builder("auth.password_hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    /** 현재 설정된 알고리즘으로 해시한다. */
+    public String hash(String rawPassword) {
+        return run(() -> encode(rawPassword));
+    }
+
+    /** 비밀번호를 확인하고, 일치하면서 해시가 낡았으면 새 해시도 함께 만든다. */
+    public Verification verify(String rawPassword, String storedHash) {
+        return run(() -> {
+            if (!matchesNow(rawPassword, storedHash)) return new Verification(false, null);
+            return new Verification(true, needsRehash(storedHash) ? encode(rawPassword) : null);
+        });
+    }
+
+    public boolean matches(String rawPassword, String storedHash) {
+        return run(() -> matchesNow(rawPassword, storedHash));
+    }
+
+    /** 저장된 해시가 현재 알고리즘·강도와 다른지. 해시 계산 없이 형식만 본다. */
+    public boolean needsRehash(String storedHash) {
+        boolean isArgon2 = storedHash.startsWith(ARGON2_PREFIX);
+        if (argon2Default) {
+            return !isArgon2 || argon2.upgradeEncoding(storedHash);
+        }
+        return isArgon2 || bcrypt.upgradeEncoding(storedHash);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private String encode(String rawPassword) {
+        return argon2Default ? argon2.encode(rawPassword) : bcrypt.encode(rawPassword);
+    }
+
+    private boolean matchesNow(String rawPassword, String storedHash) {
+        // Social-login accounts store an empty hash and can never match
+        if (rawPassword == null || storedHash == null || storedHash.isEmpty()) return false;
+        return storedHash.startsWith(ARGON2_PREFIX)
+                ? argon2.matches(rawPassword, storedHash)
+                : bcrypt.matches(rawPassword, storedHash);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ApiException(503, BUSY_MESSAGE);
+        }
+        try {
+            T result = future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            completed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            // Not started yet (or still running): drop it so the queue drains for newer requests
+            future.cancel(false);
+            if (future instanceof Runnable queued) executor.remove(queued);
+            timedOut.increment();
+            throw new ApiException(503, BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ApiException(503, BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Counter taskCounter(MeterRegistry registry, String result) {
+        return Counter.builder("auth.password_hash.tasks")
+                .description("Password hashing tasks by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
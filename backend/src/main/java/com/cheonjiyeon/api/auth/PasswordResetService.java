@@ -7,7 +7,6 @@ import com.cheonjiyeon.api.notification.EmailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,18 +29,20 @@ public class PasswordResetService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final EmailService emailService;
     private final AuditLogService auditLogService;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final PasswordHasher passwordHasher;
 
     public PasswordResetService(UserRepository userRepository,
                                 PasswordResetTokenRepository tokenRepository,
                                 RefreshTokenRepository refreshTokenRepository,
                                 EmailService emailService,
-                                AuditLogService auditLogService) {
+                                AuditLogService auditLogService,
+                                PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.emailService = emailService;
         this.auditLogService = auditLogService;
+        this.passwordHasher = passwordHasher;
     }
 
     /**
@@ -106,7 +107,7 @@ public class PasswordResetService {
         UserEntity user = userRepository.findById(tokenEntity.getUserId())
                 .orElseThrow(() -> new ApiException(400, "사용자를 찾을 수 없습니다."));
 
-        user.setPasswordHash(encoder.encode(newPassword));
+        user.setPasswordHash(passwordHasher.hash(newPassword));
         userRepository.save(user);
 
         tokenEntity.setUsed(true);
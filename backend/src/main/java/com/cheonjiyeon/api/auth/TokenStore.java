@@ -1,8 +1,12 @@
 package com.cheonjiyeon.api.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,22 +14,42 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * JWT 발급·검증.
+ *
+ * 검증을 마친 액세스 토큰은 VerifiedTokenCache에 (사용자 ID, 역할, typ, 발급·만료 시각)으로 담아
+ * 같은 토큰의 HMAC 검증과 파싱을 토큰 수명 동안 반복하지 않는다.
+ * revokeAccessTokens로 폐기한 사용자의 토큰은 캐시 적중 여부와 관계없이 거부한다 (노드 로컬).
+ */
 @Component
 public class TokenStore {
     private static final Logger log = LoggerFactory.getLogger(TokenStore.class);
     private static final String DEV_SECRET_PREFIX = "dev-secret";
+    private static final Duration ACCESS_TTL = Duration.ofHours(6);
 
     private final SecretKey key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache cache;
+    // userId -> epoch second; access tokens issued before it are rejected
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
 
-    public TokenStore(@Value("${jwt.secret}") String secret) {
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TokenStore(@Value("${jwt.secret}") String secret,
+                      MeterRegistry meterRegistry,
+                      @Value("${auth.token-cache.max-entries:50000}") int cacheMaxEntries) {
         if (secret.startsWith(DEV_SECRET_PREFIX)) {
             log.warn("JWT_SECRET is using a development default. Set a strong, unique JWT_SECRET for production!");
         }
@@ -33,6 +57,17 @@ public class TokenStore {
             throw new IllegalArgumentException("JWT secret must be at least 32 bytes (256 bits)");
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.cache = new VerifiedTokenCache(cacheMaxEntries);
+
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("auth.token_cache.size", cache, VerifiedTokenCache::size)
+                .description("Verified access tokens held in the cache")
+                .register(meterRegistry);
+        Gauge.builder("auth.token_cache.hit_ratio", this, TokenStore::hitRatio)
+                .description("Share of access token lookups served without signature verification")
+                .register(meterRegistry);
     }
 
     public String issueAccess(Long userId, String role) {
@@ -42,7 +77,7 @@ public class TokenStore {
                 .claim("role", role)
                 .claim("typ", "access")
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plus(6, ChronoUnit.HOURS)))
+                .expiration(Date.from(now.plus(ACCESS_TTL)))
                 .signWith(key)
                 .compact();
     }
@@ -60,9 +95,7 @@ public class TokenStore {
     }
 
     public Optional<Long> resolveAccessUserId(String token) {
-        return parse(token)
-                .filter(c -> "access".equals(c.get("typ", String.class)))
-                .map(c -> Long.parseLong(c.getSubject()));
+        return verifyAccess(token).map(VerifiedTokenCache.Entry::userId);
     }
 
     public Optional<Long> resolveRefreshUserId(String token) {
@@ -77,12 +110,73 @@ public class TokenStore {
                 .map(c -> LocalDateTime.ofInstant(c.getExpiration().toInstant(), ZoneId.systemDefault()));
     }
 
+    /**
+     * 이 사용자에게 지금까지 발급된 액세스 토큰을 거부한다. 정지처럼 즉시 끊어야 할 때 쓴다.
+     * 폐기 기록은 이 노드 메모리에 액세스 토큰 수명(6시간) 동안만 유지한다.
+     */
+    public void revokeAccessTokens(Long userId) {
+        long now = Instant.now().getEpochSecond();
+        revokedBefore.values().removeIf(cutoff -> cutoff <= now - ACCESS_TTL.toSeconds());
+        // iat has second precision, so tokens issued within the current second are revoked too
+        revokedBefore.put(userId, now + 1);
+    }
+
+    private Optional<VerifiedTokenCache.Entry> verifyAccess(String token) {
+        if (token == null || token.isEmpty()) return Optional.empty();
+        VerifiedTokenCache.Entry entry;
+        if (!cache.enabled()) {
+            entry = parseAccess(token);
+        } else {
+            String digest = VerifiedTokenCache.digest(token);
+            entry = cache.get(digest, Instant.now().getEpochSecond());
+            if (entry != null) {
+                hitCounter.increment();
+            } else {
+                missCounter.increment();
+                entry = parseAccess(token);
+                if (entry != null) cache.put(digest, entry);
+            }
+        }
+        if (entry == null || isRevoked(entry)) return Optional.empty();
+        return Optional.of(entry);
+    }
+
+    private boolean isRevoked(VerifiedTokenCache.Entry entry) {
+        Long cutoff = revokedBefore.get(entry.userId());
+        return cutoff != null && entry.issuedAt() < cutoff;
+    }
+
+    private VerifiedTokenCache.Entry parseAccess(String token) {
+        return parse(token)
+                .filter(c -> "access".equals(c.get("typ", String.class)))
+                .map(c -> new VerifiedTokenCache.Entry(
+                        Long.parseLong(c.getSubject()),
+                        c.get("role", String.class),
+                        "access",
+                        c.getIssuedAt() != null ? c.getIssuedAt().toInstant().getEpochSecond() : 0L,
+                        c.getExpiration() != null ? c.getExpiration().toInstant().getEpochSecond() : Long.MAX_VALUE))
+                .orElse(null);
+    }
+
     private Optional<Claims> parse(String token) {
         try {
-            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
             return Optional.of(claims);
         } catch (Exception e) {
             return Optional.empty();
         }
     }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("auth.token_cache.lookups")
+                .description("Access token lookups served from the verified-token cache vs. verified")
+                .tag("result", result)
+                .register(registry);
+    }
 }
@@ -1,10 +1,17 @@
 package com.cheonjiyeon.api.auth;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
     Optional<UserEntity> findByOauthProviderAndOauthId(String oauthProvider, String oauthId);
+    List<UserEntity> findByBirthDateIsNotNullAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select new com.cheonjiyeon.api.auth.AuthPrincipal(u.id, u.role, u.status) from UserEntity u where u.id = :id")
+    Optional<AuthPrincipal> findPrincipalById(Long id);
 }
@@ -0,0 +1,105 @@
+package com.cheonjiyeon.api.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 클레임 캐시.
+ *
+ * 토큰 SHA-256 다이제스트를 키로, 접근 순서 LinkedHashMap을 세그먼트별로 나눠 잠근다(세그먼트 LRU).
+ * 만료 시각이 지난 항목은 조회 시 버린다. 폐기 여부는 TokenStore가 캐시 적중 후에도 따로 확인한다.
+ */
+final class VerifiedTokenCache {
+
+    private static final int SEGMENTS = 16;
+    // Looked up on every authenticated request; reuse one digest per thread
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    });
+
+    record Entry(long userId, String role, String typ, long issuedAt, long expiresAt) {}
+
+    private final Segment[] segments;
+    private final boolean enabled;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.enabled = maxEntries > 0;
+        int perSegment = Math.max(1, maxEntries / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) segments[i] = new Segment(perSegment);
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    /** 캐시된 클레임. 없거나 만료됐으면 null */
+    Entry get(String digest, long nowEpochSecond) {
+        Segment segment = segment(digest);
+        synchronized (segment) {
+            Entry entry = segment.get(digest);
+            if (entry != null && entry.expiresAt() <= nowEpochSecond) {
+                segment.remove(digest);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    void put(String digest, Entry entry) {
+        Segment segment = segment(digest);
+        synchronized (segment) {
+            segment.put(digest, entry);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    static String digest(String token) {
+        // digest() resets the instance, so the next call on this thread starts clean
+        return HexFormat.of().formatHex(SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Segment segment(String digest) {
+        // The digest is uniformly distributed, so its first hex digit picks the segment
+        return segments[Character.digit(digest.charAt(0), 16) % SEGMENTS];
+    }
+
+    private static final class Segment extends LinkedHashMap<String, Entry> {
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.cheonjiyeon.api.booking;
+
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
+import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.counselor.SlotAvailabilityIndex;
+import com.cheonjiyeon.api.credit.CreditRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 예약 생성 진입 단계. 트랜잭션을 열기 전에 슬롯 인덱스 확인, 동일 슬롯 요청 병합, 슬롯 선점을 처리하고,
+ * 통과한 요청만 {@link BookingService#create}의 DB 경로로 넘긴다.
+ */
+@Service
+public class BookingAdmissionService {
+    private final BookingService bookingService;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final SlotClaimGate slotClaimGate;
+    private final AuthPrincipalResolver authPrincipals;
+    private final CreditRepository creditRepository;
+    private final BookingMetrics bookingMetrics;
+    private final SlotContentionGate slotContentionGate;
+
+    public BookingAdmissionService(BookingService bookingService,
+                                   SlotAvailabilityIndex slotAvailabilityIndex,
+                                   SlotClaimGate slotClaimGate,
+                                   AuthPrincipalResolver authPrincipals,
+                                   CreditRepository creditRepository,
+                                   BookingMetrics bookingMetrics,
+                                   SlotContentionGate slotContentionGate) {
+        this.bookingService = bookingService;
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+        this.slotClaimGate = slotClaimGate;
+        this.authPrincipals = authPrincipals;
+        this.creditRepository = creditRepository;
+        this.bookingMetrics = bookingMetrics;
+        this.slotContentionGate = slotContentionGate;
+    }
+
+    public BookingDtos.BookingResponse create(String authHeader, BookingDtos.CreateBookingRequest req) {
+        // End-to-end view of create, including requests rejected before a transaction opens
+        BookingMetrics.Trace trace = bookingMetrics.start("admission");
+        try {
+            return trace.ok(admit(trace, authHeader, req));
+        } catch (RuntimeException e) {
+            throw trace.failed(e);
+        }
+    }
+
+    private BookingDtos.BookingResponse admit(BookingMetrics.Trace trace, String authHeader,
+                                              BookingDtos.CreateBookingRequest req) {
+        List<Long> slotIds = BookingService.resolveSlotIds(req);
+        if (!slotAvailabilityIndex.mightBeAvailable(slotIds)) {
+            throw new ApiException(409, "이미 예약된 슬롯입니다.");
+        }
+        trace.lap("index_check");
+
+        // Only the first in-flight request per slot continues to the database path
+        SlotContentionGate.Lease lease = slotContentionGate.admit(slotIds);
+        trace.lap("contention");
+        boolean booked = false;
+        try {
+            SlotClaimGate.Claim claim = claim(authHeader, slotIds);
+            trace.lap("claim");
+            try {
+                BookingDtos.BookingResponse response = bookingService.create(authHeader, req);
+                booked = true;
+                trace.lap("create");
+                slotClaimGate.confirm(claim);
+                trace.lap("confirm");
+                return response;
+            } catch (RuntimeException e) {
+                trace.lap("create");
+                slotClaimGate.release(claim);
+                throw e;
+            }
+        } finally {
+            lease.complete(booked);
+        }
+    }
+
+    private SlotClaimGate.Claim claim(String authHeader, List<Long> slotIds) {
+        // Invalid input is left to BookingService so the error responses stay identical
+        if (!slotClaimGate.active() || slotIds.isEmpty() || slotIds.size() > 3 || slotIds.contains(null)) {
+            return SlotClaimGate.Claim.none();
+        }
+        Optional<Long> userId = authPrincipals.userId(authHeader);
+        if (userId.isEmpty()) {
+            return SlotClaimGate.Claim.none();
+        }
+
+        List<Long> sortedIds = slotIds.stream().distinct().sorted().toList();
+        boolean useCredits = creditRepository.sumTotalUnitsByUserId(userId.get()) > 0;
+        int creditsNeeded = useCredits ? slotIds.size() : 0;
+        int creditBalance = useCredits ? creditRepository.sumRemainingUnitsByUserId(userId.get()) : 0;
+        return slotClaimGate.claim(userId.get(), sortedIds, creditsNeeded, creditBalance);
+    }
+}
@@ -9,9 +9,15 @@ import java.util.List;
 @RequestMapping("/api/v1/bookings")
 public class BookingController {
     private final BookingService bookingService;
+    private final BookingAdmissionService bookingAdmissionService;
+    private final SlotHoldService slotHoldService;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService,
+                             BookingAdmissionService bookingAdmissionService,
+                             SlotHoldService slotHoldService) {
         this.bookingService = bookingService;
+        this.bookingAdmissionService = bookingAdmissionService;
+        this.slotHoldService = slotHoldService;
     }
 
     @PostMapping
@@ -19,16 +25,42 @@ public class BookingController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @Valid @RequestBody BookingDtos.CreateBookingRequest req
     ) {
-        return bookingService.create(authHeader, req);
+        return bookingAdmissionService.create(authHeader, req);
     }
 
-    @GetMapping("/me")
+    @PostMapping("/holds")
+    public BookingDtos.HoldResponse hold(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Valid @RequestBody BookingDtos.HoldRequest req
+    ) {
+        return slotHoldService.hold(authHeader, req);
+    }
+
+    @PostMapping("/holds/release")
+    public void releaseHold(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Valid @RequestBody BookingDtos.HoldRequest req
+    ) {
+        slotHoldService.release(authHeader, req);
+    }
+
+    // Without cursor/limit the full list is kept for existing clients
+    @GetMapping(value = "/me", params = {"!cursor", "!limit"})
     public List<BookingDtos.BookingResponse> mine(
             @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
         return bookingService.mine(authHeader);
     }
 
+    @GetMapping("/me")
+    public BookingDtos.BookingPageResponse minePage(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return bookingService.minePage(authHeader, cursor, limit);
+    }
+
     @PostMapping("/{id}/cancel")
     public BookingDtos.BookingResponse cancel(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
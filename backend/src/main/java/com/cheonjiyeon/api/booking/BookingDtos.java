@@ -17,6 +17,16 @@ public class BookingDtos {
             @NotNull List<Long> newSlotIds
     ) {}
 
+    public record HoldRequest(
+            @NotNull Long counselorId,
+            @NotNull List<Long> slotIds
+    ) {}
+
+    public record HoldResponse(
+            List<Long> slotIds,
+            LocalDateTime expiresAt
+    ) {}
+
     public record CancelRequest(
             String reason
     ) {}
@@ -51,4 +61,9 @@ public class BookingDtos {
             Integer refundedCredits,
             String customerName
     ) {}
+
+    public record BookingPageResponse(
+            List<BookingResponse> items,
+            Long nextCursor
+    ) {}
 }
@@ -4,6 +4,7 @@ import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.counselor.CounselorEntity;
 import com.cheonjiyeon.api.counselor.SlotEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +12,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "bookings")
+// Only changed columns are written so a flush never rewrites a status set by BookingLifecycle
+@DynamicUpdate
 public class BookingEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,15 @@
+package com.cheonjiyeon.api.booking;
+
+/**
+ * 예약 상태를 바꾸는 사건. 허용 여부와 다음 상태는 BookingLifecycle 전이표가 정한다.
+ */
+public enum BookingEvent {
+    CREATE,
+    PAYMENT_CONFIRMED,
+    PAYMENT_FAILED,
+    PAYMENT_CANCELED,
+    PAYMENT_RETRY,
+    RESCHEDULE,
+    CANCEL,
+    COMPLETE
+}
@@ -0,0 +1,46 @@
+package com.cheonjiyeon.api.booking;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "booking_event_logs")
+public class BookingEventLogEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long bookingId;
+
+    @Column(nullable = false, length = 30)
+    private String event;
+
+    @Column(length = 30)
+    private String fromStatus;
+
+    @Column(nullable = false, length = 30)
+    private String toStatus;
+
+    private Long actorId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() { if (createdAt == null) createdAt = LocalDateTime.now(); }
+
+    public Long getId() { return id; }
+    public Long getBookingId() { return bookingId; }
+    public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+    public String getEvent() { return event; }
+    public void setEvent(String event) { this.event = event; }
+    public String getFromStatus() { return fromStatus; }
+    public void setFromStatus(String fromStatus) { this.fromStatus = fromStatus; }
+    public String getToStatus() { return toStatus; }
+    public void setToStatus(String toStatus) { this.toStatus = toStatus; }
+    public Long getActorId() { return actorId; }
+    public void setActorId(Long actorId) { this.actorId = actorId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
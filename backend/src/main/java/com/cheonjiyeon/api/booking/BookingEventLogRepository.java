@@ -0,0 +1,9 @@
+package com.cheonjiyeon.api.booking;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface BookingEventLogRepository extends JpaRepository<BookingEventLogEntity, Long> {
+    List<BookingEventLogEntity> findByBookingIdOrderByIdAsc(Long bookingId);
+}
@@ -0,0 +1,151 @@
+package com.cheonjiyeon.api.booking;
+
+import com.cheonjiyeon.api.common.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 상태 전이 엔진.
+ *
+ * (상태, 사건) → 다음 상태를 enum 순서로 색인한 전이표로 판단하고,
+ * {@code UPDATE ... WHERE status = ?} 조건부 갱신으로 적용한다(SELECT FOR UPDATE 없음).
+ * 결제 웹훅과 취소가 동시에 들어오면 먼저 갱신한 쪽만 반영되고, 나머지는 409를 받거나(사용자 요청)
+ * {@link #tryTransition}으로 무시된다(결제사 콜백).
+ * 적용된 전이는 booking_event_logs에 한 줄씩 남긴다.
+ */
+@Service
+public class BookingLifecycle {
+
+    private static final BookingStatus[][] TRANSITIONS =
+            new BookingStatus[BookingStatus.values().length][BookingEvent.values().length];
+
+    static {
+        allow(BookingStatus.BOOKED, BookingEvent.PAYMENT_CONFIRMED, BookingStatus.PAID);
+        allow(BookingStatus.BOOKED, BookingEvent.PAYMENT_FAILED, BookingStatus.PAYMENT_FAILED);
+        allow(BookingStatus.BOOKED, BookingEvent.PAYMENT_CANCELED, BookingStatus.PAYMENT_CANCELED);
+        allow(BookingStatus.BOOKED, BookingEvent.RESCHEDULE, BookingStatus.BOOKED);
+        allow(BookingStatus.BOOKED, BookingEvent.CANCEL, BookingStatus.CANCELED);
+        allow(BookingStatus.BOOKED, BookingEvent.COMPLETE, BookingStatus.COMPLETED);
+
+        allow(BookingStatus.PAID, BookingEvent.PAYMENT_CANCELED, BookingStatus.PAYMENT_CANCELED);
+        allow(BookingStatus.PAID, BookingEvent.CANCEL, BookingStatus.CANCELED);
+        allow(BookingStatus.PAID, BookingEvent.COMPLETE, BookingStatus.COMPLETED);
+
+        // A failed payment can still be confirmed or failed again by a late provider callback
+        allow(BookingStatus.PAYMENT_FAILED, BookingEvent.PAYMENT_CONFIRMED, BookingStatus.PAID);
+        allow(BookingStatus.PAYMENT_FAILED, BookingEvent.PAYMENT_FAILED, BookingStatus.PAYMENT_FAILED);
+        allow(BookingStatus.PAYMENT_FAILED, BookingEvent.PAYMENT_CANCELED, BookingStatus.PAYMENT_CANCELED);
+        allow(BookingStatus.PAYMENT_FAILED, BookingEvent.PAYMENT_RETRY, BookingStatus.BOOKED);
+        allow(BookingStatus.PAYMENT_FAILED, BookingEvent.CANCEL, BookingStatus.CANCELED);
+
+        allow(BookingStatus.PAYMENT_CANCELED, BookingEvent.CANCEL, BookingStatus.CANCELED);
+    }
+
+    private final BookingRepository bookingRepository;
+    private final BookingEventLogRepository eventLogRepository;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public BookingLifecycle(BookingRepository bookingRepository,
+                            BookingEventLogRepository eventLogRepository,
+                            MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.eventLogRepository = eventLogRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static void allow(BookingStatus from, BookingEvent event, BookingStatus to) {
+        TRANSITIONS[from.ordinal()][event.ordinal()] = to;
+    }
+
+    /** 허용되지 않는 전이면 null. */
+    public static BookingStatus next(BookingStatus from, BookingEvent event) {
+        return TRANSITIONS[from.ordinal()][event.ordinal()];
+    }
+
+    /** 새로 저장된 예약의 생성 이력을 남긴다. */
+    @Transactional
+    public void created(BookingEntity booking, Long actorId) {
+        append(booking.getId(), BookingEvent.CREATE, null, BookingStatus.of(booking.getStatus()), actorId);
+        count(BookingEvent.CREATE, "applied");
+    }
+
+    /**
+     * 이미 읽어 둔 예약에 전이를 적용한다. 읽은 뒤 다른 요청이 상태를 바꿨으면
+     * 그 상태를 전제로 한 호출자의 판단도 무효이므로 재시도하지 않고 409로 끝낸다.
+     */
+    @Transactional
+    public BookingStatus transition(BookingEntity booking, BookingEvent event, Long actorId) {
+        BookingStatus from = BookingStatus.of(booking.getStatus());
+        BookingStatus to = nextOrReject(from, event);
+        if (bookingRepository.updateStatusIf(booking.getId(), from.name(), to.name()) != 1) {
+            count(event, "conflict");
+            throw new ApiException(409, "예약 상태가 이미 변경되었습니다. (현재: " + currentStatus(booking.getId()) + ")");
+        }
+        // Keep the managed entity in step with the row so a later flush writes the same value
+        booking.setStatus(to.name());
+        append(booking.getId(), event, from, to, actorId);
+        count(event, "applied");
+        return to;
+    }
+
+    /**
+     * 결제사 콜백처럼 예약 상태를 전제할 수 없는 호출용. 허용되지 않거나 이미 바뀐 상태면
+     * 예외 대신 빈 값을 돌려주므로, 호출자 트랜잭션(결제 상태 기록 등)이 롤백되지 않는다.
+     */
+    @Transactional
+    public Optional<BookingStatus> tryTransition(BookingEntity booking, BookingEvent event, Long actorId) {
+        BookingStatus from = BookingStatus.of(booking.getStatus());
+        BookingStatus to = next(from, event);
+        if (to == null) {
+            count(event, "ignored");
+            return Optional.empty();
+        }
+        if (bookingRepository.updateStatusIf(booking.getId(), from.name(), to.name()) != 1) {
+            count(event, "conflict");
+            return Optional.empty();
+        }
+        booking.setStatus(to.name());
+        append(booking.getId(), event, from, to, actorId);
+        count(event, "applied");
+        return Optional.of(to);
+    }
+
+    private BookingStatus currentStatus(Long bookingId) {
+        return bookingRepository.findStatusById(bookingId)
+                .map(BookingStatus::of)
+                .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
+    }
+
+    private BookingStatus nextOrReject(BookingStatus from, BookingEvent event) {
+        BookingStatus to = next(from, event);
+        if (to == null) {
+            count(event, "rejected");
+            throw new ApiException(409, "현재 예약 상태(" + from + ")에서는 처리할 수 없는 요청입니다.");
+        }
+        return to;
+    }
+
+    private void append(Long bookingId, BookingEvent event, BookingStatus from, BookingStatus to, Long actorId) {
+        BookingEventLogEntity log = new BookingEventLogEntity();
+        log.setBookingId(bookingId);
+        log.setEvent(event.name());
+        log.setFromStatus(from == null ? null : from.name());
+        log.setToStatus(to.name());
+        log.setActorId(actorId);
+        eventLogRepository.save(log);
+    }
+
+    private void count(BookingEvent event, String result) {
+        counters.computeIfAbsent(event.name() + '|' + result, k -> Counter.builder("booking.transition")
+                .description("Booking lifecycle transitions by event and result")
+                .tag("event", event.name())
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+    }
+}
@@ -0,0 +1,21 @@
+package com.cheonjiyeon.api.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 예약 목록용 예약 행 프로젝션. 상담사·고객 이름과 레거시 단일 슬롯 시간을 한 번에 읽는다.
+ */
+public record BookingListRow(
+        Long id,
+        Long counselorId,
+        String counselorName,
+        String status,
+        int creditsUsed,
+        String cancelReason,
+        int paymentRetryCount,
+        String consultationType,
+        String customerName,
+        Long legacySlotId,
+        LocalDateTime legacyStartAt,
+        LocalDateTime legacyEndAt
+) {}
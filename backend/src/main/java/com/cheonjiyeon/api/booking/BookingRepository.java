@@ -1,6 +1,9 @@
 package com.cheonjiyeon.api.booking;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +16,17 @@ public interface BookingRepository extends JpaRepository<BookingEntity, Long> {
     List<BookingEntity> findByCounselorIdOrderByIdDesc(Long counselorId);
     long countByCounselorId(Long counselorId);
     List<BookingEntity> findByUserIdAndCounselorIdAndStatusIn(Long userId, Long counselorId, List<String> statuses);
+
+    @Query("select new com.cheonjiyeon.api.booking.BookingListRow(b.id, c.id, c.name, b.status, b.creditsUsed, " +
+            "b.cancelReason, b.paymentRetryCount, b.consultationType, u.name, ls.id, ls.startAt, ls.endAt) " +
+            "from BookingEntity b join b.counselor c join b.user u left join b.slot ls " +
+            "where u.id = :userId and b.id < :beforeId order by b.id desc")
+    List<BookingListRow> findListRowsByUserIdBefore(Long userId, Long beforeId, Limit limit);
+
+    @Query("select b.status from BookingEntity b where b.id = :id")
+    Optional<String> findStatusById(Long id);
+
+    @Modifying
+    @Query("update BookingEntity b set b.status = :to where b.id = :id and b.status = :from")
+    int updateStatusIf(Long id, String from, String to);
 }
@@ -1,17 +1,20 @@
 package com.cheonjiyeon.api.booking;
 
 import com.cheonjiyeon.api.audit.AuditLogService;
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.counselor.CounselorAvailabilityCalendar;
 import com.cheonjiyeon.api.counselor.CounselorEntity;
 import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotAvailabilityIndex;
 import com.cheonjiyeon.api.counselor.SlotEntity;
 import com.cheonjiyeon.api.counselor.SlotRepository;
 import com.cheonjiyeon.api.credit.CreditRepository;
 import com.cheonjiyeon.api.credit.CreditService;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,45 +22,74 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class BookingService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookingRepository bookingRepository;
     private final BookingSlotRepository bookingSlotRepository;
     private final UserRepository userRepository;
     private final CounselorRepository counselorRepository;
     private final SlotRepository slotRepository;
-    private final TokenStore tokenStore;
+    private final AuthPrincipalResolver authPrincipals;
     private final AuditLogService auditLogService;
     private final CreditService creditService;
     private final CreditRepository creditRepository;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final CounselorAvailabilityCalendar availabilityCalendar;
+    private final BookingMetrics bookingMetrics;
+    private final BookingLifecycle bookingLifecycle;
 
     public BookingService(BookingRepository bookingRepository,
                           BookingSlotRepository bookingSlotRepository,
                           UserRepository userRepository,
                           CounselorRepository counselorRepository,
                           SlotRepository slotRepository,
-                          TokenStore tokenStore,
+                          AuthPrincipalResolver authPrincipals,
                           AuditLogService auditLogService,
                           CreditService creditService,
-                          CreditRepository creditRepository) {
+                          CreditRepository creditRepository,
+                          SlotAvailabilityIndex slotAvailabilityIndex,
+                          CounselorAvailabilityCalendar availabilityCalendar,
+                          BookingMetrics bookingMetrics,
+                          BookingLifecycle bookingLifecycle) {
         this.bookingRepository = bookingRepository;
         this.bookingSlotRepository = bookingSlotRepository;
         this.userRepository = userRepository;
         this.counselorRepository = counselorRepository;
         this.slotRepository = slotRepository;
-        this.tokenStore = tokenStore;
+        this.authPrincipals = authPrincipals;
         this.auditLogService = auditLogService;
         this.creditService = creditService;
         this.creditRepository = creditRepository;
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+        this.availabilityCalendar = availabilityCalendar;
+        this.bookingMetrics = bookingMetrics;
+        this.bookingLifecycle = bookingLifecycle;
     }
 
     @Transactional
     public BookingDtos.BookingResponse create(String authHeader, BookingDtos.CreateBookingRequest req) {
-        UserEntity user = resolveUser(authHeader);
+        BookingMetrics.Trace trace = bookingMetrics.start("create");
+        try {
+            return trace.ok(create(trace, authHeader, req));
+        } catch (RuntimeException e) {
+            throw trace.failed(e);
+        }
+    }
+
+    private BookingDtos.BookingResponse create(BookingMetrics.Trace trace, String authHeader,
+                                               BookingDtos.CreateBookingRequest req) {
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        trace.lap("resolve_user");
         CounselorEntity counselor = counselorRepository.findById(req.counselorId())
                 .orElseThrow(() -> new ApiException(404, "상담사를 찾을 수 없습니다."));
+        trace.lap("load_counselor");
 
         List<Long> resolvedSlotIds = resolveSlotIds(req);
 
@@ -70,26 +102,26 @@ public class BookingService {
 
         // Lock all slots with pessimistic write lock (ordered by ID to prevent deadlock)
         List<Long> sortedIds = resolvedSlotIds.stream().sorted().toList();
-        List<SlotEntity> slots = slotRepository.findByIdsForUpdate(sortedIds);
+        List<SlotEntity> slots = bookingMetrics.timeLockWait("create", () -> slotRepository.findByIdsForUpdate(sortedIds));
+        trace.lap("lock_slots");
 
         if (slots.size() != resolvedSlotIds.size()) {
             throw new ApiException(404, "슬롯을 찾을 수 없습니다.");
         }
 
         // Validate all slots belong to the same counselor
+        LocalDateTime now = LocalDateTime.now();
         for (SlotEntity slot : slots) {
             if (!slot.getCounselor().getId().equals(counselor.getId())) {
                 throw new ApiException(400, "상담사와 슬롯 정보가 일치하지 않습니다.");
             }
             if (!slot.isAvailable()) {
+                slotAvailabilityIndex.recordFalsePositive();
                 throw new ApiException(409, "이미 예약된 슬롯입니다.");
             }
-        }
-
-        // Mark all slots as unavailable
-        for (SlotEntity slot : slots) {
-            slot.setAvailable(false);
-            slotRepository.save(slot);
+            if (slot.isHeldByOther(user.id(), now)) {
+                throw new ApiException(409, "다른 사용자가 선택 중인 슬롯입니다.");
+            }
         }
 
         // Sort slots by startAt for response
@@ -97,8 +129,11 @@ public class BookingService {
                 .sorted(Comparator.comparing(SlotEntity::getStartAt))
                 .toList();
 
+        trace.lap("validate_slots");
+
         int creditsNeeded = resolvedSlotIds.size();
-        boolean useCredits = creditRepository.sumTotalUnitsByUserId(user.getId()) > 0;
+        boolean useCredits = creditRepository.sumTotalUnitsByUserId(user.id()) > 0;
+        trace.lap("credit_balance");
 
         // Validate consultation type
         String consultationType = req.consultationType() != null ? req.consultationType() : "VIDEO";
@@ -113,31 +148,36 @@ public class BookingService {
         }
 
         BookingEntity booking = new BookingEntity();
-        booking.setUser(user);
+        booking.setUser(userRepository.getReferenceById(user.id()));
         booking.setCounselor(counselor);
         // Set legacy slot field to first slot for backward compatibility
         booking.setSlot(sortedByTime.get(0));
-        booking.setStatus("BOOKED");
+        booking.setStatus(BookingStatus.BOOKED.name());
         booking.setCreditsUsed(useCredits ? creditsNeeded : 0);
         booking.setConsultationType(consultationType);
 
         try {
+            // Mark all slots as unavailable in one statement (this also consumes the user's own hold)
+            markSlots(slots, false);
+            trace.lap("mark_slots");
+
             BookingEntity saved = bookingRepository.save(booking);
+            trace.lap("save_booking");
 
             // Reserve credits if user has credit balance
             if (useCredits) {
-                creditService.reserveCredits(user.getId(), saved.getId(), creditsNeeded);
+                creditService.reserveCredits(user.id(), saved.getId(), creditsNeeded);
+                trace.lap("reserve_credits");
             }
 
-            // Create booking_slots join entries
-            for (SlotEntity slot : sortedByTime) {
-                BookingSlotEntity bs = new BookingSlotEntity(saved, slot);
-                bookingSlotRepository.save(bs);
-                saved.getBookingSlots().add(bs);
-            }
+            // Create booking_slots join entries with a single multi-row insert
+            bookingSlotRepository.insertAll(saved.getId(), sortedIds);
+            trace.lap("insert_booking_slots");
 
-            auditLogService.log(user.getId(), "BOOKING_CREATED", "BOOKING", saved.getId());
-            return toResponse(saved);
+            bookingLifecycle.created(saved, user.id());
+            auditLogService.log(user.id(), "BOOKING_CREATED", "BOOKING", saved.getId());
+            trace.lap("audit");
+            return toResponse(saved, sortedByTime, null, null);
         } catch (DataIntegrityViolationException ex) {
             throw new ApiException(409, "이미 예약된 슬롯입니다.");
         }
@@ -145,23 +185,95 @@ public class BookingService {
 
     @Transactional(readOnly = true)
     public List<BookingDtos.BookingResponse> mine(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        return bookingRepository.findByUserIdOrderByIdDesc(user.getId()).stream()
-                .map(this::toResponse)
-                .toList();
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        return listBookings(user.id(), Long.MAX_VALUE, Limit.unlimited());
+    }
+
+    /**
+     * 내 예약을 id 내림차순 keyset 페이지로 반환한다. cursor는 직전 페이지의 nextCursor.
+     */
+    @Transactional(readOnly = true)
+    public BookingDtos.BookingPageResponse minePage(String authHeader, Long cursor, Integer limit) {
+        int size = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ApiException(400, "limit은 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        // One extra row tells whether another page exists without a count query
+        List<BookingDtos.BookingResponse> items = listBookings(
+                user.id(), cursor != null ? cursor : Long.MAX_VALUE, Limit.of(size + 1));
+        if (items.size() <= size) {
+            return new BookingDtos.BookingPageResponse(items, null);
+        }
+        List<BookingDtos.BookingResponse> page = items.subList(0, size);
+        return new BookingDtos.BookingPageResponse(List.copyOf(page), page.get(size - 1).id());
+    }
+
+    // Two statements regardless of page size: booking rows with names, then slot times for those bookings
+    private List<BookingDtos.BookingResponse> listBookings(Long userId, Long beforeId, Limit limit) {
+        List<BookingListRow> rows = bookingRepository.findListRowsByUserIdBefore(userId, beforeId, limit);
+        if (rows.isEmpty()) return List.of();
+
+        Map<Long, List<BookingDtos.SlotInfo>> slotsByBooking = new HashMap<>();
+        for (BookingSlotRow slot : bookingSlotRepository.findSlotRowsByBookingIds(
+                rows.stream().map(BookingListRow::id).toList())) {
+            slotsByBooking.computeIfAbsent(slot.bookingId(), id -> new ArrayList<>())
+                    .add(new BookingDtos.SlotInfo(slot.slotId(), slot.startAt(), slot.endAt()));
+        }
+
+        List<BookingDtos.BookingResponse> result = new ArrayList<>(rows.size());
+        for (BookingListRow row : rows) {
+            List<BookingDtos.SlotInfo> slotInfos = slotsByBooking.get(row.id());
+            if (slotInfos == null) {
+                // Fallback for legacy bookings
+                slotInfos = row.legacySlotId() != null
+                        ? List.of(new BookingDtos.SlotInfo(row.legacySlotId(), row.legacyStartAt(), row.legacyEndAt()))
+                        : List.of();
+            }
+            result.add(new BookingDtos.BookingResponse(
+                    row.id(),
+                    row.counselorId(),
+                    row.counselorName(),
+                    slotInfos.isEmpty() ? null : slotInfos.get(0).slotId(),
+                    slotInfos.isEmpty() ? null : slotInfos.get(0).startAt(),
+                    slotInfos.isEmpty() ? null : slotInfos.get(slotInfos.size() - 1).endAt(),
+                    row.status(),
+                    slotInfos,
+                    row.creditsUsed(),
+                    row.cancelReason(),
+                    row.paymentRetryCount(),
+                    row.consultationType(),
+                    null,
+                    null,
+                    row.customerName()
+            ));
+        }
+        return result;
     }
 
     @Transactional
     public BookingDtos.BookingResponse cancel(String authHeader, Long bookingId, String reason) {
-        UserEntity user = resolveUser(authHeader);
-        BookingEntity booking = bookingRepository.findByIdAndUserId(bookingId, user.getId())
+        BookingMetrics.Trace trace = bookingMetrics.start("cancel");
+        try {
+            return trace.ok(cancel(trace, authHeader, bookingId, reason));
+        } catch (RuntimeException e) {
+            throw trace.failed(e);
+        }
+    }
+
+    private BookingDtos.BookingResponse cancel(BookingMetrics.Trace trace, String authHeader,
+                                               Long bookingId, String reason) {
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        trace.lap("resolve_user");
+        BookingEntity booking = bookingRepository.findByIdAndUserId(bookingId, user.id())
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
+        trace.lap("load_booking");
 
-        if ("CANCELED".equals(booking.getStatus())) {
+        if (BookingStatus.CANCELED.is(booking.getStatus())) {
             throw new ApiException(409, "이미 취소된 예약입니다.");
         }
 
-        if ("PAID".equals(booking.getStatus())) {
+        if (BookingStatus.PAID.is(booking.getStatus())) {
             throw new ApiException(400, "결제 완료된 예약은 환불 요청을 이용해주세요.");
         }
 
@@ -191,7 +303,10 @@ public class BookingService {
             refundedCredits = originalCredits;
         }
 
-        booking.setStatus("CANCELED");
+        trace.lap("cancel_policy");
+
+        bookingLifecycle.transition(booking, BookingEvent.CANCEL, user.id());
+        trace.lap("transition");
 
         if (reason != null && !reason.isBlank()) {
             booking.setCancelReason(reason);
@@ -206,28 +321,22 @@ public class BookingService {
                 // Re-reserve the penalty portion (credits NOT refunded)
                 int penaltyCredits = originalCredits - refundedCredits;
                 if (penaltyCredits > 0) {
-                    creditService.reserveCredits(user.getId(), booking.getId(), penaltyCredits);
+                    creditService.reserveCredits(user.id(), booking.getId(), penaltyCredits);
                 }
             }
 
             booking.setCreditsUsed(originalCredits - refundedCredits);
+            trace.lap("refund_credits");
         }
 
-        // Release all associated slots
-        List<BookingSlotEntity> bookingSlots = booking.getBookingSlots();
-        if (bookingSlots != null && !bookingSlots.isEmpty()) {
-            for (BookingSlotEntity bs : bookingSlots) {
-                bs.getSlot().setAvailable(true);
-                slotRepository.save(bs.getSlot());
-            }
-        } else if (booking.getSlot() != null) {
-            // Fallback for legacy bookings without booking_slots entries
-            booking.getSlot().setAvailable(true);
-            slotRepository.save(booking.getSlot());
-        }
+        // Release all associated slots (falls back to the legacy slot field without booking_slots entries)
+        markSlots(bookedSlots(booking), true);
+        trace.lap("release_slots");
 
         BookingEntity saved = bookingRepository.save(booking);
-        auditLogService.log(user.getId(), "BOOKING_CANCELED", "BOOKING", saved.getId());
+        trace.lap("save_booking");
+        auditLogService.log(user.id(), "BOOKING_CANCELED", "BOOKING", saved.getId());
+        trace.lap("audit");
         return toResponse(saved, cancelType, refundedCredits);
     }
 
@@ -246,11 +355,11 @@ public class BookingService {
 
     @Transactional
     public BookingDtos.RetryPaymentResponse retryPayment(String authHeader, Long bookingId) {
-        UserEntity user = resolveUser(authHeader);
-        BookingEntity booking = bookingRepository.findByIdAndUserId(bookingId, user.getId())
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        BookingEntity booking = bookingRepository.findByIdAndUserId(bookingId, user.id())
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
 
-        if (!"PAYMENT_FAILED".equals(booking.getStatus())) {
+        if (!BookingStatus.PAYMENT_FAILED.is(booking.getStatus())) {
             throw new ApiException(400, "결제 실패 상태의 예약만 재시도할 수 있습니다.");
         }
 
@@ -258,11 +367,11 @@ public class BookingService {
             throw new ApiException(400, "결제 재시도 횟수를 초과했습니다. 고객센터에 문의해주세요.");
         }
 
+        bookingLifecycle.transition(booking, BookingEvent.PAYMENT_RETRY, user.id());
         booking.setPaymentRetryCount(booking.getPaymentRetryCount() + 1);
-        booking.setStatus("BOOKED");
         BookingEntity saved = bookingRepository.save(booking);
 
-        auditLogService.log(user.getId(), "BOOKING_PAYMENT_RETRY", "BOOKING", saved.getId());
+        auditLogService.log(user.id(), "BOOKING_PAYMENT_RETRY", "BOOKING", saved.getId());
 
         return new BookingDtos.RetryPaymentResponse(
                 saved.getId(),
@@ -274,11 +383,23 @@ public class BookingService {
 
     @Transactional
     public BookingDtos.BookingResponse reschedule(String authHeader, Long bookingId, BookingDtos.RescheduleRequest req) {
-        UserEntity user = resolveUser(authHeader);
-        BookingEntity booking = bookingRepository.findByIdAndUserId(bookingId, user.getId())
+        BookingMetrics.Trace trace = bookingMetrics.start("reschedule");
+        try {
+            return trace.ok(reschedule(trace, authHeader, bookingId, req));
+        } catch (RuntimeException e) {
+            throw trace.failed(e);
+        }
+    }
+
+    private BookingDtos.BookingResponse reschedule(BookingMetrics.Trace trace, String authHeader,
+                                                   Long bookingId, BookingDtos.RescheduleRequest req) {
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        trace.lap("resolve_user");
+        BookingEntity booking = bookingRepository.findByIdAndUserId(bookingId, user.id())
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
+        trace.lap("load_booking");
 
-        if (!"BOOKED".equals(booking.getStatus())) {
+        if (!BookingStatus.BOOKED.is(booking.getStatus())) {
             throw new ApiException(400, "예약 상태가 BOOKED일 때만 변경할 수 있습니다.");
         }
 
@@ -306,41 +427,58 @@ public class BookingService {
             throw new ApiException(400, "최대 3개의 슬롯까지 예약할 수 있습니다.");
         }
 
+        // BOOKED -> BOOKED guard: a concurrent cancel or payment change makes this fail before slots move
+        bookingLifecycle.transition(booking, BookingEvent.RESCHEDULE, user.id());
+        trace.lap("transition");
+
+        // Skip the row locks when a slot not held by this booking is already known to be taken
+        List<SlotEntity> heldSlots = bookedSlots(booking);
+        List<Long> heldSlotIds = heldSlots.stream().map(SlotEntity::getId).toList();
+        List<Long> otherSlotIds = newSlotIds.stream().filter(id -> !heldSlotIds.contains(id)).toList();
+        if (!slotAvailabilityIndex.mightBeAvailable(otherSlotIds)) {
+            throw new ApiException(409, "이미 예약된 슬롯입니다.");
+        }
+        trace.lap("precheck");
+
         // Release old slots
+        markSlots(heldSlots, true);
         if (currentBookingSlots != null && !currentBookingSlots.isEmpty()) {
-            for (BookingSlotEntity bs : currentBookingSlots) {
-                bs.getSlot().setAvailable(true);
-                slotRepository.save(bs.getSlot());
-            }
             currentBookingSlots.clear();
-        } else if (booking.getSlot() != null) {
-            booking.getSlot().setAvailable(true);
-            slotRepository.save(booking.getSlot());
+            // Delete the orphaned booking_slots rows before re-inserting (slot_id is unique)
+            bookingSlotRepository.flush();
         }
+        trace.lap("release_slots");
 
         // Lock and acquire new slots
         List<Long> sortedIds = newSlotIds.stream().sorted().toList();
-        List<SlotEntity> newSlots = slotRepository.findByIdsForUpdate(sortedIds);
+        List<SlotEntity> newSlots = bookingMetrics.timeLockWait("reschedule", () -> slotRepository.findByIdsForUpdate(sortedIds));
+        trace.lap("lock_slots");
 
         if (newSlots.size() != newSlotIds.size()) {
             throw new ApiException(404, "슬롯을 찾을 수 없습니다.");
         }
 
         CounselorEntity counselor = booking.getCounselor();
+        LocalDateTime now = LocalDateTime.now();
         for (SlotEntity slot : newSlots) {
             if (!slot.getCounselor().getId().equals(counselor.getId())) {
                 throw new ApiException(400, "상담사와 슬롯 정보가 일치하지 않습니다.");
             }
-            if (!slot.isAvailable()) {
+            // Slots released above are still marked unavailable in this persistence context
+            if (!slot.isAvailable() && !heldSlotIds.contains(slot.getId())) {
+                slotAvailabilityIndex.recordFalsePositive();
                 throw new ApiException(409, "이미 예약된 슬롯입니다.");
             }
+            if (slot.isHeldByOther(user.id(), now)) {
+                throw new ApiException(409, "다른 사용자가 선택 중인 슬롯입니다.");
+            }
         }
 
+        trace.lap("validate_slots");
+
         // Mark new slots as unavailable
-        for (SlotEntity slot : newSlots) {
-            slot.setAvailable(false);
-            slotRepository.save(slot);
-        }
+        markSlots(newSlots, false);
+        trace.lap("mark_slots");
 
         // Sort by time
         List<SlotEntity> sortedByTime = newSlots.stream()
@@ -351,18 +489,36 @@ public class BookingService {
         booking.setSlot(sortedByTime.get(0));
 
         // Create new booking_slots join entries
-        for (SlotEntity slot : sortedByTime) {
-            BookingSlotEntity bs = new BookingSlotEntity(booking, slot);
-            bookingSlotRepository.save(bs);
-            booking.getBookingSlots().add(bs);
-        }
+        bookingSlotRepository.insertAll(booking.getId(), sortedIds);
+        trace.lap("insert_booking_slots");
 
         BookingEntity saved = bookingRepository.save(booking);
-        auditLogService.log(user.getId(), "BOOKING_RESCHEDULED", "BOOKING", saved.getId());
-        return toResponse(saved);
+        trace.lap("save_booking");
+        auditLogService.log(user.id(), "BOOKING_RESCHEDULED", "BOOKING", saved.getId());
+        trace.lap("audit");
+        return toResponse(saved, sortedByTime, null, null);
     }
 
-    private List<Long> resolveSlotIds(BookingDtos.CreateBookingRequest req) {
+    private List<SlotEntity> bookedSlots(BookingEntity booking) {
+        List<BookingSlotEntity> bookingSlots = booking.getBookingSlots();
+        if (bookingSlots != null && !bookingSlots.isEmpty()) {
+            return bookingSlots.stream().map(BookingSlotEntity::getSlot).toList();
+        }
+        if (booking.getSlot() != null) {
+            return List.of(booking.getSlot());
+        }
+        return List.of();
+    }
+
+    private void markSlots(List<SlotEntity> slots, boolean available) {
+        if (slots.isEmpty()) return;
+        List<Long> slotIds = slots.stream().map(SlotEntity::getId).toList();
+        slotRepository.updateAvailability(slotIds, available);
+        slotAvailabilityIndex.updateAfterCommit(slotIds, available);
+        availabilityCalendar.applyAfterCommit(slots, available);
+    }
+
+    static List<Long> resolveSlotIds(BookingDtos.CreateBookingRequest req) {
         if (req.slotIds() != null && !req.slotIds().isEmpty()) {
             return req.slotIds();
         }
@@ -372,41 +528,29 @@ public class BookingService {
         return List.of();
     }
 
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
-
     private BookingDtos.BookingResponse toResponse(BookingEntity booking) {
         return toResponse(booking, null, null);
     }
 
     private BookingDtos.BookingResponse toResponse(BookingEntity booking, String cancelType, Integer refundedCredits) {
         List<BookingSlotEntity> bookingSlots = booking.getBookingSlots();
-        List<BookingDtos.SlotInfo> slotInfos = new ArrayList<>();
+        List<SlotEntity> slots = new ArrayList<>();
 
         if (bookingSlots != null && !bookingSlots.isEmpty()) {
-            slotInfos = bookingSlots.stream()
-                    .sorted(Comparator.comparing(bs -> bs.getSlot().getStartAt()))
-                    .map(bs -> new BookingDtos.SlotInfo(
-                            bs.getSlot().getId(),
-                            bs.getSlot().getStartAt(),
-                            bs.getSlot().getEndAt()))
-                    .toList();
+            slots = bookingSlots.stream().map(BookingSlotEntity::getSlot).toList();
         } else if (booking.getSlot() != null) {
             // Fallback for legacy bookings
-            slotInfos = List.of(new BookingDtos.SlotInfo(
-                    booking.getSlot().getId(),
-                    booking.getSlot().getStartAt(),
-                    booking.getSlot().getEndAt()));
+            slots = List.of(booking.getSlot());
         }
+        return toResponse(booking, slots, cancelType, refundedCredits);
+    }
+
+    private BookingDtos.BookingResponse toResponse(BookingEntity booking, List<SlotEntity> slots,
+                                                   String cancelType, Integer refundedCredits) {
+        List<BookingDtos.SlotInfo> slotInfos = slots.stream()
+                .sorted(Comparator.comparing(SlotEntity::getStartAt))
+                .map(slot -> new BookingDtos.SlotInfo(slot.getId(), slot.getStartAt(), slot.getEndAt()))
+                .toList();
 
         // slotId/startAt/endAt: first slot for backward compat
         Long slotId = slotInfos.isEmpty() ? null : slotInfos.get(0).slotId();
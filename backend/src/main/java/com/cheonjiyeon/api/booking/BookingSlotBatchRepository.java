@@ -0,0 +1,8 @@
+package com.cheonjiyeon.api.booking;
+
+import java.util.List;
+
+public interface BookingSlotBatchRepository {
+    /** booking_slots 행을 multi-row INSERT 한 번으로 저장한다. */
+    int insertAll(Long bookingId, List<Long> slotIds);
+}
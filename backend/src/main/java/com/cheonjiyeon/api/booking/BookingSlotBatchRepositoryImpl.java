@@ -0,0 +1,37 @@
+package com.cheonjiyeon.api.booking;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * booking_slots는 IDENTITY 키라 Hibernate JDBC 배치 INSERT가 적용되지 않으므로
+ * 슬롯 수와 관계없이 한 번의 왕복이 되도록 VALUES 절을 묶은 native INSERT를 사용한다.
+ */
+class BookingSlotBatchRepositoryImpl implements BookingSlotBatchRepository {
+    private final EntityManager em;
+
+    BookingSlotBatchRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public int insertAll(Long bookingId, List<Long> slotIds) {
+        if (slotIds.isEmpty()) return 0;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO booking_slots (booking_id, slot_id) VALUES ");
+        for (int i = 0; i < slotIds.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?)");
+        }
+
+        Query query = em.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Long slotId : slotIds) {
+            query.setParameter(position++, bookingId);
+            query.setParameter(position++, slotId);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,9 +1,15 @@
 package com.cheonjiyeon.api.booking;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface BookingSlotRepository extends JpaRepository<BookingSlotEntity, Long> {
+public interface BookingSlotRepository extends JpaRepository<BookingSlotEntity, Long>, BookingSlotBatchRepository {
     List<BookingSlotEntity> findByBookingId(Long bookingId);
+
+    @Query("select new com.cheonjiyeon.api.booking.BookingSlotRow(bs.booking.id, s.id, s.startAt, s.endAt) " +
+            "from BookingSlotEntity bs join bs.slot s where bs.booking.id in :bookingIds order by s.startAt asc")
+    List<BookingSlotRow> findSlotRowsByBookingIds(Collection<Long> bookingIds);
 }
@@ -0,0 +1,13 @@
+package com.cheonjiyeon.api.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약별 슬롯 시간 프로젝션.
+ */
+public record BookingSlotRow(
+        Long bookingId,
+        Long slotId,
+        LocalDateTime startAt,
+        LocalDateTime endAt
+) {}
@@ -0,0 +1,25 @@
+package com.cheonjiyeon.api.booking;
+
+/**
+ * 예약 상태. DB에는 이름 문자열로 저장된다.
+ */
+public enum BookingStatus {
+    BOOKED,
+    PAID,
+    PAYMENT_FAILED,
+    PAYMENT_CANCELED,
+    CANCELED,
+    COMPLETED;
+
+    public boolean is(String status) {
+        return name().equals(status);
+    }
+
+    public static BookingStatus of(String status) {
+        try {
+            return valueOf(status);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalStateException("Unknown booking status: " + status, e);
+        }
+    }
+}
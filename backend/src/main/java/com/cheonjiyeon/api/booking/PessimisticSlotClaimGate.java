@@ -0,0 +1,26 @@
+package com.cheonjiyeon.api.booking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnExpression("!(${redis.enabled:false} and '${booking.reservation-mode:pessimistic}' == 'redis')")
+public class PessimisticSlotClaimGate implements SlotClaimGate {
+    @Override
+    public boolean active() {
+        return false;
+    }
+
+    @Override
+    public Claim claim(Long userId, List<Long> slotIds, int creditsNeeded, int creditBalance) {
+        return Claim.none();
+    }
+
+    @Override
+    public void confirm(Claim claim) {}
+
+    @Override
+    public void release(Claim claim) {}
+}
@@ -0,0 +1,135 @@
+package com.cheonjiyeon.api.booking;
+
+import com.cheonjiyeon.api.common.ApiException;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis Lua 스크립트 기반 슬롯 선점.
+ *
+ * 슬롯 키를 TTL과 함께 한 번에 SET NX 하고, 같은 스크립트에서 사용자별 미확정 상담권 선점량이
+ * DB 잔여 상담권을 넘지 않는지 확인한다. 경합 요청은 DB 커넥션을 잡기 전에 Redis에서 거절된다.
+ *
+ * 한 스크립트가 사용자 키와 여러 슬롯 키를 함께 다루므로 단일 Redis 서버(RedisConfig.useSingleServer)를 전제한다.
+ * 슬롯 키는 모든 사용자가 공유해야 하므로 사용자 해시태그로 묶을 수 없다. 클러스터로 옮기려면 키 설계를 다시 해야 한다.
+ */
+@Component
+@ConditionalOnExpression("${redis.enabled:false} and '${booking.reservation-mode:pessimistic}' == 'redis'")
+public class RedisSlotClaimGate implements SlotClaimGate {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSlotClaimGate.class);
+
+    private static final String SLOT_KEY_PREFIX = "booking:slot-claim:";
+    private static final String CREDIT_KEY_PREFIX = "booking:credit-claim:";
+
+    // KEYS[1] = credit claim zset, KEYS[2..] = slot claim keys
+    // ARGV = token, ttlMs, nowMs, creditsNeeded, creditBalance
+    private static final String CLAIM_SCRIPT = """
+            for i = 2, #KEYS do
+              if redis.call('EXISTS', KEYS[i]) == 1 then return 0 end
+            end
+            local needed = tonumber(ARGV[4])
+            if needed > 0 then
+              redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+              local held = 0
+              for _, member in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do
+                held = held + tonumber(string.match(member, ':(%d+)$'))
+              end
+              if held + needed > tonumber(ARGV[5]) then return -1 end
+              redis.call('ZADD', KEYS[1], tonumber(ARGV[3]) + tonumber(ARGV[2]), ARGV[1] .. ':' .. needed)
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            for i = 2, #KEYS do
+              redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+            end
+            return 1
+            """;
+
+    // KEYS[1] = credit claim zset, KEYS[2..] = slot claim keys
+    // ARGV = token, creditsNeeded
+    private static final String DROP_SCRIPT = """
+            for i = 2, #KEYS do
+              if redis.call('GET', KEYS[i]) == ARGV[1] then redis.call('DEL', KEYS[i]) end
+            end
+            redis.call('ZREM', KEYS[1], ARGV[1] .. ':' .. ARGV[2])
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+
+    @Value("${booking.claim-ttl-ms:10000}")
+    private long claimTtlMs;
+
+    public RedisSlotClaimGate(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public boolean active() {
+        return true;
+    }
+
+    @Override
+    public Claim claim(Long userId, List<Long> slotIds, int creditsNeeded, int creditBalance) {
+        String token = UUID.randomUUID().toString();
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLAIM_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                keys(userId, slotIds),
+                token, String.valueOf(claimTtlMs), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(creditsNeeded), String.valueOf(creditBalance));
+
+        if (result == null || result == 0L) {
+            throw new ApiException(409, "이미 예약된 슬롯입니다.");
+        }
+        if (result == -1L) {
+            throw new ApiException(400, "상담권이 부족합니다. 필요: " + creditsNeeded + ", 보유: " + creditBalance);
+        }
+        return new Claim(userId, slotIds, creditsNeeded, token);
+    }
+
+    @Override
+    public void confirm(Claim claim) {
+        drop(claim);
+    }
+
+    @Override
+    public void release(Claim claim) {
+        drop(claim);
+    }
+
+    private void drop(Claim claim) {
+        if (claim.token() == null) return;
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    DROP_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    keys(claim.userId(), claim.slotIds()),
+                    claim.token(), String.valueOf(claim.credits()));
+        } catch (Exception e) {
+            // The claim keys expire on their own; the DB row lock stays authoritative
+            log.warn("Failed to drop slot claim token={}, slots={}", claim.token(), claim.slotIds(), e);
+        }
+    }
+
+    private static List<Object> keys(Long userId, List<Long> slotIds) {
+        List<Object> keys = new ArrayList<>(slotIds.size() + 1);
+        keys.add(CREDIT_KEY_PREFIX + userId);
+        for (Long slotId : slotIds) {
+            keys.add(SLOT_KEY_PREFIX + slotId);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cheonjiyeon.api.booking;
+
+import java.util.List;
+
+/**
+ * 예약 트랜잭션 진입 전 슬롯 선점 게이트.
+ * booking.reservation-mode=redis 이고 redis.enabled=true 일 때만 Redis 구현이 사용되며,
+ * 그 외에는 DB 비관적 락만으로 처리한다.
+ */
+public interface SlotClaimGate {
+
+    /** 선점 결과. token이 null이면 선점 없이 DB 경로로 진행한다. */
+    record Claim(Long userId, List<Long> slotIds, int credits, String token) {
+        static Claim none() {
+            return new Claim(null, List.of(), 0, null);
+        }
+    }
+
+    /** false이면 선점 단계를 건너뛴다. */
+    boolean active();
+
+    /**
+     * 슬롯(최대 3개)과 상담권을 원자적으로 선점한다.
+     * 이미 선점된 슬롯이면 409, 상담권이 부족하면 400 ApiException.
+     */
+    Claim claim(Long userId, List<Long> slotIds, int creditsNeeded, int creditBalance);
+
+    /** DB 트랜잭션 커밋 후 호출. 이후 가용성은 DB가 판단한다. */
+    void confirm(Claim claim);
+
+    /** DB 트랜잭션 실패 시 호출. 호출되지 않아도 TTL 만료 시 자동 해제된다. */
+    void release(Claim claim);
+}
@@ -0,0 +1,140 @@
+package com.cheonjiyeon.api.booking;
+
+import com.cheonjiyeon.api.common.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 슬롯에 대한 동시 예약 요청을 프로세스 안에서 합친다.
+ *
+ * 슬롯마다 먼저 들어온 요청 하나만 DB 경로(트랜잭션, 행 락)로 보내고, 뒤따르는 요청은 정책에 따라
+ * 선행 요청의 결과를 기다리거나(wait) 바로 409로 거절한다(fail-fast).
+ * 선행 요청이 예약에 성공하면 대기자는 커넥션을 잡지 않고 409를 받고, 실패하면 다시 선두를 다툰다.
+ */
+@Component
+class SlotContentionGate {
+
+    enum Policy { WAIT, FAIL_FAST, OFF }
+
+    private final ConcurrentHashMap<Long, CompletableFuture<Boolean>> inflight = new ConcurrentHashMap<>();
+    private final Policy policy;
+    private final long maxWaitNanos;
+
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter retryCounter;
+    private final Counter failFastCounter;
+    private final Counter timeoutCounter;
+
+    SlotContentionGate(@Value("${booking.contention.policy:wait}") String policy,
+                       @Value("${booking.contention.max-wait-ms:3000}") long maxWaitMs,
+                       MeterRegistry meterRegistry) {
+        this.policy = Policy.valueOf(policy.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.leaderCounter = counter(meterRegistry, "leader");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+        this.retryCounter = counter(meterRegistry, "retry");
+        this.failFastCounter = counter(meterRegistry, "fail_fast");
+        this.timeoutCounter = counter(meterRegistry, "timeout");
+        Gauge.builder("booking.contention.inflight", inflight, ConcurrentHashMap::size)
+                .description("Slots with a booking request currently on the database path")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 슬롯 전부의 선두 자리를 얻으면 Lease를 반환한다.
+     * 선행 요청이 슬롯을 가져갔으면 409, 대기 시간이 지나면 Lease 없이 DB 판단에 맡긴다.
+     */
+    Lease admit(List<Long> slotIds) {
+        if (policy == Policy.OFF) return Lease.NONE;
+        List<Long> ids = slotIds.stream().filter(id -> id != null).distinct().sorted().toList();
+        if (ids.isEmpty()) return Lease.NONE;
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (true) {
+            CompletableFuture<Boolean> mine = new CompletableFuture<>();
+            CompletableFuture<Boolean> ahead = tryAcquire(ids, mine);
+            if (ahead == null) {
+                leaderCounter.increment();
+                return new Lease(this, ids, mine);
+            }
+            if (policy == Policy.FAIL_FAST) {
+                failFastCounter.increment();
+                throw new ApiException(409, "다른 사용자가 예약 중인 슬롯입니다.");
+            }
+
+            boolean booked;
+            try {
+                booked = ahead.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                timeoutCounter.increment();
+                return Lease.NONE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Lease.NONE;
+            } catch (ExecutionException e) {
+                booked = false;
+            }
+            if (booked) {
+                coalescedCounter.increment();
+                throw new ApiException(409, "이미 예약된 슬롯입니다.");
+            }
+            retryCounter.increment();
+        }
+    }
+
+    // All-or-nothing so that no request waits while holding part of another request's slots
+    private CompletableFuture<Boolean> tryAcquire(List<Long> ids, CompletableFuture<Boolean> mine) {
+        List<Long> acquired = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CompletableFuture<Boolean> existing = inflight.putIfAbsent(id, mine);
+            if (existing != null) {
+                acquired.forEach(a -> inflight.remove(a, mine));
+                return existing;
+            }
+            acquired.add(id);
+        }
+        return null;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("booking.contention")
+                .description("Per-slot booking admission results")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** DB 경로로 보낸 요청의 결과를 대기자에게 전달한다. */
+    static final class Lease {
+        static final Lease NONE = new Lease(null, List.of(), null);
+
+        private final SlotContentionGate gate;
+        private final List<Long> slotIds;
+        private final CompletableFuture<Boolean> result;
+
+        private Lease(SlotContentionGate gate, List<Long> slotIds, CompletableFuture<Boolean> result) {
+            this.gate = gate;
+            this.slotIds = slotIds;
+            this.result = result;
+        }
+
+        void complete(boolean booked) {
+            if (result == null) return;
+            // Leave the map first so waiters that retry after a failure do not see this entry again
+            slotIds.forEach(id -> gate.inflight.remove(id, result));
+            result.complete(booked);
+        }
+    }
+}
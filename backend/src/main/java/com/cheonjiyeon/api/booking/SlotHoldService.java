@@ -0,0 +1,103 @@
+package com.cheonjiyeon.api.booking;
+
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
+import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 화면 진입 시 슬롯을 일정 시간 동안 선점(홀드)한다.
+ * 홀드는 조건부 UPDATE 한 번으로 잡고, 만료된 홀드는 타이밍 휠 틱마다 한 번의 UPDATE로 일괄 해제한다.
+ * 만료 여부는 홀드/예약 쿼리에서 다시 확인하므로 해제가 늦어도 정합성에는 영향이 없다.
+ */
+@Service
+public class SlotHoldService {
+    private static final Logger log = LoggerFactory.getLogger(SlotHoldService.class);
+
+    private final SlotRepository slotRepository;
+    private final AuthPrincipalResolver authPrincipals;
+    private final long holdTtlSeconds;
+    private final int fullSweepTicks;
+    private final SlotHoldWheel wheel;
+    private int ticksSinceFullSweep;
+
+    public SlotHoldService(SlotRepository slotRepository,
+                           AuthPrincipalResolver authPrincipals,
+                           @Value("${booking.hold.ttl-seconds:600}") long holdTtlSeconds,
+                           @Value("${booking.hold.sweep-interval-ms:1000}") long sweepIntervalMs,
+                           @Value("${booking.hold.full-sweep-ticks:300}") int fullSweepTicks) {
+        this.slotRepository = slotRepository;
+        this.authPrincipals = authPrincipals;
+        this.holdTtlSeconds = holdTtlSeconds;
+        this.fullSweepTicks = fullSweepTicks;
+        this.wheel = new SlotHoldWheel(sweepIntervalMs, 512, System.currentTimeMillis());
+    }
+
+    @Transactional
+    public BookingDtos.HoldResponse hold(String authHeader, BookingDtos.HoldRequest req) {
+        Long userId = authPrincipals.requireUserId(authHeader);
+        List<Long> slotIds = validateSlotIds(req.slotIds());
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(holdTtlSeconds);
+        int held = slotRepository.holdSlots(slotIds, req.counselorId(), userId, expiresAt, now);
+        if (held != slotIds.size()) {
+            // Partial hold is rolled back with the transaction
+            throw new ApiException(409, "이미 예약되었거나 다른 사용자가 선택 중인 슬롯입니다.");
+        }
+
+        long deadlineMs = System.currentTimeMillis() + holdTtlSeconds * 1000;
+        for (Long slotId : slotIds) {
+            wheel.schedule(slotId, deadlineMs);
+        }
+        return new BookingDtos.HoldResponse(slotIds, expiresAt);
+    }
+
+    @Transactional
+    public void release(String authHeader, BookingDtos.HoldRequest req) {
+        Long userId = authPrincipals.requireUserId(authHeader);
+        slotRepository.releaseHolds(validateSlotIds(req.slotIds()), userId);
+    }
+
+    /**
+     * 타이밍 휠을 현재 시각까지 진행시키고 만료된 홀드를 한 번의 UPDATE로 해제한다.
+     * 다른 노드나 재시작 이전에 잡힌 홀드는 fullSweepTicks 틱마다 만료 인덱스 기반 UPDATE로 정리한다.
+     */
+    @Transactional
+    public int sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        if (!due.isEmpty()) {
+            released += slotRepository.releaseExpiredHolds(due, now);
+        }
+
+        if (++ticksSinceFullSweep >= fullSweepTicks) {
+            ticksSinceFullSweep = 0;
+            released += slotRepository.releaseAllExpiredHolds(now);
+        }
+
+        if (released > 0) {
+            log.debug("Released {} expired slot holds", released);
+        }
+        return released;
+    }
+
+    private List<Long> validateSlotIds(List<Long> slotIds) {
+        if (slotIds == null || slotIds.isEmpty()) {
+            throw new ApiException(400, "최소 1개의 슬롯을 선택해야 합니다.");
+        }
+        if (slotIds.size() > 3) {
+            throw new ApiException(400, "최대 3개의 슬롯까지 예약할 수 있습니다.");
+        }
+        return slotIds.stream().distinct().sorted().toList();
+    }
+}
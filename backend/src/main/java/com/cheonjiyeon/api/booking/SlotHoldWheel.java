@@ -0,0 +1,57 @@
+package com.cheonjiyeon.api.booking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 슬롯 홀드 만료 시각을 틱 단위 버킷에 담는 해시드 타이밍 휠.
+ * 한 바퀴를 넘는 만료 시각은 해당 버킷에서 다음 바퀴까지 대기한다.
+ */
+class SlotHoldWheel {
+    private record Entry(long slotId, long deadlineMs) {}
+
+    private final long tickMs;
+    private final ConcurrentLinkedQueue<Entry>[] buckets;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    SlotHoldWheel(long tickMs, int wheelSize, long nowMs) {
+        this.tickMs = tickMs;
+        this.buckets = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = nowMs / tickMs;
+    }
+
+    void schedule(long slotId, long deadlineMs) {
+        buckets[bucketOf(deadlineMs / tickMs)].add(new Entry(slotId, deadlineMs));
+    }
+
+    /** 마지막 호출 이후 지나간 모든 틱의 버킷을 돌며 만료된 슬롯 ID를 꺼낸다. */
+    synchronized List<Long> advance(long nowMs) {
+        long currentTick = nowMs / tickMs;
+        long fromTick = Math.max(lastTick, currentTick - buckets.length + 1);
+        List<Long> due = new ArrayList<>();
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<Entry> bucket = buckets[bucketOf(tick)];
+            List<Entry> pending = new ArrayList<>();
+            Entry e;
+            while ((e = bucket.poll()) != null) {
+                if (e.deadlineMs() <= nowMs) {
+                    due.add(e.slotId());
+                } else {
+                    pending.add(e);
+                }
+            }
+            bucket.addAll(pending);
+        }
+        lastTick = currentTick;
+        return due;
+    }
+
+    private int bucketOf(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.length);
+    }
+}
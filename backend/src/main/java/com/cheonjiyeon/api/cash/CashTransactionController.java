@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.cash;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.common.ApiException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
@@ -21,19 +20,16 @@ public class CashTransactionController {
 
     private final CashTransactionService cashTransactionService;
     private final ReceiptService receiptService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
 
     public CashTransactionController(
             CashTransactionService cashTransactionService,
             ReceiptService receiptService,
-            TokenStore tokenStore,
-            UserRepository userRepository
+            AuthPrincipalResolver authPrincipals
     ) {
         this.cashTransactionService = cashTransactionService;
         this.receiptService = receiptService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
     }
 
     @GetMapping("/csv")
@@ -43,9 +39,9 @@ public class CashTransactionController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         List<CashTransactionEntity> transactions = cashTransactionService.getTransactionsForCsv(
-                user.getId(), type, from, to
+                user.id(), type, from, to
         );
 
         StringBuilder csv = new StringBuilder();
@@ -80,8 +76,8 @@ public class CashTransactionController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        UserEntity user = resolveUser(authHeader);
-        return receiptService.generateReceipt(id, user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        return receiptService.generateReceipt(id, user.id());
     }
 
     @GetMapping(value = "/{id}/receipt/html", produces = MediaType.TEXT_HTML_VALUE)
@@ -89,22 +85,11 @@ public class CashTransactionController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        UserEntity user = resolveUser(authHeader);
-        String html = receiptService.generateHtmlReceipt(id, user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        String html = receiptService.generateHtmlReceipt(id, user.id());
         return ResponseEntity.ok()
                 .contentType(MediaType.TEXT_HTML)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=receipt-" + id + ".html")
                 .body(html);
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
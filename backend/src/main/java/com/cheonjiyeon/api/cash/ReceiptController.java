@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.cash;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.common.ApiException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -14,17 +13,14 @@ import org.springframework.web.bind.annotation.*;
 public class ReceiptController {
 
     private final ReceiptPdfService receiptPdfService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
 
     public ReceiptController(
             ReceiptPdfService receiptPdfService,
-            TokenStore tokenStore,
-            UserRepository userRepository
+            AuthPrincipalResolver authPrincipals
     ) {
         this.receiptPdfService = receiptPdfService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
     }
 
     @GetMapping("/transactions/{transactionId}/pdf")
@@ -32,8 +28,8 @@ public class ReceiptController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long transactionId
     ) {
-        UserEntity user = resolveUser(authHeader);
-        byte[] pdf = receiptPdfService.generateTransactionReceiptPdf(transactionId, user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        byte[] pdf = receiptPdfService.generateTransactionReceiptPdf(transactionId, user.id());
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=receipt_" + transactionId + ".pdf")
@@ -41,15 +37,4 @@ public class ReceiptController {
                 .contentLength(pdf.length)
                 .body(pdf);
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
@@ -1,9 +1,9 @@
 package com.cheonjiyeon.api.chat;
 
-import com.cheonjiyeon.api.auth.AuthService;
-import com.cheonjiyeon.api.auth.TokenStore;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthService;
 import com.cheonjiyeon.api.booking.BookingEntity;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.common.ApiException;
@@ -21,23 +21,20 @@ public class ChatController {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatService chatService;
     private final AuthService authService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final BookingRepository bookingRepository;
     private final CounselorRepository counselorRepository;
 
     public ChatController(ChatRoomRepository chatRoomRepository,
                           ChatService chatService,
                           AuthService authService,
-                          TokenStore tokenStore,
-                          UserRepository userRepository,
+                          AuthPrincipalResolver authPrincipals,
                           BookingRepository bookingRepository,
                           CounselorRepository counselorRepository) {
         this.chatRoomRepository = chatRoomRepository;
         this.chatService = chatService;
         this.authService = authService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.bookingRepository = bookingRepository;
         this.counselorRepository = counselorRepository;
     }
@@ -45,7 +42,7 @@ public class ChatController {
     @GetMapping("/by-booking/{bookingId}")
     public Map<String, Object> byBooking(@RequestHeader(value = "Authorization", required = false) String authHeader,
                                          @PathVariable Long bookingId) {
-        authService.me(authHeader);
+        authService.principal(authHeader);
         ChatRoomEntity room = chatRoomRepository.findByBookingId(bookingId)
                 .orElseThrow(() -> new ApiException(404, "상담방을 찾을 수 없습니다."));
         return Map.of(
@@ -60,7 +57,7 @@ public class ChatController {
     public ChatDtos.ChatRoomResponse getRoom(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long bookingId) {
-        resolveUser(authHeader);
+        authPrincipals.require(authHeader);
         ChatRoomEntity room = chatService.getRoomByBookingId(bookingId);
         return ChatDtos.ChatRoomResponse.from(room);
     }
@@ -70,7 +67,7 @@ public class ChatController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long bookingId,
             @Valid @RequestBody ChatDtos.SendMessageRequest req) {
-        UserEntity user = resolveUser(authHeader);
+        UserEntity user = authPrincipals.requireUser(authHeader);
         ChatRoomEntity room = chatService.getRoomByBookingId(bookingId);
 
         BookingEntity booking = bookingRepository.findById(bookingId)
@@ -97,15 +94,15 @@ public class ChatController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long bookingId,
             @RequestParam(required = false) Long afterId) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         ChatRoomEntity room = chatService.getRoomByBookingId(bookingId);
 
         // Verify the user is a participant
         BookingEntity booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
         CounselorEntity counselor = booking.getCounselor();
-        boolean isParticipant = booking.getUser().getId().equals(user.getId())
-                || (counselor.getUserId() != null && counselor.getUserId().equals(user.getId()));
+        boolean isParticipant = booking.getUser().getId().equals(user.id())
+                || (counselor.getUserId() != null && counselor.getUserId().equals(user.id()));
         if (!isParticipant) {
             throw new ApiException(403, "이 채팅방에 참여할 수 없습니다.");
         }
@@ -122,15 +119,15 @@ public class ChatController {
     public ChatDtos.ChatRoomResponse closeRoom(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long bookingId) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         ChatRoomEntity room = chatService.getRoomByBookingId(bookingId);
 
         // Verify the user is a participant
         BookingEntity booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
         CounselorEntity counselor = booking.getCounselor();
-        boolean isParticipant = booking.getUser().getId().equals(user.getId())
-                || (counselor.getUserId() != null && counselor.getUserId().equals(user.getId()));
+        boolean isParticipant = booking.getUser().getId().equals(user.id())
+                || (counselor.getUserId() != null && counselor.getUserId().equals(user.id()));
         if (!isParticipant) {
             throw new ApiException(403, "이 채팅방에 참여할 수 없습니다.");
         }
@@ -139,15 +136,4 @@ public class ChatController {
         ChatRoomEntity closed = chatService.getRoomByBookingId(bookingId);
         return ChatDtos.ChatRoomResponse.from(closed);
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
@@ -0,0 +1,34 @@
+package com.cheonjiyeon.api.config;
+
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 Authorization 헤더 해석 결과를 담을 자리를 붙이는 필터.
+ * CookieAuthFilter가 쿠키 토큰을 헤더로 옮긴 뒤에 실행된다.
+ * JWT 검증과 사용자 조회는 처음 필요할 때 한 번만 하고, 인증이 필요 없는 요청은 비용이 없다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class AuthPrincipalFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            request.setAttribute(AuthPrincipalResolver.REQUEST_ATTRIBUTE, AuthPrincipalResolver.forRequest(authHeader));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
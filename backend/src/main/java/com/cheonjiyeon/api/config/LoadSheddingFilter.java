@@ -0,0 +1,85 @@
+package com.cheonjiyeon.api.config;
+
+import com.cheonjiyeon.api.loadshed.AdaptiveConcurrencyLimiter;
+import com.cheonjiyeon.api.loadshed.LoadSheddingProperties;
+import com.cheonjiyeon.api.loadshed.RequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 동시 처리 한도를 넘는 요청을 503으로 돌려보내는 부하 차단 필터.
+ * 한도는 AdaptiveConcurrencyLimiter가 응답 시간으로 조정하고, 우선순위는 load-shedding.*-paths로 정한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final LoadSheddingProperties properties;
+    private final Map<RequestPriority, Counter> accepted = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter,
+                              LoadSheddingProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.properties = properties;
+        for (RequestPriority priority : RequestPriority.values()) {
+            accepted.put(priority, requestCounter(meterRegistry, priority, "accepted"));
+            shed.put(priority, requestCounter(meterRegistry, priority, "shed"));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority priority = properties.isEnabled() ? properties.resolve(request.getRequestURI()) : null;
+        if (priority == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.tryAcquire(priority)) {
+            shed.get(priority).increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":true,\"status\":503,\"message\":\"요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+
+        accepted.get(priority).increment();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // SSE and other async responses return here immediately; their duration says nothing about load
+            if (request.isAsyncStarted()) {
+                limiter.onIgnore();
+            } else {
+                limiter.onComplete(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry registry, RequestPriority priority, String result) {
+        return Counter.builder("load_shedding.requests")
+                .description("Requests seen by the load shedder")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("result", result)
+                .register(registry);
+    }
+}
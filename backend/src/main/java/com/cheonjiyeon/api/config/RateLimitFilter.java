@@ -1,5 +1,10 @@
 package com.cheonjiyeon.api.config;
 
+import com.cheonjiyeon.api.ratelimit.RateLimitPolicy;
+import com.cheonjiyeon.api.ratelimit.RateLimitProperties;
+import com.cheonjiyeon.api.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,65 +15,77 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 클라이언트 IP × 경로 그룹 단위 요청 제한.
+ * 그룹별 한도는 rate-limit.groups, 저장소는 rate-limit.backend(local | redis)로 정한다.
+ */
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
-    private static final int AUTH_LIMIT = 10;
-    private static final int GENERAL_LIMIT = 60;
-    private static final long WINDOW_MS = 60_000;
 
-    private final Map<String, BucketEntry> buckets = new ConcurrentHashMap<>();
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String ip = resolveIp(request);
-        String path = request.getRequestURI();
-        boolean isAuth = path.startsWith("/api/v1/auth/login") || path.startsWith("/api/v1/auth/signup");
-
-        String key = ip + (isAuth ? ":auth" : ":general");
-        int limit = isAuth ? AUTH_LIMIT : GENERAL_LIMIT;
-
-        BucketEntry entry = buckets.compute(key, (k, existing) -> {
-            long now = System.currentTimeMillis();
-            if (existing == null || now - existing.windowStart > WINDOW_MS) {
-                return new BucketEntry(now, new AtomicInteger(1));
-            }
-            existing.count.incrementAndGet();
-            return existing;
-        });
+        RateLimitPolicy policy = properties.isEnabled() ? properties.resolve(request.getRequestURI()) : null;
+        if (policy == null || policy.unlimited()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        int remaining = Math.max(0, limit - entry.count.get());
-        response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(resolveIp(request) + ":" + policy.name(), policy);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        Counter[] groupCounters = counters(policy.name());
 
-        if (entry.count.get() > limit) {
+        if (!decision.allowed()) {
+            groupCounters[1].increment();
             response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, (decision.retryAfterMillis() + 999) / 1000)));
             response.setContentType("application/json");
             response.getWriter().write("{\"error\":true,\"status\":429,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
             return;
         }
 
+        groupCounters[0].increment();
         filterChain.doFilter(request, response);
     }
 
     private String resolveIp(HttpServletRequest request) {
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) {
-            return xff.split(",")[0].trim();
+        if (properties.isTrustForwardedFor()) {
+            String xff = request.getHeader("X-Forwarded-For");
+            if (xff != null && !xff.isBlank()) {
+                // The trusted proxy appends the peer it saw; earlier entries are client-supplied
+                int comma = xff.lastIndexOf(',');
+                return xff.substring(comma + 1).trim();
+            }
         }
         return request.getRemoteAddr();
     }
 
-    private static class BucketEntry {
-        final long windowStart;
-        final AtomicInteger count;
+    private Counter[] counters(String group) {
+        Counter[] existing = counters.get(group);
+        if (existing != null) return existing;
+        return counters.computeIfAbsent(group, g -> new Counter[]{
+                requestCounter(g, "allowed"), requestCounter(g, "limited")});
+    }
 
-        BucketEntry(long windowStart, AtomicInteger count) {
-            this.windowStart = windowStart;
-            this.count = count;
-        }
+    private Counter requestCounter(String group, String result) {
+        return Counter.builder("rate_limit.requests")
+                .description("Requests checked by the rate limiter")
+                .tag("group", group)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
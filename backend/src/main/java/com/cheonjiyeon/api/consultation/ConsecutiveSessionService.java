@@ -3,6 +3,7 @@ package com.cheonjiyeon.api.consultation;
 import com.cheonjiyeon.api.booking.BookingEntity;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.booking.BookingSlotEntity;
+import com.cheonjiyeon.api.booking.BookingStatus;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.credit.CreditUsageLogEntity;
 import com.cheonjiyeon.api.credit.CreditUsageLogRepository;
@@ -56,7 +57,7 @@ public class ConsecutiveSessionService {
         Long counselorId = currentBooking.getCounselor().getId();
 
         List<BookingEntity> candidates = bookingRepository.findByUserIdAndCounselorIdAndStatusIn(
-                userId, counselorId, List.of("BOOKED", "PAID")
+                userId, counselorId, List.of(BookingStatus.BOOKED.name(), BookingStatus.PAID.name())
         );
 
         for (BookingEntity candidate : candidates) {
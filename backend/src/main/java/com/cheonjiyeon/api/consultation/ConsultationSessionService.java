@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.consultation;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserRepository;
-import com.cheonjiyeon.api.auth.UserEntity;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.booking.BookingEntity;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.booking.BookingSlotEntity;
@@ -35,8 +34,7 @@ public class ConsultationSessionService {
     private final BookingRepository bookingRepository;
     private final SendbirdService sendbirdService;
     private final CounselorRepository counselorRepository;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final SettlementService settlementService;
     private final CreditUsageLogRepository creditUsageLogRepository;
 
@@ -46,8 +44,7 @@ public class ConsultationSessionService {
             BookingRepository bookingRepository,
             SendbirdService sendbirdService,
             CounselorRepository counselorRepository,
-            TokenStore tokenStore,
-            UserRepository userRepository,
+            AuthPrincipalResolver authPrincipals,
             SettlementService settlementService,
             CreditUsageLogRepository creditUsageLogRepository
     ) {
@@ -56,8 +53,7 @@ public class ConsultationSessionService {
         this.bookingRepository = bookingRepository;
         this.sendbirdService = sendbirdService;
         this.counselorRepository = counselorRepository;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.settlementService = settlementService;
         this.creditUsageLogRepository = creditUsageLogRepository;
     }
@@ -177,7 +173,7 @@ public class ConsultationSessionService {
     }
 
     public ConsultationSessionDtos.SessionTokenResponse getCounselorToken(Long reservationId, String authHeader) {
-        UserEntity currentUser = resolveUser(authHeader);
+        AuthPrincipal currentUser = authPrincipals.require(authHeader);
 
         ConsultationSessionEntity session = getSessionByReservationId(reservationId);
 
@@ -187,7 +183,7 @@ public class ConsultationSessionService {
         CounselorEntity counselor = booking.getCounselor();
 
         // Verify the current user is the counselor for this booking
-        if (counselor.getUserId() == null || !counselor.getUserId().equals(currentUser.getId())) {
+        if (counselor.getUserId() == null || !counselor.getUserId().equals(currentUser.id())) {
             throw new ApiException(403, "이 예약의 상담사가 아닙니다.");
         }
 
@@ -212,9 +208,9 @@ public class ConsultationSessionService {
     }
 
     public List<BookingEntity> getCounselorTodayBookings(String authHeader) {
-        UserEntity currentUser = resolveUser(authHeader);
+        AuthPrincipal currentUser = authPrincipals.require(authHeader);
 
-        CounselorEntity counselor = counselorRepository.findByUserId(currentUser.getId())
+        CounselorEntity counselor = counselorRepository.findByUserId(currentUser.id())
                 .orElseThrow(() -> new ApiException(403, "상담사 계정이 아닙니다."));
 
         LocalDate today = LocalDate.now();
@@ -235,9 +231,9 @@ public class ConsultationSessionService {
     }
 
     public ConsultationSessionDtos.CounselorAuthResponse getCounselorAuth(String authHeader) {
-        UserEntity currentUser = resolveUser(authHeader);
+        AuthPrincipal currentUser = authPrincipals.require(authHeader);
 
-        CounselorEntity counselor = counselorRepository.findByUserId(currentUser.getId())
+        CounselorEntity counselor = counselorRepository.findByUserId(currentUser.id())
                 .orElseThrow(() -> new ApiException(403, "상담사 계정이 아닙니다."));
 
         String counselorSendbirdId = "counselor_" + counselor.getId();
@@ -313,13 +309,13 @@ public class ConsultationSessionService {
 
     @Transactional
     public ConsultationSessionDtos.CounselorReadyResponse markCounselorReady(Long reservationId, String authHeader) {
-        UserEntity currentUser = resolveUser(authHeader);
+        AuthPrincipal currentUser = authPrincipals.require(authHeader);
 
         BookingEntity booking = bookingRepository.findById(reservationId)
                 .orElseThrow(() -> new ApiException(404, "Reservation not found: " + reservationId));
 
         CounselorEntity counselor = booking.getCounselor();
-        if (counselor.getUserId() == null || !counselor.getUserId().equals(currentUser.getId())) {
+        if (counselor.getUserId() == null || !counselor.getUserId().equals(currentUser.id())) {
             throw new ApiException(403, "이 예약의 상담사가 아닙니다.");
         }
 
@@ -399,15 +395,4 @@ public class ConsultationSessionService {
         }
         return null;
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
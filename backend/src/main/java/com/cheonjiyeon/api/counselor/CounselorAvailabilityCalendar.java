@@ -0,0 +1,214 @@
+package com.cheonjiyeon.api.counselor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 상담사별 예약 가능 슬롯 읽기 모델.
+ *
+ * 날짜별 버킷에 (슬롯 ID, 시작, 종료) epoch 초를 시작 시각 순으로 담아 두고,
+ * 슬롯 생성·예약·취소·변경은 커밋 이후 해당 슬롯만 증분 반영한다.
+ * 상담사당 max-age마다 한 번만 DB를 읽고, 그 사이 범위 조회는 JPA를 거치지 않는다.
+ * 증분 반영은 쓰기를 처리한 노드에서만 일어나므로, 다른 노드의 변경은 max-age 안에 다시 읽어 따라잡는다.
+ */
+@Component
+public class CounselorAvailabilityCalendar {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final int STRIDE = 3;                         // slotId, startSec, endSec
+
+    private final ConcurrentHashMap<Long, Calendar> calendars = new ConcurrentHashMap<>();
+    private final SlotRepository slotRepository;
+    private final CacheManager cacheManager;
+    private final long maxAgeNanos;
+
+    public CounselorAvailabilityCalendar(SlotRepository slotRepository,
+                                         CacheManager cacheManager,
+                                         @Value("${counselor.availability.max-age:PT1M}") Duration maxAge) {
+        this.slotRepository = slotRepository;
+        this.cacheManager = cacheManager;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public boolean isLoaded(long counselorId) {
+        Calendar calendar = calendars.get(counselorId);
+        return calendar != null && fresh(calendar);
+    }
+
+    /**
+     * [from, to) 구간에 시작하는 예약 가능 슬롯을 시작 시각 순으로 반환한다. null은 경계 없음.
+     */
+    public List<CounselorDtos.SlotItem> range(long counselorId, LocalDateTime from, LocalDateTime to) {
+        Calendar calendar = loaded(counselorId);
+        long fromSec = from != null ? epochSecond(from) : Long.MIN_VALUE;
+        long toSec = to != null ? epochSecond(to) : Long.MAX_VALUE;
+
+        NavigableMap<Long, long[]> days = calendar.days;
+        if (from != null) days = days.tailMap(Math.floorDiv(fromSec, SECONDS_PER_DAY), true);
+        if (to != null) days = days.headMap(Math.floorDiv(toSec, SECONDS_PER_DAY), true);
+
+        List<CounselorDtos.SlotItem> result = new ArrayList<>();
+        for (long[] bucket : days.values()) {
+            for (int i = 0; i < bucket.length; i += STRIDE) {
+                long start = bucket[i + 1];
+                if (start < fromSec) continue;
+                if (start >= toSec) break;
+                result.add(new CounselorDtos.SlotItem(bucket[i], toLocal(start), toLocal(bucket[i + 2])));
+            }
+        }
+        return result;
+    }
+
+    /** 엔티티 리스너처럼 이미 커밋 이후 시점에서 호출되는 경우. */
+    public void apply(long counselorId, long slotId, LocalDateTime startAt, LocalDateTime endAt, boolean available) {
+        Calendar calendar = calendars.computeIfAbsent(counselorId, id -> new Calendar());
+        synchronized (calendar) {
+            if (calendar.pending != null) calendar.pending.add(slotId);
+            if (available) {
+                calendar.put(slotId, epochSecond(startAt), epochSecond(endAt));
+            } else {
+                calendar.remove(slotId);
+            }
+        }
+        evictDetail(counselorId);
+    }
+
+    public void remove(long counselorId, long slotId) {
+        Calendar calendar = calendars.computeIfAbsent(counselorId, id -> new Calendar());
+        synchronized (calendar) {
+            if (calendar.pending != null) calendar.pending.add(slotId);
+            calendar.remove(slotId);
+        }
+        evictDetail(counselorId);
+    }
+
+    /** 벌크 UPDATE로 가용성이 바뀐 슬롯을 커밋 이후 반영한다. */
+    public void applyAfterCommit(Collection<SlotEntity> slots, boolean available) {
+        List<SlotChange> changes = slots.stream()
+                .map(s -> new SlotChange(s.getCounselor().getId(), s.getId(), s.getStartAt(), s.getEndAt()))
+                .toList();
+        SlotAvailabilityIndex.afterCommit(() -> changes.forEach(c ->
+                apply(c.counselorId(), c.slotId(), c.startAt(), c.endAt(), available)));
+    }
+
+    /** 리스너를 거치지 않는 일괄 INSERT 이후, 커밋되면 해당 상담사 달력을 다시 읽도록 버린다. */
+    public void reloadAfterCommit(long counselorId) {
+        SlotAvailabilityIndex.afterCommit(() -> {
+            calendars.remove(counselorId);
+            evictDetail(counselorId);
+        });
+    }
+
+    private Calendar loaded(long counselorId) {
+        Calendar calendar = calendars.computeIfAbsent(counselorId, id -> new Calendar());
+        if (fresh(calendar)) return calendar;
+        if (calendar.loaded) {
+            // Too old: swap in an empty calendar so writes from here on are tracked against the reload
+            Calendar replacement = new Calendar();
+            calendar = calendars.replace(counselorId, calendar, replacement)
+                    ? replacement
+                    : calendars.computeIfAbsent(counselorId, id -> new Calendar());
+            if (fresh(calendar)) return calendar;
+        }
+        synchronized (calendar.loadLock) {
+            if (calendar.loaded) return calendar;
+            List<SlotEntity> slots = slotRepository.findByCounselorIdAndAvailableTrueOrderByStartAtAsc(counselorId);
+            synchronized (calendar) {
+                // Changes committed while the snapshot was being read win over the snapshot
+                for (SlotEntity slot : slots) {
+                    if (calendar.pending.contains(slot.getId())) continue;
+                    calendar.put(slot.getId(), epochSecond(slot.getStartAt()), epochSecond(slot.getEndAt()));
+                }
+                calendar.pending = null;
+                calendar.loadedAt = System.nanoTime();
+                calendar.loaded = true;
+            }
+        }
+        return calendar;
+    }
+
+    private boolean fresh(Calendar calendar) {
+        return calendar.loaded && System.nanoTime() - calendar.loadedAt < maxAgeNanos;
+    }
+
+    private void evictDetail(long counselorId) {
+        Cache cache = cacheManager.getCache("counselor-detail");
+        if (cache != null) cache.evict(counselorId);
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocal(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private record SlotChange(Long counselorId, Long slotId, LocalDateTime startAt, LocalDateTime endAt) {}
+
+    /**
+     * 한 상담사의 달력. 버킷은 불변 배열로 교체(copy-on-write)해 읽기는 잠금 없이 수행한다.
+     */
+    private static final class Calendar {
+        final ConcurrentSkipListMap<Long, long[]> days = new ConcurrentSkipListMap<>();
+        final Map<Long, Long> startBySlot = new HashMap<>();
+        final Object loadLock = new Object();
+        Set<Long> pending = new HashSet<>();
+        long loadedAt;
+        volatile boolean loaded;
+
+        void put(long slotId, long start, long end) {
+            remove(slotId);
+            long day = Math.floorDiv(start, SECONDS_PER_DAY);
+            long[] bucket = days.getOrDefault(day, new long[0]);
+            int at = 0;
+            while (at < bucket.length && (bucket[at + 1] < start || (bucket[at + 1] == start && bucket[at] < slotId))) {
+                at += STRIDE;
+            }
+            long[] next = new long[bucket.length + STRIDE];
+            System.arraycopy(bucket, 0, next, 0, at);
+            next[at] = slotId;
+            next[at + 1] = start;
+            next[at + 2] = end;
+            System.arraycopy(bucket, at, next, at + STRIDE, bucket.length - at);
+            days.put(day, next);
+            startBySlot.put(slotId, start);
+        }
+
+        void remove(long slotId) {
+            Long start = startBySlot.remove(slotId);
+            if (start == null) return;
+            long day = Math.floorDiv(start, SECONDS_PER_DAY);
+            long[] bucket = days.get(day);
+            if (bucket == null) return;
+            for (int i = 0; i < bucket.length; i += STRIDE) {
+                if (bucket[i] != slotId) continue;
+                if (bucket.length == STRIDE) {
+                    days.remove(day);
+                } else {
+                    long[] next = new long[bucket.length - STRIDE];
+                    System.arraycopy(bucket, 0, next, 0, i);
+                    System.arraycopy(bucket, i + STRIDE, next, i, bucket.length - i - STRIDE);
+                    days.put(day, next);
+                }
+                return;
+            }
+        }
+    }
+}
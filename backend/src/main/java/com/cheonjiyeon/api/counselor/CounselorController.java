@@ -1,8 +1,10 @@
 package com.cheonjiyeon.api.counselor;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -35,4 +37,12 @@ public class CounselorController {
     public CounselorDtos.CounselorDetail detail(@PathVariable Long id) {
         return counselorService.detail(id);
     }
+
+    @GetMapping("/{id}/availability")
+    public CounselorDtos.AvailabilityResponse availability(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return counselorService.availability(id, from, to);
+    }
 }
@@ -1,5 +1,6 @@
 package com.cheonjiyeon.api.counselor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -25,6 +26,10 @@ public class CounselorDtos {
 
     public record SlotItem(Long id, LocalDateTime startAt, LocalDateTime endAt) {}
 
+    public record AvailabilityDay(LocalDate date, List<SlotItem> slots) {}
+
+    public record AvailabilityResponse(Long counselorId, LocalDate from, LocalDate to, List<AvailabilityDay> days) {}
+
     public record CounselorDetail(
             Long id,
             String name,
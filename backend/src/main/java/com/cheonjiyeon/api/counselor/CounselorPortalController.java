@@ -137,6 +137,13 @@ public class CounselorPortalController {
         return portalService.updateSchedule(authHeader, request);
     }
 
+    @PostMapping("/schedule/recurring")
+    public CounselorPortalDtos.RecurringScheduleResponse applyRecurringSchedule(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Valid @RequestBody CounselorPortalDtos.RecurringScheduleRequest request) {
+        return portalService.applyRecurringSchedule(authHeader, request);
+    }
+
     @GetMapping("/reviews")
     public CounselorPortalDtos.CounselorReviewListResponse getReviews(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
@@ -1,10 +1,15 @@
 package com.cheonjiyeon.api.counselor;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 public class CounselorPortalDtos {
@@ -68,6 +73,21 @@ public class CounselorPortalDtos {
 
     public record ScheduleResponse(List<CounselorDtos.SlotItem> slots) {}
 
+    public record RecurringRule(@NotNull DayOfWeek dayOfWeek, @NotNull LocalTime startTime, @NotNull LocalTime endTime) {}
+
+    // startTime/endTime 없이 date만 주면 그날 전체를 제외한다
+    public record ScheduleException(@NotNull LocalDate date, LocalTime startTime, LocalTime endTime) {}
+
+    public record RecurringScheduleRequest(
+            @NotNull LocalDate from,
+            @NotNull LocalDate to,
+            Integer slotMinutes,
+            @NotEmpty List<@Valid RecurringRule> rules,
+            List<@Valid ScheduleException> exceptions
+    ) {}
+
+    public record RecurringScheduleResponse(LocalDate from, LocalDate to, int generated, int skipped) {}
+
     // Review
     public record CounselorReviewItem(Long id, Long reservationId, Long userId, String customerName,
                                        Integer rating, String comment, String reply,
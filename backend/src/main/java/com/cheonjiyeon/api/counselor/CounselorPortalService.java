@@ -1,11 +1,13 @@
 package com.cheonjiyeon.api.counselor;
 
-import com.cheonjiyeon.api.auth.TokenStore;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.booking.BookingEntity;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.booking.BookingSlotEntity;
+import com.cheonjiyeon.api.booking.BookingStatus;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.consultation.ConsultationMemoEntity;
 import com.cheonjiyeon.api.consultation.ConsultationMemoRepository;
@@ -23,12 +25,16 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class CounselorPortalService {
-    private final TokenStore tokenStore;
+    private static final int MAX_RECURRING_DAYS = 184;
+    private static final int DEFAULT_SLOT_MINUTES = 30;
+
+    private final AuthPrincipalResolver authPrincipals;
     private final UserRepository userRepository;
     private final CounselorRepository counselorRepository;
     private final BookingRepository bookingRepository;
@@ -37,9 +43,11 @@ public class CounselorPortalService {
     private final ConsultationSessionRepository sessionRepository;
     private final CounselorSettlementRepository settlementRepository;
     private final ConsultationMemoRepository memoRepository;
+    private final RecurringSlotGenerator recurringSlotGenerator;
+    private final CounselorAvailabilityCalendar availabilityCalendar;
 
     public CounselorPortalService(
-            TokenStore tokenStore,
+            AuthPrincipalResolver authPrincipals,
             UserRepository userRepository,
             CounselorRepository counselorRepository,
             BookingRepository bookingRepository,
@@ -47,9 +55,11 @@ public class CounselorPortalService {
             ReviewRepository reviewRepository,
             ConsultationSessionRepository sessionRepository,
             CounselorSettlementRepository settlementRepository,
-            ConsultationMemoRepository memoRepository
+            ConsultationMemoRepository memoRepository,
+            RecurringSlotGenerator recurringSlotGenerator,
+            CounselorAvailabilityCalendar availabilityCalendar
     ) {
-        this.tokenStore = tokenStore;
+        this.authPrincipals = authPrincipals;
         this.userRepository = userRepository;
         this.counselorRepository = counselorRepository;
         this.bookingRepository = bookingRepository;
@@ -58,6 +68,8 @@ public class CounselorPortalService {
         this.sessionRepository = sessionRepository;
         this.settlementRepository = settlementRepository;
         this.memoRepository = memoRepository;
+        this.recurringSlotGenerator = recurringSlotGenerator;
+        this.availabilityCalendar = availabilityCalendar;
     }
 
     // 1. Get counselor profile
@@ -128,7 +140,7 @@ public class CounselorPortalService {
         int totalBookings = allBookings.size();
 
         int completedSessions = (int) allBookings.stream()
-                .filter(b -> "COMPLETED".equals(b.getStatus()))
+                .filter(b -> BookingStatus.COMPLETED.is(b.getStatus()))
                 .count();
 
         BigDecimal ratingAvg = counselor.getRatingAvg() != null ? counselor.getRatingAvg() : BigDecimal.ZERO;
@@ -169,7 +181,7 @@ public class CounselorPortalService {
                     UserEntity user = userBookings.get(0).getUser();
 
                     int totalSessions = (int) userBookings.stream()
-                            .filter(b -> "COMPLETED".equals(b.getStatus()))
+                            .filter(b -> BookingStatus.COMPLETED.is(b.getStatus()))
                             .count();
 
                     LocalDateTime lastSessionAt = userBookings.stream()
@@ -218,7 +230,7 @@ public class CounselorPortalService {
         // Count completed sessions this month
         List<BookingEntity> allBookings = bookingRepository.findByCounselorIdOrderByIdDesc(counselor.getId());
         List<BookingEntity> completedThisMonth = allBookings.stream()
-                .filter(b -> "COMPLETED".equals(b.getStatus()))
+                .filter(b -> BookingStatus.COMPLETED.is(b.getStatus()))
                 .filter(b -> {
                     LocalDateTime slotStart = getFirstSlotStart(b);
                     if (slotStart == null) return false;
@@ -470,6 +482,43 @@ public class CounselorPortalService {
         return new CounselorPortalDtos.ScheduleResponse(slotItems);
     }
 
+    // 11-1. Apply recurring weekly schedule (keeps existing slots, adds the non-overlapping ones)
+    @Transactional
+    public CounselorPortalDtos.RecurringScheduleResponse applyRecurringSchedule(
+            String authHeader, CounselorPortalDtos.RecurringScheduleRequest request) {
+        CounselorEntity counselor = resolveCounselor(authHeader);
+
+        LocalDate today = LocalDate.now();
+        if (request.to().isBefore(request.from())) {
+            throw new ApiException(400, "종료일은 시작일 이후여야 합니다.");
+        }
+        if (request.from().isBefore(today)) {
+            throw new ApiException(400, "과거 날짜에는 슬롯을 만들 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(request.from(), request.to()) >= MAX_RECURRING_DAYS) {
+            throw new ApiException(400, "반복 일정은 최대 " + MAX_RECURRING_DAYS + "일까지 등록할 수 있습니다.");
+        }
+        int slotMinutes = request.slotMinutes() != null ? request.slotMinutes() : DEFAULT_SLOT_MINUTES;
+        if (slotMinutes < 10 || slotMinutes > 240) {
+            throw new ApiException(400, "슬롯 길이는 10분에서 240분 사이여야 합니다.");
+        }
+        for (CounselorPortalDtos.RecurringRule rule : request.rules()) {
+            if (!rule.endTime().isAfter(rule.startTime())) {
+                throw new ApiException(400, "반복 규칙의 종료 시각은 시작 시각 이후여야 합니다.");
+            }
+        }
+
+        RecurringSlotGenerator.Result result = recurringSlotGenerator.generate(
+                counselor.getId(), request.from(), request.to(),
+                request.rules(), request.exceptions(), slotMinutes, LocalDateTime.now());
+
+        // Native inserts bypass the slot entity listener
+        availabilityCalendar.reloadAfterCommit(counselor.getId());
+
+        return new CounselorPortalDtos.RecurringScheduleResponse(
+                request.from(), request.to(), result.generated(), result.skipped());
+    }
+
     // 12. Get reviews
     public CounselorPortalDtos.CounselorReviewListResponse getReviews(String authHeader, int page, int size) {
         CounselorEntity counselor = resolveCounselor(authHeader);
@@ -513,20 +562,9 @@ public class CounselorPortalService {
 
     // --- Helpers ---
 
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
-
     private CounselorEntity resolveCounselor(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        return counselorRepository.findByUserId(user.getId())
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        return counselorRepository.findByUserId(user.id())
                 .orElseThrow(() -> new ApiException(403, "상담사 계정이 아닙니다."));
     }
 
@@ -10,16 +10,24 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class CounselorService {
+    private static final int DEFAULT_AVAILABILITY_DAYS = 14;
+    private static final int MAX_AVAILABILITY_DAYS = 62;
+
     private final CounselorRepository counselorRepository;
-    private final SlotRepository slotRepository;
+    private final CounselorAvailabilityCalendar availabilityCalendar;
 
-    public CounselorService(CounselorRepository counselorRepository, SlotRepository slotRepository) {
+    public CounselorService(CounselorRepository counselorRepository, CounselorAvailabilityCalendar availabilityCalendar) {
         this.counselorRepository = counselorRepository;
-        this.slotRepository = slotRepository;
+        this.availabilityCalendar = availabilityCalendar;
     }
 
     @Cacheable(value = "counselors", key = "'all'")
@@ -45,10 +53,7 @@ public class CounselorService {
         CounselorEntity c = counselorRepository.findById(counselorId)
                 .orElseThrow(() -> new ApiException(404, "상담사를 찾을 수 없습니다."));
 
-        var slots = slotRepository.findByCounselorIdAndAvailableTrueOrderByStartAtAsc(counselorId)
-                .stream()
-                .map(s -> new CounselorDtos.SlotItem(s.getId(), s.getStartAt(), s.getEndAt()))
-                .toList();
+        var slots = availabilityCalendar.range(counselorId, null, null);
 
         return new CounselorDtos.CounselorDetail(
                 c.getId(), c.getName(), c.getSpecialty(), c.getIntro(), slots,
@@ -60,6 +65,31 @@ public class CounselorService {
         );
     }
 
+    public CounselorDtos.AvailabilityResponse availability(Long counselorId, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(DEFAULT_AVAILABILITY_DAYS - 1);
+        if (end.isBefore(start)) {
+            throw new ApiException(400, "조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_AVAILABILITY_DAYS) {
+            throw new ApiException(400, "최대 " + MAX_AVAILABILITY_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        // Only the first request per counselor reaches the database
+        if (!availabilityCalendar.isLoaded(counselorId) && !counselorRepository.existsById(counselorId)) {
+            throw new ApiException(404, "상담사를 찾을 수 없습니다.");
+        }
+
+        Map<LocalDate, List<CounselorDtos.SlotItem>> byDay = new LinkedHashMap<>();
+        for (CounselorDtos.SlotItem slot : availabilityCalendar.range(
+                counselorId, start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            byDay.computeIfAbsent(slot.startAt().toLocalDate(), d -> new ArrayList<>()).add(slot);
+        }
+        List<CounselorDtos.AvailabilityDay> days = byDay.entrySet().stream()
+                .map(e -> new CounselorDtos.AvailabilityDay(e.getKey(), e.getValue()))
+                .toList();
+        return new CounselorDtos.AvailabilityResponse(counselorId, start, end, days);
+    }
+
     @Caching(evict = {
             @CacheEvict(value = "counselors", allEntries = true),
             @CacheEvict(value = "counselor-detail", allEntries = true)
@@ -0,0 +1,81 @@
+package com.cheonjiyeon.api.counselor;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 규칙으로 펼친 슬롯을 기존 슬롯과 정렬 병합해 겹치지 않는 것만 일괄 저장한다.
+ * 날짜 범위는 {@value #CHUNK_DAYS}일씩 처리해 범위 크기와 무관하게 메모리 사용이 일정하다.
+ */
+@Component
+public class RecurringSlotGenerator {
+    static final int CHUNK_DAYS = 7;
+    // Existing slots longer than this that start before a chunk are not considered for overlap
+    static final Duration MAX_EXISTING_SLOT_SPAN = Duration.ofDays(1);
+
+    private final SlotRepository slotRepository;
+
+    public RecurringSlotGenerator(SlotRepository slotRepository) {
+        this.slotRepository = slotRepository;
+    }
+
+    public record Result(int generated, int skipped) {}
+
+    /** 호출자 트랜잭션 안에서 실행된다. notBefore 이전에 시작하는 슬롯은 만들지 않는다. */
+    public Result generate(Long counselorId, LocalDate from, LocalDate to,
+                           List<CounselorPortalDtos.RecurringRule> rules,
+                           List<CounselorPortalDtos.ScheduleException> exceptions,
+                           int slotMinutes, LocalDateTime notBefore) {
+        SlotScheduleExpander expander = new SlotScheduleExpander(rules, exceptions, slotMinutes, notBefore);
+        int generated = 0;
+        int skipped = 0;
+        List<SlotWindow> candidates = new ArrayList<>();
+        List<SlotWindow> fresh = new ArrayList<>();
+
+        for (LocalDate chunkStart = from; !chunkStart.isAfter(to); chunkStart = chunkStart.plusDays(CHUNK_DAYS)) {
+            LocalDate chunkEnd = chunkStart.plusDays(CHUNK_DAYS - 1);
+            if (chunkEnd.isAfter(to)) chunkEnd = to;
+
+            candidates.clear();
+            for (LocalDate day = chunkStart; !day.isAfter(chunkEnd); day = day.plusDays(1)) {
+                expander.expand(day, candidates);
+            }
+            if (candidates.isEmpty()) continue;
+
+            // Bounded on start_at only so the (counselor_id, start_at) index range stays per-chunk
+            List<SlotWindow> existing = slotRepository.findWindowsStartingBetween(counselorId,
+                    candidates.get(0).startAt().minus(MAX_EXISTING_SLOT_SPAN),
+                    candidates.get(candidates.size() - 1).endAt());
+            fresh.clear();
+            mergeNonOverlapping(candidates, existing, fresh);
+
+            skipped += candidates.size() - fresh.size();
+            generated += slotRepository.insertAll(counselorId, fresh);
+        }
+        return new Result(generated, skipped);
+    }
+
+    /**
+     * 두 목록 모두 시작 시각 순이고 후보끼리는 겹치지 않는다.
+     * 한 번의 순회로 기존 슬롯과 겹치는 후보를 걸러 out에 담는다.
+     */
+    static void mergeNonOverlapping(List<SlotWindow> candidates, List<SlotWindow> existing, List<SlotWindow> out) {
+        int next = 0;
+        LocalDateTime reach = null;   // latest end among existing slots starting before the current candidate ends
+        for (SlotWindow candidate : candidates) {
+            while (next < existing.size() && existing.get(next).startAt().isBefore(candidate.endAt())) {
+                LocalDateTime end = existing.get(next).endAt();
+                if (reach == null || end.isAfter(reach)) reach = end;
+                next++;
+            }
+            if (reach == null || !reach.isAfter(candidate.startAt())) {
+                out.add(candidate);
+            }
+        }
+    }
+}
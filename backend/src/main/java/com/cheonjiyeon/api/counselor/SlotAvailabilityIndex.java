@@ -0,0 +1,251 @@
+package com.cheonjiyeon.api.counselor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 노드 로컬 슬롯 가용성 인덱스.
+ *
+ * 슬롯 ID별 상태(UNKNOWN / AVAILABLE / TAKEN)를 2비트씩 long 워드에 담아 CAS로 갱신한다.
+ * 이미 점유된 것으로 알려진 슬롯은 트랜잭션을 열기 전에 거절하고,
+ * 그 외에는 통과시켜 DB 비관적 락이 최종 판단을 하도록 한다.
+ *
+ * 다른 노드의 취소나 벌크 UPDATE처럼 이 노드가 보지 못한 해제가 있을 수 있으므로
+ * TAKEN은 booking.slot-index.taken-ttl 이 지나면 UNKNOWN으로 돌아가 다시 DB가 판단한다.
+ */
+@Component
+public class SlotAvailabilityIndex {
+
+    public enum State { UNKNOWN, AVAILABLE, TAKEN }
+
+    private static final int PAGE_SHIFT = 12;                    // 4096 slots per page
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int SLOTS_PER_WORD = 32;                // 2 bits per slot
+    private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) / SLOTS_PER_WORD;
+    private static final int MAX_PAGES = 1 << 20;
+
+    private static final long BITS_AVAILABLE = 0b01L;
+    private static final long BITS_TAKEN = 0b11L;
+    // TAKEN that has lived through one aging pass; cleared on the next one
+    private static final long BITS_TAKEN_AGED = 0b10L;
+    private static final long LO_BITS = 0x5555_5555_5555_5555L;
+    private static final long HI_BITS = 0xAAAA_AAAA_AAAA_AAAAL;
+
+    private volatile AtomicReferenceArray<Page> pages = new AtomicReferenceArray<>(16);
+    private final Object resizeLock = new Object();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rejectCounter;
+    private final Counter falsePositiveCounter;
+    private final long agingIntervalNanos;
+
+    public SlotAvailabilityIndex(MeterRegistry meterRegistry,
+                                 @Value("${booking.slot-index.taken-ttl:PT30S}") Duration takenTtl) {
+        // Two aging passes per TTL: a TAKEN entry lives between half and the full TTL
+        this.agingIntervalNanos = Math.max(1, takenTtl.toNanos() / 2);
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.rejectCounter = lookupCounter(meterRegistry, "reject");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("booking.slot_index.pages", this, idx -> idx.pages.length())
+                .description("Allocated pages in the slot availability index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 슬롯 중 하나라도 TAKEN으로 알려져 있으면 false.
+     * UNKNOWN 슬롯은 DB 확인 대상으로 통과시킨다.
+     */
+    public boolean mightBeAvailable(Collection<Long> slotIds) {
+        boolean allKnown = true;
+        for (Long slotId : slotIds) {
+            if (slotId == null) continue;
+            State state = state(slotId);
+            if (state == State.TAKEN) {
+                rejectCounter.increment();
+                return false;
+            }
+            if (state == State.UNKNOWN) allKnown = false;
+        }
+        (allKnown ? hitCounter : missCounter).increment();
+        return true;
+    }
+
+    /** 인덱스를 통과했지만 DB 락 확인 결과 이미 점유된 슬롯이었던 경우. */
+    public void recordFalsePositive() {
+        falsePositiveCounter.increment();
+    }
+
+    public State state(long slotId) {
+        Page page = pageFor(slotId, false);
+        if (page == null) return State.UNKNOWN;
+        age(page);
+        long bits = (page.words.get(wordIndex(slotId)) >>> shift(slotId)) & 0b11L;
+        if (bits == BITS_TAKEN || bits == BITS_TAKEN_AGED) return State.TAKEN;
+        if (bits == BITS_AVAILABLE) return State.AVAILABLE;
+        return State.UNKNOWN;
+    }
+
+    public void update(long slotId, boolean available) {
+        write(slotId, available ? BITS_AVAILABLE : BITS_TAKEN);
+    }
+
+    /**
+     * 엔티티 조회로 본 상태를 반영한다. 조회 시점의 값은 커밋 순서를 보장하지 않으므로
+     * 점유(TAKEN)는 모르는 슬롯에만 채우고, 가용(AVAILABLE)은 알려진 TAKEN도 풀어 준다.
+     * 잘못 풀어도 DB 락 확인 한 번이 늘 뿐이지만, 잘못 막으면 예약이 거절되기 때문이다.
+     */
+    public void observe(long slotId, boolean available) {
+        Page page = pageFor(slotId, true);
+        if (page == null) return;
+        age(page);
+        int word = wordIndex(slotId);
+        int shift = shift(slotId);
+        long mask = 0b11L << shift;
+        long prev;
+        long next;
+        do {
+            prev = page.words.get(word);
+            long current = prev & mask;
+            if (available) {
+                if (current == BITS_AVAILABLE << shift) return;
+                next = (prev & ~mask) | (BITS_AVAILABLE << shift);
+            } else {
+                if (current != 0L) return;
+                next = prev | (BITS_TAKEN << shift);
+            }
+        } while (!page.words.compareAndSet(word, prev, next));
+    }
+
+    public void forget(long slotId) {
+        if (pageFor(slotId, false) != null) write(slotId, 0L);
+    }
+
+    /** 벌크 UPDATE처럼 엔티티 리스너를 거치지 않는 변경을 커밋 이후 반영한다. */
+    public void updateAfterCommit(Collection<Long> slotIds, boolean available) {
+        List<Long> ids = List.copyOf(slotIds);
+        afterCommit(() -> ids.forEach(id -> update(id, available)));
+    }
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void write(long slotId, long bits) {
+        Page page = pageFor(slotId, bits != 0L);
+        if (page == null) return;
+        // Catch up first so a fresh TAKEN is not counted against time that passed before it
+        age(page);
+        int word = wordIndex(slotId);
+        int shift = shift(slotId);
+        long mask = 0b11L << shift;
+        long prev;
+        long next;
+        do {
+            prev = page.words.get(word);
+            next = (prev & ~mask) | (bits << shift);
+        } while (prev != next && !page.words.compareAndSet(word, prev, next));
+    }
+
+    /** 페이지 단위로 지연 노화: TAKEN → TAKEN_AGED → UNKNOWN. AVAILABLE은 그대로 둔다. */
+    private void age(Page page) {
+        long now = System.nanoTime();
+        long last = page.agedAt.get();
+        long passes = (now - last) / agingIntervalNanos;
+        if (passes == 0 || !page.agedAt.compareAndSet(last, now)) return;
+        // An idle page catches up on the passes it missed; two already clear every TAKEN
+        boolean twice = passes > 1;
+        for (int i = 0; i < WORDS_PER_PAGE; i++) {
+            long prev;
+            long next;
+            do {
+                prev = page.words.get(i);
+                next = twice ? aged(aged(prev)) : aged(prev);
+            } while (prev != next && !page.words.compareAndSet(i, prev, next));
+        }
+    }
+
+    // Per 2-bit slot: 11 -> 10, 10 -> 00, 01 -> 01, 00 -> 00
+    static long aged(long word) {
+        long hi = word & (word << 1) & HI_BITS;
+        long lo = word & ~(word >>> 1) & LO_BITS;
+        return hi | lo;
+    }
+
+    private Page pageFor(long slotId, boolean create) {
+        if (slotId < 0) return null;
+        long pageIndex = slotId >>> PAGE_SHIFT;
+        if (pageIndex >= MAX_PAGES) return null;
+        int p = (int) pageIndex;
+
+        AtomicReferenceArray<Page> current = pages;
+        if (p < current.length()) {
+            Page page = current.get(p);
+            if (page != null || !create) return page;
+        } else if (!create) {
+            return null;
+        }
+
+        synchronized (resizeLock) {
+            current = pages;
+            if (p >= current.length()) {
+                int newLength = current.length();
+                while (newLength <= p) newLength <<= 1;
+                AtomicReferenceArray<Page> grown = new AtomicReferenceArray<>(Math.min(newLength, MAX_PAGES));
+                for (int i = 0; i < current.length(); i++) {
+                    grown.set(i, current.get(i));
+                }
+                pages = grown;
+                current = grown;
+            }
+            Page page = current.get(p);
+            if (page == null) {
+                page = new Page();
+                current.set(p, page);
+            }
+            return page;
+        }
+    }
+
+    private static final class Page {
+        final AtomicLongArray words = new AtomicLongArray(WORDS_PER_PAGE);
+        final AtomicLong agedAt = new AtomicLong(System.nanoTime());
+    }
+
+    private static int wordIndex(long slotId) {
+        return ((int) slotId & PAGE_MASK) / SLOTS_PER_WORD;
+    }
+
+    private static int shift(long slotId) {
+        return ((int) slotId % SLOTS_PER_WORD) * 2;
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("booking.slot_index.lookups")
+                .description("Slot availability index pre-check results")
+                .tag("result", result)
+                .register(registry);
+    }
+}
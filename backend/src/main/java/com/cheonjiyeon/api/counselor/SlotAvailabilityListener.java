@@ -0,0 +1,55 @@
+package com.cheonjiyeon.api.counselor;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+
+/**
+ * SlotEntity 상태 변경을 {@link SlotAvailabilityIndex}와 {@link CounselorAvailabilityCalendar}에 반영하는 엔티티 리스너.
+ * 쓰기는 커밋 이후에만 반영해 롤백된 점유가 인덱스에 남지 않도록 한다.
+ */
+public class SlotAvailabilityListener {
+    private final SlotAvailabilityIndex index;
+    // Resolved lazily: the calendar depends on SlotRepository, which needs the EntityManagerFactory
+    private final ObjectProvider<CounselorAvailabilityCalendar> calendar;
+
+    public SlotAvailabilityListener(SlotAvailabilityIndex index,
+                                    ObjectProvider<CounselorAvailabilityCalendar> calendar) {
+        this.index = index;
+        this.calendar = calendar;
+    }
+
+    // A load may have read the row before a concurrent commit; the index only trusts it where that is harmless
+    @PostLoad
+    void onLoad(SlotEntity slot) {
+        index.observe(slot.getId(), slot.isAvailable());
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onWrite(SlotEntity slot) {
+        long slotId = slot.getId();
+        long counselorId = slot.getCounselor().getId();
+        boolean available = slot.isAvailable();
+        LocalDateTime startAt = slot.getStartAt();
+        LocalDateTime endAt = slot.getEndAt();
+        SlotAvailabilityIndex.afterCommit(() -> {
+            index.update(slotId, available);
+            calendar.getObject().apply(counselorId, slotId, startAt, endAt, available);
+        });
+    }
+
+    @PostRemove
+    void onRemove(SlotEntity slot) {
+        long slotId = slot.getId();
+        long counselorId = slot.getCounselor().getId();
+        SlotAvailabilityIndex.afterCommit(() -> {
+            index.forget(slotId);
+            calendar.getObject().remove(counselorId, slotId);
+        });
+    }
+}
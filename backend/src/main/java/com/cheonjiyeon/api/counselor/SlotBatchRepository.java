@@ -0,0 +1,8 @@
+package com.cheonjiyeon.api.counselor;
+
+import java.util.List;
+
+public interface SlotBatchRepository {
+    /** counselor_slots 행을 multi-row INSERT로 저장한다. 반환값은 저장된 행 수. */
+    int insertAll(Long counselorId, List<SlotWindow> windows);
+}
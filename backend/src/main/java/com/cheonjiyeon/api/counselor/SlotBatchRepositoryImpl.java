@@ -0,0 +1,44 @@
+package com.cheonjiyeon.api.counselor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * counselor_slots도 IDENTITY 키라 JDBC 배치 INSERT가 적용되지 않으므로,
+ * 최대 {@value #ROWS_PER_STATEMENT}행씩 VALUES 절을 묶은 native INSERT로 저장한다.
+ */
+class SlotBatchRepositoryImpl implements SlotBatchRepository {
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private final EntityManager em;
+
+    SlotBatchRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public int insertAll(Long counselorId, List<SlotWindow> windows) {
+        int inserted = 0;
+        for (int from = 0; from < windows.size(); from += ROWS_PER_STATEMENT) {
+            List<SlotWindow> chunk = windows.subList(from, Math.min(from + ROWS_PER_STATEMENT, windows.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO counselor_slots (counselor_id, start_at, end_at, available) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append("(?, ?, ?, TRUE)");
+            }
+
+            Query query = em.createNativeQuery(sql.toString());
+            int position = 1;
+            for (SlotWindow window : chunk) {
+                query.setParameter(position++, counselorId);
+                query.setParameter(position++, window.startAt());
+                query.setParameter(position++, window.endAt());
+            }
+            inserted += query.executeUpdate();
+        }
+        return inserted;
+    }
+}
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "counselor_slots")
+@EntityListeners(SlotAvailabilityListener.class)
 public class SlotEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,6 +25,12 @@ public class SlotEntity {
     @Column(nullable = false)
     private boolean available;
 
+    @Column(name = "held_by_user_id")
+    private Long heldByUserId;
+
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     public Long getId() { return id; }
     public CounselorEntity getCounselor() { return counselor; }
     public void setCounselor(CounselorEntity counselor) { this.counselor = counselor; }
@@ -33,5 +40,17 @@ public class SlotEntity {
     public void setEndAt(LocalDateTime endAt) { this.endAt = endAt; }
     public boolean isAvailable() { return available; }
     public void setAvailable(boolean available) { this.available = available; }
+    public Long getHeldByUserId() { return heldByUserId; }
+    public LocalDateTime getHoldExpiresAt() { return holdExpiresAt; }
+
+    public boolean isHeldByOther(Long userId, LocalDateTime now) {
+        return heldByUserId != null && !heldByUserId.equals(userId)
+                && holdExpiresAt != null && holdExpiresAt.isAfter(now);
+    }
+
+    public void clearHold() {
+        this.heldByUserId = null;
+        this.holdExpiresAt = null;
+    }
 }
 
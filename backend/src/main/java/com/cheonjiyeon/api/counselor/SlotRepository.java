@@ -3,12 +3,14 @@ package com.cheonjiyeon.api.counselor;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface SlotRepository extends JpaRepository<SlotEntity, Long> {
+public interface SlotRepository extends JpaRepository<SlotEntity, Long>, SlotBatchRepository {
     List<SlotEntity> findByCounselorIdAndAvailableTrueOrderByStartAtAsc(Long counselorId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -19,7 +21,36 @@ public interface SlotRepository extends JpaRepository<SlotEntity, Long> {
     @Query("select s from SlotEntity s where s.id in :ids order by s.startAt asc")
     List<SlotEntity> findByIdsForUpdate(List<Long> ids);
 
+    @Modifying
+    @Query("UPDATE SlotEntity s SET s.available = :available, s.heldByUserId = null, s.holdExpiresAt = null " +
+            "WHERE s.id IN :ids")
+    int updateAvailability(List<Long> ids, boolean available);
+
+    @Modifying
+    @Query("UPDATE SlotEntity s SET s.heldByUserId = :userId, s.holdExpiresAt = :expiresAt " +
+            "WHERE s.id IN :ids AND s.counselor.id = :counselorId AND s.available = true " +
+            "AND (s.heldByUserId IS NULL OR s.heldByUserId = :userId OR s.holdExpiresAt <= :now)")
+    int holdSlots(List<Long> ids, Long counselorId, Long userId, LocalDateTime expiresAt, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE SlotEntity s SET s.heldByUserId = null, s.holdExpiresAt = null " +
+            "WHERE s.id IN :ids AND s.heldByUserId = :userId")
+    int releaseHolds(List<Long> ids, Long userId);
+
+    @Modifying
+    @Query("UPDATE SlotEntity s SET s.heldByUserId = null, s.holdExpiresAt = null " +
+            "WHERE s.id IN :ids AND s.holdExpiresAt <= :now")
+    int releaseExpiredHolds(List<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE SlotEntity s SET s.heldByUserId = null, s.holdExpiresAt = null WHERE s.holdExpiresAt <= :now")
+    int releaseAllExpiredHolds(LocalDateTime now);
+
     long countByAvailableTrue();
 
     List<SlotEntity> findByCounselorIdOrderByStartAtAsc(Long counselorId);
+
+    @Query("select new com.cheonjiyeon.api.counselor.SlotWindow(s.startAt, s.endAt) from SlotEntity s " +
+            "where s.counselor.id = :counselorId and s.startAt >= :from and s.startAt < :to order by s.startAt asc")
+    List<SlotWindow> findWindowsStartingBetween(Long counselorId, LocalDateTime from, LocalDateTime to);
 }
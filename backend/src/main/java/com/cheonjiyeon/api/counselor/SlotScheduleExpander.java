@@ -0,0 +1,72 @@
+package com.cheonjiyeon.api.counselor;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요일별 반복 규칙과 예외를 하루 단위로 펼쳐 시작 시각 순 슬롯 구간을 만든다.
+ * 날짜 범위 전체를 미리 만들지 않으므로 호출자가 원하는 크기로 끊어 소비할 수 있다.
+ */
+final class SlotScheduleExpander {
+    private final Map<DayOfWeek, List<CounselorPortalDtos.RecurringRule>> rulesByDay = new EnumMap<>(DayOfWeek.class);
+    private final Map<LocalDate, List<CounselorPortalDtos.ScheduleException>> exceptionsByDate = new HashMap<>();
+    private final Duration slotLength;
+    private final LocalDateTime notBefore;
+
+    SlotScheduleExpander(List<CounselorPortalDtos.RecurringRule> rules,
+                         List<CounselorPortalDtos.ScheduleException> exceptions,
+                         int slotMinutes,
+                         LocalDateTime notBefore) {
+        for (CounselorPortalDtos.RecurringRule rule : rules) {
+            rulesByDay.computeIfAbsent(rule.dayOfWeek(), d -> new ArrayList<>()).add(rule);
+        }
+        rulesByDay.values().forEach(list -> list.sort(Comparator.comparing(CounselorPortalDtos.RecurringRule::startTime)));
+        if (exceptions != null) {
+            for (CounselorPortalDtos.ScheduleException exception : exceptions) {
+                exceptionsByDate.computeIfAbsent(exception.date(), d -> new ArrayList<>()).add(exception);
+            }
+        }
+        this.slotLength = Duration.ofMinutes(slotMinutes);
+        this.notBefore = notBefore;
+    }
+
+    /** 하루치 슬롯을 out에 추가한다. 규칙끼리 겹치면 먼저 시작하는 슬롯만 남긴다. */
+    void expand(LocalDate date, List<SlotWindow> out) {
+        List<CounselorPortalDtos.RecurringRule> rules = rulesByDay.get(date.getDayOfWeek());
+        if (rules == null) return;
+        List<CounselorPortalDtos.ScheduleException> blocked = exceptionsByDate.getOrDefault(date, List.of());
+
+        LocalDateTime lastEnd = null;
+        for (CounselorPortalDtos.RecurringRule rule : rules) {
+            LocalDateTime ruleEnd = date.atTime(rule.endTime());
+            for (LocalDateTime start = date.atTime(rule.startTime()); ; start = start.plus(slotLength)) {
+                LocalDateTime end = start.plus(slotLength);
+                if (end.isAfter(ruleEnd)) break;
+                if (lastEnd != null && start.isBefore(lastEnd)) continue;
+                if (start.isBefore(notBefore) || isBlocked(blocked, date, start, end)) continue;
+                out.add(new SlotWindow(start, end));
+                lastEnd = end;
+            }
+        }
+    }
+
+    private static boolean isBlocked(List<CounselorPortalDtos.ScheduleException> blocked,
+                                     LocalDate date, LocalDateTime start, LocalDateTime end) {
+        for (CounselorPortalDtos.ScheduleException exception : blocked) {
+            // An exception without times blocks the whole day
+            if (exception.startTime() == null || exception.endTime() == null) return true;
+            if (start.isBefore(date.atTime(exception.endTime())) && end.isAfter(date.atTime(exception.startTime()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
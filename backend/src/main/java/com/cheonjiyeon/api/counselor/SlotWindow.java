@@ -0,0 +1,6 @@
+package com.cheonjiyeon.api.counselor;
+
+import java.time.LocalDateTime;
+
+/** 슬롯의 시작/종료 구간. 일괄 생성과 기존 슬롯 병합에 쓰는 경량 투영. */
+public record SlotWindow(LocalDateTime startAt, LocalDateTime endAt) {}
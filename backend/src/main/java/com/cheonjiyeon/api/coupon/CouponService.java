@@ -1,9 +1,8 @@
 package com.cheonjiyeon.api.coupon;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.AuthService;
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.common.ApiException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,27 +17,24 @@ import java.util.Map;
 public class CouponService {
     private final CouponRepository couponRepository;
     private final CouponUsageRepository couponUsageRepository;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
 
     public CouponService(
             CouponRepository couponRepository,
             CouponUsageRepository couponUsageRepository,
-            TokenStore tokenStore,
-            UserRepository userRepository
+            AuthPrincipalResolver authPrincipals
     ) {
         this.couponRepository = couponRepository;
         this.couponUsageRepository = couponUsageRepository;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
     }
 
     public Map<String, Object> validateCoupon(String authHeader, String code, Long orderAmount) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         CouponEntity coupon = couponRepository.findByCode(code)
                 .orElseThrow(() -> new ApiException(404, "존재하지 않는 쿠폰 코드입니다."));
 
-        validateCouponUsability(coupon, user.getId(), orderAmount);
+        validateCouponUsability(coupon, user.id(), orderAmount);
 
         long discount = calculateDiscount(coupon, orderAmount);
 
@@ -53,16 +49,16 @@ public class CouponService {
 
     @Transactional
     public Map<String, Object> applyCoupon(String authHeader, String code) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         CouponEntity coupon = couponRepository.findByCode(code)
                 .orElseThrow(() -> new ApiException(404, "존재하지 않는 쿠폰 코드입니다."));
 
-        validateCouponUsability(coupon, user.getId(), 0L);
+        validateCouponUsability(coupon, user.id(), 0L);
 
         // Record usage
         CouponUsageEntity usage = new CouponUsageEntity();
         usage.setCouponId(coupon.getId());
-        usage.setUserId(user.getId());
+        usage.setUserId(user.id());
         couponUsageRepository.save(usage);
 
         // Increment used count
@@ -170,16 +166,4 @@ public class CouponService {
             default -> 0L;
         };
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
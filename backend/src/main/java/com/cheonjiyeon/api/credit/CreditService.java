@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.credit;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.product.ProductEntity;
 import com.cheonjiyeon.api.product.ProductService;
@@ -19,28 +18,25 @@ public class CreditService {
     private final CreditUsageLogRepository usageLogRepository;
     private final ProductService productService;
     private final WalletService walletService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
 
     public CreditService(
             CreditRepository creditRepository,
             CreditUsageLogRepository usageLogRepository,
             ProductService productService,
             WalletService walletService,
-            TokenStore tokenStore,
-            UserRepository userRepository
+            AuthPrincipalResolver authPrincipals
     ) {
         this.creditRepository = creditRepository;
         this.usageLogRepository = usageLogRepository;
         this.productService = productService;
         this.walletService = walletService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
     }
 
     @Transactional
     public CreditDtos.CreditPurchaseResponse purchaseCredits(String authHeader, CreditDtos.PurchaseCreditRequest req) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         ProductEntity product = productService.findById(req.productId());
 
         if (!product.getActive()) {
@@ -54,11 +50,11 @@ public class CreditService {
         }
 
         // Deduct from wallet (uses pessimistic lock internally)
-        walletService.debit(user.getId(), product.getPriceKrw(), "CREDIT_PURCHASE", null);
+        walletService.debit(user.id(), product.getPriceKrw(), "CREDIT_PURCHASE", null);
 
         // Create credit record
         CreditEntity credit = new CreditEntity();
-        credit.setUserId(user.getId());
+        credit.setUserId(user.id());
         credit.setTotalUnits(units);
         credit.setRemainingUnits(units);
         credit.setProductId(product.getId());
@@ -76,16 +72,16 @@ public class CreditService {
 
     @Transactional(readOnly = true)
     public CreditDtos.CreditBalanceResponse getMyBalance(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        int totalUnits = creditRepository.sumTotalUnitsByUserId(user.getId());
-        int remainingUnits = creditRepository.sumRemainingUnitsByUserId(user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        int totalUnits = creditRepository.sumTotalUnitsByUserId(user.id());
+        int remainingUnits = creditRepository.sumRemainingUnitsByUserId(user.id());
         return new CreditDtos.CreditBalanceResponse(totalUnits, totalUnits - remainingUnits, remainingUnits);
     }
 
     @Transactional(readOnly = true)
     public CreditDtos.CreditHistoryResponse getHistory(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        List<CreditEntity> credits = creditRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        List<CreditEntity> credits = creditRepository.findByUserIdOrderByCreatedAtDesc(user.id());
 
         List<CreditDtos.CreditHistoryItem> items = credits.stream()
                 .map(c -> {
@@ -139,15 +135,4 @@ public class CreditService {
             usageLogRepository.delete(usage);
         }
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.dispute;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.common.ApiException;
 import org.springframework.data.domain.Page;
@@ -14,24 +13,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class DisputeService {
     private final DisputeRepository disputeRepository;
     private final BookingRepository bookingRepository;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
 
     public DisputeService(
             DisputeRepository disputeRepository,
             BookingRepository bookingRepository,
-            TokenStore tokenStore,
-            UserRepository userRepository
+            AuthPrincipalResolver authPrincipals
     ) {
         this.disputeRepository = disputeRepository;
         this.bookingRepository = bookingRepository;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
     }
 
     @Transactional
     public DisputeEntity createDispute(String authHeader, DisputeDtos.CreateDisputeRequest req) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         // Validate reservation exists
         bookingRepository.findById(req.reservationId())
@@ -39,7 +35,7 @@ public class DisputeService {
 
         DisputeEntity dispute = new DisputeEntity();
         dispute.setReservationId(req.reservationId());
-        dispute.setUserId(user.getId());
+        dispute.setUserId(user.id());
         dispute.setCategory(req.category());
         dispute.setDescription(req.description());
         dispute.setStatus("OPEN");
@@ -48,12 +44,12 @@ public class DisputeService {
     }
 
     public DisputeDtos.DisputeResponse getDisputeById(String authHeader, Long id) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         DisputeEntity dispute = disputeRepository.findById(id)
                 .orElseThrow(() -> new ApiException(404, "분쟁을 찾을 수 없습니다."));
 
-        if (!dispute.getUserId().equals(user.getId())) {
+        if (!dispute.getUserId().equals(user.id())) {
             throw new ApiException(403, "본인의 분쟁만 조회할 수 있습니다.");
         }
 
@@ -61,10 +57,10 @@ public class DisputeService {
     }
 
     public DisputeDtos.DisputeListResponse getMyDisputes(String authHeader, int page, int size) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         Page<DisputeEntity> disputePage = disputeRepository.findByUserIdOrderByCreatedAtDesc(
-                user.getId(),
+                user.id(),
                 PageRequest.of(page, size)
         );
 
@@ -76,16 +72,4 @@ public class DisputeService {
                 disputePage.getTotalElements()
         );
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
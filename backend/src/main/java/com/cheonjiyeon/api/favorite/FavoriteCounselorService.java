@@ -1,8 +1,6 @@
 package com.cheonjiyeon.api.favorite;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.counselor.CounselorEntity;
 import com.cheonjiyeon.api.counselor.CounselorRepository;
@@ -20,22 +18,19 @@ import java.util.Map;
 public class FavoriteCounselorService {
     private final FavoriteCounselorRepository favoriteRepository;
     private final CounselorRepository counselorRepository;
-    private final UserRepository userRepository;
-    private final TokenStore tokenStore;
+    private final AuthPrincipalResolver authPrincipals;
 
     public FavoriteCounselorService(FavoriteCounselorRepository favoriteRepository,
                                     CounselorRepository counselorRepository,
-                                    UserRepository userRepository,
-                                    TokenStore tokenStore) {
+                                    AuthPrincipalResolver authPrincipals) {
         this.favoriteRepository = favoriteRepository;
         this.counselorRepository = counselorRepository;
-        this.userRepository = userRepository;
-        this.tokenStore = tokenStore;
+        this.authPrincipals = authPrincipals;
     }
 
     @Transactional
     public Map<String, Object> addFavorite(String authHeader, Long counselorId) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.requireUserId(authHeader);
 
         counselorRepository.findById(counselorId)
                 .orElseThrow(() -> new ApiException(404, "상담사를 찾을 수 없습니다."));
@@ -54,7 +49,7 @@ public class FavoriteCounselorService {
 
     @Transactional
     public Map<String, Object> removeFavorite(String authHeader, Long counselorId) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.requireUserId(authHeader);
 
         FavoriteCounselorEntity entity = favoriteRepository.findByUserIdAndCounselorId(userId, counselorId)
                 .orElseThrow(() -> new ApiException(404, "즐겨찾기에 없는 상담사입니다."));
@@ -66,7 +61,7 @@ public class FavoriteCounselorService {
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> listFavorites(String authHeader, int page, int size) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.requireUserId(authHeader);
 
         Page<FavoriteCounselorEntity> favorites = favoriteRepository
                 .findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, size));
@@ -91,17 +86,8 @@ public class FavoriteCounselorService {
 
     @Transactional(readOnly = true)
     public Map<String, Object> checkFavoriteStatus(String authHeader, Long counselorId) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.requireUserId(authHeader);
         boolean favorited = favoriteRepository.existsByUserIdAndCounselorId(userId, counselorId);
         return Map.of("counselorId", counselorId, "favorited", favorited);
     }
-
-    private Long resolveUserId(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        return tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-    }
 }
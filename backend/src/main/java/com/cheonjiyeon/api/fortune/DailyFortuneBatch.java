@@ -0,0 +1,218 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.auth.UserEntity;
+import com.cheonjiyeon.api.auth.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자정 일일 운세 선계산 배치.
+ *
+ * 출생 정보가 있는 사용자를 id 순 청크로 읽어 청크마다 운세를 병렬 계산하고
+ * daily_fortunes에 JDBC 배치 INSERT한다. 이미 운세가 있는 사용자는 건너뛰므로 재실행해도 안전하다.
+ * 배치가 끝난 날에는 getOrGenerateTodayFortune이 조회만 하게 된다.
+ */
+@Service
+public class DailyFortuneBatch {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyFortuneBatch.class);
+
+    // IGNORE: a user who opened the app mid-batch already has a row from the request path
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO daily_fortunes (
+                user_id, fortune_date, overall_score, wealth_score, love_score, health_score,
+                overall_text, wealth_text, love_text, health_text,
+                lucky_color, lucky_number, lucky_direction,
+                daily_gan_index, daily_ji_index, twelve_unseong, sipseong, harmony_type,
+                career_score, career_text, study_score, study_text,
+                lucky_time, warning_time, saju_insight, counselor_cta_message, created_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final UserRepository userRepository;
+    private final SajuChartRepository sajuChartRepository;
+    private final FortuneRepository fortuneRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final Timer durationTimer;
+    private final Counter insertedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final AtomicReference<Double> lastUsersPerSecond = new AtomicReference<>(0.0);
+
+    public DailyFortuneBatch(UserRepository userRepository,
+                             SajuChartRepository sajuChartRepository,
+                             FortuneRepository fortuneRepository,
+                             JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${fortune.batch.chunk-size:1000}") int chunkSize,
+                             @Value("${fortune.batch.parallelism:0}") int parallelism) {
+        this.userRepository = userRepository;
+        this.sajuChartRepository = sajuChartRepository;
+        this.fortuneRepository = fortuneRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        this.durationTimer = Timer.builder("fortune.batch.duration")
+                .description("Daily fortune precompute batch run time")
+                .register(meterRegistry);
+        this.insertedCounter = usersCounter(meterRegistry, "inserted");
+        this.skippedCounter = usersCounter(meterRegistry, "skipped");
+        this.failedCounter = usersCounter(meterRegistry, "failed");
+        Gauge.builder("fortune.batch.users_per_second", lastUsersPerSecond, AtomicReference::get)
+                .description("Throughput of the last daily fortune batch run")
+                .register(meterRegistry);
+    }
+
+    public record Result(LocalDate date, int users, int inserted, int skipped, int failed,
+                         long elapsedMillis, double usersPerSecond) {}
+
+    public Result run(LocalDate date) {
+        long startedAt = System.nanoTime();
+        int users = 0, inserted = 0, skipped = 0, failed = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<UserEntity> chunk = userRepository.findByBirthDateIsNotNullAndIdGreaterThanOrderByIdAsc(
+                        afterId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) break;
+                afterId = chunk.get(chunk.size() - 1).getId();
+                users += chunk.size();
+
+                List<Long> ids = chunk.stream().map(UserEntity::getId).toList();
+                Set<Long> done = new HashSet<>(fortuneRepository.findUserIdsWithFortuneOn(date, ids));
+                Map<Long, SajuChartEntity> cachedCharts = sajuChartRepository.findByUserIdIn(ids).stream()
+                        .collect(Collectors.toMap(SajuChartEntity::getUserId, Function.identity(), (a, b) -> a));
+                List<UserEntity> pending = chunk.stream().filter(u -> !done.contains(u.getId())).toList();
+                skipped += chunk.size() - pending.size();
+
+                List<FortuneEntity> fortunes = pool.submit(() -> pending.parallelStream()
+                        .map(user -> compute(user, cachedCharts.get(user.getId()), date))
+                        .filter(f -> f != null)
+                        .toList()).join();
+                failed += pending.size() - fortunes.size();
+
+                int written = insert(fortunes);
+                inserted += written;
+                // Rows dropped by IGNORE were written by the request path in the meantime
+                skipped += fortunes.size() - written;
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double perSecond = users == 0 ? 0 : users / (elapsedNanos / 1_000_000_000.0);
+        durationTimer.record(Duration.ofNanos(elapsedNanos));
+        insertedCounter.increment(inserted);
+        skippedCounter.increment(skipped);
+        failedCounter.increment(failed);
+        lastUsersPerSecond.set(perSecond);
+
+        Result result = new Result(date, users, inserted, skipped, failed, elapsedNanos / 1_000_000, perSecond);
+        log.info("Daily fortune batch {}: users={} inserted={} skipped={} failed={} elapsed={}ms ({} users/sec)",
+                date, users, inserted, skipped, failed, result.elapsedMillis(), String.format("%.0f", perSecond));
+        return result;
+    }
+
+    private FortuneEntity compute(UserEntity user, SajuChartEntity cachedChart, LocalDate date) {
+        try {
+            if (cachedChart != null) {
+                return DailyFortuneTable.lookup(FortuneService.chartCode(cachedChart), date).newFortune(user.getId(), date);
+            }
+            return FortuneService.newSajuFortune(user.getId(), date, FortuneService.calculateChart(user));
+        } catch (RuntimeException e) {
+            // One bad birth record must not stop the batch; the request path retries it lazily
+            log.warn("Daily fortune batch skipped userId={}: {}", user.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private int insert(List<FortuneEntity> fortunes) {
+        if (fortunes.isEmpty()) return 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, fortunes, fortunes.size(),
+                (ps, f) -> bind(ps, f, now));
+        int written = 0;
+        for (int[] batch : counts) {
+            for (int c : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for rewritten batches
+                written += c == PreparedStatement.SUCCESS_NO_INFO ? 1 : c;
+            }
+        }
+        return written;
+    }
+
+    private static void bind(PreparedStatement ps, FortuneEntity f, Timestamp createdAt) throws SQLException {
+        int i = 1;
+        ps.setLong(i++, f.getUserId());
+        ps.setDate(i++, Date.valueOf(f.getFortuneDate()));
+        ps.setInt(i++, f.getOverallScore());
+        ps.setInt(i++, f.getWealthScore());
+        ps.setInt(i++, f.getLoveScore());
+        ps.setInt(i++, f.getHealthScore());
+        ps.setString(i++, f.getOverallText());
+        ps.setString(i++, f.getWealthText());
+        ps.setString(i++, f.getLoveText());
+        ps.setString(i++, f.getHealthText());
+        ps.setString(i++, f.getLuckyColor());
+        setInt(ps, i++, f.getLuckyNumber());
+        ps.setString(i++, f.getLuckyDirection());
+        setInt(ps, i++, f.getDailyGanIndex());
+        setInt(ps, i++, f.getDailyJiIndex());
+        ps.setString(i++, f.getTwelveUnseong());
+        ps.setString(i++, f.getSipseong());
+        ps.setString(i++, f.getHarmonyType());
+        setInt(ps, i++, f.getCareerScore());
+        ps.setString(i++, f.getCareerText());
+        setInt(ps, i++, f.getStudyScore());
+        ps.setString(i++, f.getStudyText());
+        ps.setString(i++, f.getLuckyTime());
+        ps.setString(i++, f.getWarningTime());
+        ps.setString(i++, f.getSajuInsight());
+        ps.setString(i++, f.getCounselorCtaMessage());
+        ps.setTimestamp(i, createdAt);
+    }
+
+    private static void setInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.INTEGER);
+        else ps.setInt(index, value);
+    }
+
+    private static Counter usersCounter(MeterRegistry registry, String result) {
+        return Counter.builder("fortune.batch.users")
+                .description("Users processed by the daily fortune batch")
+                .tag("result", result)
+                .register(registry);
+    }
+}
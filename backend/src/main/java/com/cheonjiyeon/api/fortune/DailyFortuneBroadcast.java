@@ -0,0 +1,168 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.notification.SseEmitterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일일 운세 배치 뒤에 실행하는 SSE 브로드캐스트.
+ *
+ * 이 노드에 알림 스트림을 열어 둔 사용자에게 오늘 운세 요약을 fortune-summary 이벤트로 보내
+ * 앱이 /fortune/summary를 따로 호출하지 않아도 되게 한다. 요약은 배치 단위 프로젝션으로 읽고,
+ * 전송은 고정 크기 풀에서 초당 전송 수 제한을 지키며 진행한다. 느린 연결 때문에 대기 중인 전송이
+ * 가득 차면 offer-timeout 동안 기다렸다가 그 사용자는 건너뛴다(drop). 건너뛴 사용자는 평소처럼 앱에서 조회한다.
+ */
+@Service
+public class DailyFortuneBroadcast {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyFortuneBroadcast.class);
+
+    public static final String EVENT_NAME = "fortune-summary";
+
+    private final SseEmitterService sseEmitterService;
+    private final FortuneRepository fortuneRepository;
+    private final int batchSize;
+    private final int senders;
+    private final int maxPushesPerSecond;
+    private final Duration offerTimeout;
+
+    private final Timer durationTimer;
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final AtomicReference<Double> lastPushesPerSecond = new AtomicReference<>(0.0);
+
+    public DailyFortuneBroadcast(SseEmitterService sseEmitterService,
+                                 FortuneRepository fortuneRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${fortune.broadcast.batch-size:500}") int batchSize,
+                                 @Value("${fortune.broadcast.senders:4}") int senders,
+                                 @Value("${fortune.broadcast.max-pushes-per-second:2000}") int maxPushesPerSecond,
+                                 @Value("${fortune.broadcast.offer-timeout:PT0.2S}") Duration offerTimeout) {
+        this.sseEmitterService = sseEmitterService;
+        this.fortuneRepository = fortuneRepository;
+        this.batchSize = batchSize;
+        this.senders = Math.max(1, senders);
+        this.maxPushesPerSecond = maxPushesPerSecond;
+        this.offerTimeout = offerTimeout;
+
+        this.durationTimer = Timer.builder("fortune.broadcast.duration")
+                .description("Daily fortune summary broadcast run time")
+                .register(meterRegistry);
+        this.sentCounter = pushesCounter(meterRegistry, "sent");
+        this.droppedCounter = pushesCounter(meterRegistry, "dropped");
+        this.failedCounter = pushesCounter(meterRegistry, "failed");
+        this.skippedCounter = pushesCounter(meterRegistry, "skipped");
+        Gauge.builder("fortune.broadcast.pushes_per_second", lastPushesPerSecond, AtomicReference::get)
+                .description("Throughput of the last daily fortune broadcast")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param connected 실행 시점에 스트림이 열려 있던 사용자 수
+     * @param sent      전송 성공
+     * @param dropped   대기열이 가득 차 건너뜀
+     * @param failed    연결이 끊겨 전송 실패
+     * @param skipped   오늘 운세가 아직 없음 (출생 정보 없는 사용자 등)
+     */
+    public record Result(LocalDate date, int connected, int sent, int dropped, int failed, int skipped,
+                         long elapsedMillis, double pushesPerSecond) {}
+
+    public Result broadcast(LocalDate date) {
+        long startedAt = System.nanoTime();
+        List<Long> userIds = sseEmitterService.connectedUserIds().stream().sorted().toList();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int dropped = 0, skipped = 0, dispatched = 0;
+
+        // In-flight sends are bounded so one slow client cannot queue the whole broadcast behind it
+        int permits = senders * 2;
+        Semaphore inflight = new Semaphore(permits);
+        ExecutorService pool = Executors.newFixedThreadPool(senders, r -> {
+            Thread thread = new Thread(r, "fortune-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int from = 0; from < userIds.size(); from += batchSize) {
+                List<Long> batch = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+                Map<Long, FortuneSummaryRow> summaries = fortuneRepository.findSummariesOn(date, batch).stream()
+                        .collect(Collectors.toMap(FortuneSummaryRow::userId, Function.identity(), (a, b) -> a));
+                skipped += batch.size() - summaries.size();
+
+                for (FortuneSummaryRow row : summaries.values()) {
+                    pace(startedAt, dispatched);
+                    if (!inflight.tryAcquire(offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        dropped++;
+                        continue;
+                    }
+                    dispatched++;
+                    pool.execute(() -> {
+                        try {
+                            boolean ok = sseEmitterService.push(row.userId(), EVENT_NAME, row.toResponse());
+                            (ok ? sent : failed).incrementAndGet();
+                        } finally {
+                            inflight.release();
+                        }
+                    });
+                }
+            }
+            // Wait for the tail of in-flight sends
+            inflight.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Daily fortune broadcast for {} interrupted", date);
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double perSecond = sent.get() == 0 ? 0 : sent.get() / (elapsedNanos / 1_000_000_000.0);
+        durationTimer.record(Duration.ofNanos(elapsedNanos));
+        sentCounter.increment(sent.get());
+        droppedCounter.increment(dropped);
+        failedCounter.increment(failed.get());
+        skippedCounter.increment(skipped);
+        lastPushesPerSecond.set(perSecond);
+
+        Result result = new Result(date, userIds.size(), sent.get(), dropped, failed.get(), skipped,
+                elapsedNanos / 1_000_000, perSecond);
+        log.info("Daily fortune broadcast {}: connected={} sent={} dropped={} failed={} skipped={} elapsed={}ms ({} pushes/sec)",
+                date, result.connected(), result.sent(), dropped, result.failed(), skipped, result.elapsedMillis(),
+                String.format("%.0f", perSecond));
+        return result;
+    }
+
+    private void pace(long startedAt, int dispatched) throws InterruptedException {
+        if (maxPushesPerSecond <= 0) return;
+        long waitNanos = startedAt + dispatched * 1_000_000_000L / maxPushesPerSecond - System.nanoTime();
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    private static Counter pushesCounter(MeterRegistry registry, String result) {
+        return Counter.builder("fortune.broadcast.pushes")
+                .description("Daily fortune summaries pushed over SSE")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,165 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.fortune.saju.CheonganEnum;
+import com.cheonjiyeon.api.fortune.saju.DailyFortuneCalculator;
+import com.cheonjiyeon.api.fortune.saju.DailyFortuneCalculator.DailyFortuneResult;
+import com.cheonjiyeon.api.fortune.saju.JijiEnum;
+import com.cheonjiyeon.api.fortune.saju.ManseryeokData;
+import com.cheonjiyeon.api.fortune.saju.SajuChart;
+import com.cheonjiyeon.api.fortune.saju.SajuChartCode;
+import com.cheonjiyeon.api.fortune.saju.SajuFortuneTexts;
+
+import java.time.LocalDate;
+
+/**
+ * 사주 일일 운세 사전 계산표.
+ *
+ * 운세는 (일간, 오늘 60갑자, 사주 지지 집합)에만 의존하고, 지지 집합은 오늘 지지와의 합충 결과(7가지)로 줄어든다.
+ * 지지 12 × 지지 집합 4096의 합충표와 일간 10 × 60갑자 × 합충 7 = 4,200개의 결과·문구를
+ * 처음 사용할 때 한 번 만들어 두고, 이후 사용자별 운세는 배열 조회로 구성한다.
+ */
+public final class DailyFortuneTable {
+
+    private static final int GAPJA = 60;
+    private static final int MASKS = 1 << 12;
+    private static final String[] HARMONY_TYPES = {"없음", "충", "육합", "삼합", "형", "파", "해"};
+
+    private static final byte[] HARMONY = new byte[12 * MASKS];                 // [todayJi - 1][branchMask]
+    private static final Entry[] ENTRIES = new Entry[10 * GAPJA * HARMONY_TYPES.length];
+
+    static {
+        for (JijiEnum todayJi : JijiEnum.values()) {
+            for (int mask = 0; mask < MASKS; mask++) {
+                HARMONY[(todayJi.getIndex() - 1) * MASKS + mask] =
+                        (byte) harmonyCode(DailyFortuneCalculator.checkHarmony(todayJi, mask));
+            }
+        }
+        for (CheonganEnum dayGan : CheonganEnum.values()) {
+            for (int gapja = 0; gapja < GAPJA; gapja++) {
+                CheonganEnum todayGan = CheonganEnum.fromIndex(gapja % 10 + 1);
+                JijiEnum todayJi = JijiEnum.fromIndex(gapja % 12 + 1);
+                for (int h = 0; h < HARMONY_TYPES.length; h++) {
+                    DailyFortuneResult result = DailyFortuneCalculator.calculate(dayGan, todayGan, todayJi, HARMONY_TYPES[h]);
+                    ENTRIES[entryIndex(dayGan.getIndex() - 1, gapja, h)] = new Entry(result, dayGan);
+                }
+            }
+        }
+    }
+
+    private DailyFortuneTable() {}
+
+    /**
+     * (일간, 사주 지지 집합, 오늘 60갑자)를 담은 int 키. 일간 10 × 60 × 4096 범위.
+     */
+    public static int signature(SajuChart chart, LocalDate date) {
+        int dayGan = chart.getDayGan().getIndex() - 1;
+        int gapja = ManseryeokData.getDayGapjaIndex(date);
+        return (dayGan * GAPJA + gapja) * MASKS + DailyFortuneCalculator.branchMask(chart);
+    }
+
+    /** 압축 명식 코드(SajuChartCode)로 같은 키를 만든다. SajuChart 객체를 복원하지 않는다. */
+    public static int signature(long chartCode, LocalDate date) {
+        int dayGan = SajuChartCode.dayGan(chartCode) - 1;
+        int gapja = ManseryeokData.getDayGapjaIndex(date);
+        return (dayGan * GAPJA + gapja) * MASKS + SajuChartCode.branchMask(chartCode);
+    }
+
+    public static Entry get(int signature) {
+        int mask = signature % MASKS;
+        int gapja = (signature / MASKS) % GAPJA;
+        int dayGan = signature / MASKS / GAPJA;
+        int harmony = HARMONY[(gapja % 12) * MASKS + mask];
+        return ENTRIES[entryIndex(dayGan, gapja, harmony)];
+    }
+
+    public static Entry lookup(SajuChart chart, LocalDate date) {
+        return get(signature(chart, date));
+    }
+
+    public static Entry lookup(long chartCode, LocalDate date) {
+        return get(signature(chartCode, date));
+    }
+
+    private static int entryIndex(int dayGan, int gapja, int harmony) {
+        return (dayGan * GAPJA + gapja) * HARMONY_TYPES.length + harmony;
+    }
+
+    private static int harmonyCode(String harmonyType) {
+        for (int i = 0; i < HARMONY_TYPES.length; i++) {
+            if (HARMONY_TYPES[i].equals(harmonyType)) return i;
+        }
+        throw new IllegalStateException("Unknown harmony type: " + harmonyType);
+    }
+
+    /**
+     * 계산 결과와 미리 고른 문구. 불변이며 모든 사용자가 공유한다.
+     */
+    public static final class Entry {
+        final DailyFortuneResult result;
+        final String overallText;
+        final String wealthText;
+        final String loveText;
+        final String healthText;
+        final String careerText;
+        final String studyText;
+        final String sajuInsight;
+        final String counselorCtaMessage;
+
+        private Entry(DailyFortuneResult result, CheonganEnum dayGan) {
+            this.result = result;
+            this.overallText = SajuFortuneTexts.getOverallText(result.getSipseong(), result.getOverallScore());
+            this.wealthText = pick("wealth", result.getWealthScore());
+            this.loveText = pick("love", result.getLoveScore());
+            this.healthText = pick("health", result.getHealthScore());
+            this.careerText = SajuFortuneTexts.getCategoryText("career", result.getCareerScore());
+            this.studyText = SajuFortuneTexts.getCategoryText("study", result.getStudyScore());
+            this.sajuInsight = SajuFortuneTexts.generateSajuInsight(
+                    result.getSipseong(), result.getUnseong(), result.getHarmonyType(), dayGan, result.getTodayGan());
+            this.counselorCtaMessage = SajuFortuneTexts.getCounselorCtaMessage(
+                    result.getSipseong(), result.getOverallScore());
+        }
+
+        public DailyFortuneResult getResult() { return result; }
+        public String getOverallText() { return overallText; }
+        public String getCareerText() { return careerText; }
+        public String getStudyText() { return studyText; }
+        public String getSajuInsight() { return sajuInsight; }
+        public String getCounselorCtaMessage() { return counselorCtaMessage; }
+
+        private static String pick(String category, int score) {
+            String[] texts = FortuneTexts.getTextsByScore(category, score);
+            return texts[Math.abs(score) % texts.length];
+        }
+
+        public FortuneEntity newFortune(Long userId, LocalDate date) {
+            FortuneEntity fortune = new FortuneEntity();
+            fortune.setUserId(userId);
+            fortune.setFortuneDate(date);
+            fortune.setOverallScore(result.getOverallScore());
+            fortune.setWealthScore(result.getWealthScore());
+            fortune.setLoveScore(result.getLoveScore());
+            fortune.setHealthScore(result.getHealthScore());
+            fortune.setOverallText(overallText);
+            fortune.setWealthText(wealthText);
+            fortune.setLoveText(loveText);
+            fortune.setHealthText(healthText);
+            fortune.setDailyGanIndex(result.getTodayGan().getIndex());
+            fortune.setDailyJiIndex(result.getTodayJi().getIndex());
+            fortune.setTwelveUnseong(result.getUnseong().getName());
+            fortune.setSipseong(result.getSipseong().getName());
+            fortune.setHarmonyType(result.getHarmonyType());
+            fortune.setCareerScore(result.getCareerScore());
+            fortune.setCareerText(careerText);
+            fortune.setStudyScore(result.getStudyScore());
+            fortune.setStudyText(studyText);
+            fortune.setLuckyColor(result.getLuckyColor());
+            fortune.setLuckyNumber(result.getLuckyNumber());
+            fortune.setLuckyDirection(result.getLuckyDirection());
+            fortune.setLuckyTime(result.getLuckyTime());
+            fortune.setWarningTime(result.getWarningTime());
+            fortune.setSajuInsight(sajuInsight);
+            fortune.setCounselorCtaMessage(counselorCtaMessage);
+            return fortune;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cheonjiyeon.api.fortune;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 운세 날짜 기준 시계.
+ * 요청 경로와 자정 배치가 같은 시간대(scheduler.daily-fortune-zone, 기본 KST)로 "오늘"을 정하도록 하나만 둔다.
+ */
+@Configuration
+public class FortuneClockConfig {
+
+    @Bean
+    public Clock fortuneClock(@Value("${scheduler.daily-fortune-zone:Asia/Seoul}") String zone) {
+        return Clock.system(ZoneId.of(zone));
+    }
+}
@@ -1,8 +1,12 @@
 package com.cheonjiyeon.api.fortune;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.common.ApiException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -14,20 +18,22 @@ import java.util.List;
 public class FortuneController {
 
     private final FortuneService fortuneService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
+    private final PublicFortuneCache publicFortuneCache;
+    private final FortuneScoreHistory fortuneScoreHistory;
 
-    public FortuneController(FortuneService fortuneService, TokenStore tokenStore, UserRepository userRepository) {
+    public FortuneController(FortuneService fortuneService, AuthPrincipalResolver authPrincipals, PublicFortuneCache publicFortuneCache, FortuneScoreHistory fortuneScoreHistory) {
         this.fortuneService = fortuneService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
+        this.publicFortuneCache = publicFortuneCache;
+        this.fortuneScoreHistory = fortuneScoreHistory;
     }
 
     @GetMapping("/today")
     public FortuneDtos.FortuneResponse getTodayFortune(
             @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.require(authHeader).id();
         FortuneEntity fortune = fortuneService.getOrGenerateTodayFortune(userId);
         return FortuneDtos.FortuneResponse.from(fortune);
     }
@@ -36,7 +42,7 @@ public class FortuneController {
     public FortuneDtos.FortuneSummaryResponse getFortuneSummary(
             @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.require(authHeader).id();
         FortuneEntity fortune = fortuneService.getOrGenerateTodayFortune(userId);
         return FortuneDtos.FortuneSummaryResponse.from(fortune);
     }
@@ -46,7 +52,7 @@ public class FortuneController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestParam(defaultValue = "7") int days
     ) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.require(authHeader).id();
         List<FortuneEntity> fortunes = fortuneService.getFortuneHistory(userId, days);
         return new FortuneDtos.FortuneHistoryResponse(
                 fortunes.stream().map(FortuneDtos.FortuneResponse::from).toList(),
@@ -54,19 +60,28 @@ public class FortuneController {
         );
     }
 
+    /**
+     * 점수 추이 차트용 경량 이력 (문구 없이 날짜와 점수만)
+     */
+    @GetMapping("/history/scores")
+    public FortuneDtos.FortuneScoreHistoryResponse getFortuneScoreHistory(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        Long userId = authPrincipals.require(authHeader).id();
+        return fortuneScoreHistory.history(userId, days, fortuneService.today());
+    }
+
     // === 띠별 운세 (인증 불필요) ===
 
     @GetMapping("/zodiac")
-    public FortuneDtos.ZodiacListResponse getAllZodiacFortunes() {
-        return new FortuneDtos.ZodiacListResponse(
-                fortuneService.getAllZodiacFortunes(),
-                java.time.LocalDate.now()
-        );
+    public ResponseEntity<byte[]> getAllZodiacFortunes(HttpServletResponse response) {
+        return cached(publicFortuneCache.allZodiac(), response);
     }
 
     @GetMapping("/zodiac/{animal}")
-    public FortuneDtos.ZodiacFortuneResponse getZodiacFortune(@PathVariable String animal) {
-        return fortuneService.getZodiacFortune(animal);
+    public ResponseEntity<byte[]> getZodiacFortune(@PathVariable String animal, HttpServletResponse response) {
+        return cached(publicFortuneCache.zodiac(animal), response);
     }
 
     // === 궁합 (인증 불필요) ===
@@ -81,22 +96,20 @@ public class FortuneController {
         try {
             LocalDate date1 = LocalDate.parse(request.birthDate1());
             LocalDate date2 = LocalDate.parse(request.birthDate2());
-            return fortuneService.calculateCompatibility(date1, date2);
+            return publicFortuneCache.compatibility(date1, date2);
         } catch (DateTimeParseException e) {
             throw new ApiException(400, "날짜 형식이 올바르지 않습니다. YYYY-MM-DD 형식으로 입력해주세요.");
         }
     }
 
-    private Long resolveUserId(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        // Verify user exists
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-        return userId;
+    // Same-day body until KST midnight; a matching If-None-Match gets 304.
+    // Cache-Control is set on the servlet response to replace SecurityHeadersFilter's no-store default
+    private ResponseEntity<byte[]> cached(PublicFortuneCache.Json json, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(publicFortuneCache.untilRollover()).cachePublic().getHeaderValue());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(json.etag())
+                .body(json.body());
     }
 }
@@ -91,6 +91,20 @@ public class FortuneDtos {
             int totalDays
     ) {}
 
+    // 점수 추이 차트용 열 단위 응답. 같은 인덱스가 같은 날짜이며 운세가 없는 날은 빠진다.
+    public record FortuneScoreHistoryResponse(
+            LocalDate from,
+            LocalDate to,
+            List<LocalDate> dates,
+            int[] overallScores,
+            int[] wealthScores,
+            int[] loveScores,
+            int[] healthScores,
+            Integer[] careerScores,
+            Integer[] studyScores,
+            int totalDays
+    ) {}
+
     // 사주 명식 응답
     public record SajuChartResponse(
             PillarDto yearPillar,
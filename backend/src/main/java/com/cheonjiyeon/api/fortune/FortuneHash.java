@@ -0,0 +1,137 @@
+package com.cheonjiyeon.api.fortune;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * 해시 기반 운세(폴백·띠별·궁합)의 시드 해시.
+ *
+ * sha256 모드는 기존 SHA-256("키:yyyy-MM-dd")과 같은 바이트를 내 기존 사용자의 운세가 바뀌지 않는다.
+ * 스레드별 MessageDigest와 버퍼를 재사용해 호출당 문자열·배열을 만들지 않는다.
+ * mix64 모드는 암호학적 강도가 필요 없는 곳을 위한 64비트 믹서로, 결과가 sha256과 다르다.
+ *
+ * 반환 배열은 스레드별 버퍼이므로 같은 스레드에서 다음 호출 전에 다 읽어야 한다.
+ */
+@Component
+public class FortuneHash {
+
+    public enum Mode { SHA256, MIX64 }
+
+    public static final int LENGTH = 32;
+
+    // "-9223372036854775807:9999-12-31" fits comfortably
+    private static final int MAX_SEED_LENGTH = 40;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final Mode mode;
+
+    public FortuneHash(@Value("${fortune.hash.mode:sha256}") String mode) {
+        this.mode = Mode.valueOf(mode.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public byte[] hash(long key, LocalDate date) {
+        Buffers buffers = BUFFERS.get();
+        if (mode == Mode.MIX64) {
+            mix64(key, date.toEpochDay(), buffers.out);
+        } else {
+            sha256(key, date, buffers);
+        }
+        return buffers.out;
+    }
+
+    private static void sha256(long key, LocalDate date, Buffers buffers) {
+        MessageDigest digest = buffers.digest;
+        int length = writeSeed(key, date, buffers.seed);
+        if (length < 0) {
+            // Dates outside yyyy-MM-dd (years before 0 or after 9999) keep the original string form
+            byte[] seed = (key + ":" + date).getBytes(StandardCharsets.UTF_8);
+            digest.update(seed);
+        } else {
+            digest.update(buffers.seed, 0, length);
+        }
+        try {
+            digest.digest(buffers.out, 0, LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+    }
+
+    /** key + ":" + date.toString()을 ASCII로 기록한다. 형식이 yyyy-MM-dd가 아니면 -1. */
+    static int writeSeed(long key, LocalDate date, byte[] out) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999 || key == Long.MIN_VALUE) return -1;
+
+        int pos = 0;
+        long value = key;
+        if (value < 0) {
+            out[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) digits++;
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        pos += digits;
+        out[pos++] = ':';
+        pos = writeDigits(out, pos, year, 4);
+        out[pos++] = '-';
+        pos = writeDigits(out, pos, date.getMonthValue(), 2);
+        out[pos++] = '-';
+        return writeDigits(out, pos, date.getDayOfMonth(), 2);
+    }
+
+    private static int writeDigits(byte[] out, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    // SplitMix64 stream seeded from (key, epochDay), written big-endian
+    private static void mix64(long key, long epochDay, byte[] out) {
+        long state = mix(key * GOLDEN_GAMMA ^ epochDay);
+        for (int i = 0; i < LENGTH; i += 8) {
+            state += GOLDEN_GAMMA;
+            long word = mix(state);
+            for (int b = 0; b < 8; b++) {
+                out[i + b] = (byte) (word >>> (56 - 8 * b));
+            }
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Buffers {
+        final MessageDigest digest;
+        final byte[] seed = new byte[MAX_SEED_LENGTH];
+        final byte[] out = new byte[LENGTH];
+
+        Buffers() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 algorithm not available", e);
+            }
+        }
+    }
+}
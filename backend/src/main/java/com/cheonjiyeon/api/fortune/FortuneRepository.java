@@ -3,11 +3,26 @@ package com.cheonjiyeon.api.fortune;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FortuneRepository extends JpaRepository<FortuneEntity, Long> {
     Optional<FortuneEntity> findByUserIdAndFortuneDate(Long userId, LocalDate date);
     Page<FortuneEntity> findByUserIdOrderByFortuneDateDesc(Long userId, Pageable pageable);
+
+    @Query("select f.userId from FortuneEntity f where f.fortuneDate = :date and f.userId in :userIds")
+    List<Long> findUserIdsWithFortuneOn(LocalDate date, Collection<Long> userIds);
+
+    @Query("select new com.cheonjiyeon.api.fortune.FortuneScoreRow(f.fortuneDate, f.overallScore, f.wealthScore, " +
+            "f.loveScore, f.healthScore, f.careerScore, f.studyScore) " +
+            "from FortuneEntity f where f.userId = :userId and f.fortuneDate between :from and :to order by f.fortuneDate asc")
+    List<FortuneScoreRow> findScoresBetween(Long userId, LocalDate from, LocalDate to);
+
+    @Query("select new com.cheonjiyeon.api.fortune.FortuneSummaryRow(f.userId, f.fortuneDate, f.overallScore, f.overallText) " +
+            "from FortuneEntity f where f.fortuneDate = :date and f.userId in :userIds")
+    List<FortuneSummaryRow> findSummariesOn(LocalDate date, Collection<Long> userIds);
 }
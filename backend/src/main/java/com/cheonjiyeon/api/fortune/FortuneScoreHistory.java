@@ -0,0 +1,184 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.common.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운세 점수 추이 조회.
+ *
+ * 사용자별로 최근 30일의 점수 6개를 byte 배열 링 버퍼(날짜 % 30 슬롯)에 들고 있다.
+ * 지난 날짜의 운세는 바뀌지 않으므로 한 번 읽으면 버퍼에서 응답하고, 링 끝 이후 ~ 오늘 구간만
+ * 점수 프로젝션으로 다시 읽는다. 오늘 운세는 재계산으로 바뀔 수 있어 버퍼에 넣지 않는다.
+ * 30일을 넘는 조회는 버퍼 없이 프로젝션 쿼리로 처리한다.
+ */
+@Component
+public class FortuneScoreHistory {
+
+    public static final int RING_DAYS = 30;
+    public static final int MAX_DAYS = 365;
+
+    private static final int SCORES = 6;
+    private static final byte ABSENT = -1;
+
+    private final FortuneRepository fortuneRepository;
+    private final int maxUsers;
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter loadCounter;
+
+    public FortuneScoreHistory(FortuneRepository fortuneRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${fortune.history-cache.max-users:20000}") int maxUsers) {
+        this.fortuneRepository = fortuneRepository;
+        this.maxUsers = maxUsers;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.loadCounter = lookupCounter(meterRegistry, "load");
+        Gauge.builder("fortune.history_ring.users", rings, Map::size)
+                .description("Users held in the fortune score ring buffer")
+                .register(meterRegistry);
+    }
+
+    /** 오늘을 포함한 최근 days일의 점수 */
+    public FortuneDtos.FortuneScoreHistoryResponse history(Long userId, int days, LocalDate today) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new ApiException(400, "조회 기간은 1일부터 " + MAX_DAYS + "일까지 가능합니다.");
+        }
+        LocalDate from = today.minusDays(days - 1L);
+        if (days > RING_DAYS || maxUsers <= 0) {
+            return toResponse(from, today, fortuneRepository.findScoresBetween(userId, from, today));
+        }
+
+        Ring ring = ring(userId, today);
+        long todayDay = today.toEpochDay();
+        long loadedThrough = ring.loadedThrough();
+        // Past days after the ring end plus today, usually just today's row
+        List<FortuneScoreRow> recent = fortuneRepository.findScoresBetween(
+                userId, LocalDate.ofEpochDay(Math.max(loadedThrough + 1, todayDay - RING_DAYS + 1)), today);
+        (loadedThrough == todayDay - RING_DAYS ? loadCounter : hitCounter).increment();
+        ring.advance(todayDay - 1, recent);
+
+        List<FortuneScoreRow> rows = new ArrayList<>(days);
+        ring.read(from.toEpochDay(), todayDay - 1, rows);
+        for (FortuneScoreRow row : recent) {
+            if (row.fortuneDate().equals(today)) rows.add(row);
+        }
+        return toResponse(from, today, rows);
+    }
+
+    public void forget(Long userId) {
+        rings.remove(userId);
+    }
+
+    private Ring ring(Long userId, LocalDate today) {
+        Ring ring = rings.get(userId);
+        if (ring != null) return ring;
+        if (rings.size() >= maxUsers) evictSome();
+        // A new ring has loaded nothing: its window ends just before the 30-day range
+        return rings.computeIfAbsent(userId, id -> new Ring(today.toEpochDay() - RING_DAYS));
+    }
+
+    // ConcurrentHashMap iteration order is effectively arbitrary, which is good enough for a bound
+    private void evictSome() {
+        Iterator<Long> it = rings.keySet().iterator();
+        for (int i = 0; i < Math.max(1, maxUsers / 100) && it.hasNext(); i++) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static FortuneDtos.FortuneScoreHistoryResponse toResponse(LocalDate from, LocalDate to,
+                                                                      List<FortuneScoreRow> rows) {
+        int n = rows.size();
+        List<LocalDate> dates = new ArrayList<>(n);
+        int[] overall = new int[n], wealth = new int[n], love = new int[n], health = new int[n];
+        Integer[] career = new Integer[n], study = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            FortuneScoreRow row = rows.get(i);
+            dates.add(row.fortuneDate());
+            overall[i] = row.overallScore();
+            wealth[i] = row.wealthScore();
+            love[i] = row.loveScore();
+            health[i] = row.healthScore();
+            career[i] = row.careerScore();
+            study[i] = row.studyScore();
+        }
+        return new FortuneDtos.FortuneScoreHistoryResponse(from, to, dates, overall, wealth, love, health,
+                career, study, n);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("fortune.history_ring.lookups")
+                .description("Fortune score history lookups served from the ring vs. loaded from the database")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 한 사용자의 30일 링. 슬롯 (epochDay % 30)에 총운·재물·애정·건강·직업·학업 점수를 1바이트씩 담는다.
+     * 점수는 0~100이므로 -1을 "없음"으로 쓴다. loadedThrough까지의 날짜만 유효하다.
+     */
+    private static final class Ring {
+        private final byte[] scores = new byte[RING_DAYS * SCORES];
+        private long loadedThrough;
+
+        Ring(long loadedThrough) {
+            this.loadedThrough = loadedThrough;
+            Arrays.fill(scores, ABSENT);
+        }
+
+        synchronized long loadedThrough() {
+            return loadedThrough;
+        }
+
+        /** loadedThrough 다음 날부터 through까지를 rows로 채운다. 다른 요청이 먼저 채웠으면 그대로 둔다. */
+        synchronized void advance(long through, List<FortuneScoreRow> rows) {
+            if (through <= loadedThrough) return;
+            long start = Math.max(loadedThrough + 1, through - RING_DAYS + 1);
+            for (long day = start; day <= through; day++) {
+                Arrays.fill(scores, slot(day), slot(day) + SCORES, ABSENT);
+            }
+            for (FortuneScoreRow row : rows) {
+                long day = row.fortuneDate().toEpochDay();
+                if (day < start || day > through) continue;
+                int s = slot(day);
+                scores[s] = (byte) row.overallScore();
+                scores[s + 1] = (byte) row.wealthScore();
+                scores[s + 2] = (byte) row.loveScore();
+                scores[s + 3] = (byte) row.healthScore();
+                scores[s + 4] = row.careerScore() != null ? row.careerScore().byteValue() : ABSENT;
+                scores[s + 5] = row.studyScore() != null ? row.studyScore().byteValue() : ABSENT;
+            }
+            loadedThrough = through;
+        }
+
+        synchronized void read(long fromDay, long toDay, List<FortuneScoreRow> out) {
+            for (long day = Math.max(fromDay, loadedThrough - RING_DAYS + 1); day <= Math.min(toDay, loadedThrough); day++) {
+                int s = slot(day);
+                if (scores[s] == ABSENT) continue;
+                out.add(new FortuneScoreRow(LocalDate.ofEpochDay(day), scores[s], scores[s + 1], scores[s + 2],
+                        scores[s + 3], nullable(scores[s + 4]), nullable(scores[s + 5])));
+            }
+        }
+
+        private static int slot(long day) {
+            return (int) Math.floorMod(day, (long) RING_DAYS) * SCORES;
+        }
+
+        private static Integer nullable(byte score) {
+            return score == ABSENT ? null : (int) score;
+        }
+    }
+}
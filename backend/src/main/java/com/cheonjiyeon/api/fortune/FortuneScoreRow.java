@@ -0,0 +1,16 @@
+package com.cheonjiyeon.api.fortune;
+
+import java.time.LocalDate;
+
+/**
+ * 운세 점수만 읽는 프로젝션. 긴 운세 문구 컬럼을 읽지 않는다.
+ */
+public record FortuneScoreRow(
+        LocalDate fortuneDate,
+        int overallScore,
+        int wealthScore,
+        int loveScore,
+        int healthScore,
+        Integer careerScore,
+        Integer studyScore
+) {}
@@ -8,9 +8,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -22,18 +20,32 @@ public class FortuneService {
     private final FortuneRepository fortuneRepository;
     private final SajuChartRepository sajuChartRepository;
     private final UserRepository userRepository;
+    private final FortuneHash fortuneHash;
+    private final SajuChartCodeCache chartCodeCache;
+    private final Clock clock;
 
     public FortuneService(FortuneRepository fortuneRepository,
                           SajuChartRepository sajuChartRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          FortuneHash fortuneHash,
+                          SajuChartCodeCache chartCodeCache,
+                          Clock fortuneClock) {
         this.fortuneRepository = fortuneRepository;
         this.sajuChartRepository = sajuChartRepository;
         this.userRepository = userRepository;
+        this.fortuneHash = fortuneHash;
+        this.chartCodeCache = chartCodeCache;
+        this.clock = fortuneClock;
+    }
+
+    /** 운세 기준 시간대(KST)의 오늘. 자정 배치와 같은 날짜를 쓴다. */
+    public LocalDate today() {
+        return LocalDate.now(clock);
     }
 
     @Transactional
     public FortuneEntity getOrGenerateTodayFortune(Long userId) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = today();
         return fortuneRepository.findByUserIdAndFortuneDate(userId, today)
                 .orElseGet(() -> generateFortune(userId, today));
     }
@@ -49,13 +61,29 @@ public class FortuneService {
      */
     @Transactional
     public SajuChart getOrCalculateSajuChart(Long userId) {
+        long code = getOrCalculateChartCode(userId);
+        return code != SajuChartCode.NONE ? SajuChartCode.decode(code) : null;
+    }
+
+    /**
+     * 압축 명식 코드 조회 또는 계산. near-cache에 있으면 사용자·명식 엔티티를 읽지 않는다.
+     * 출생 정보가 없으면 SajuChartCode.NONE
+     */
+    private long getOrCalculateChartCode(Long userId) {
+        long code = chartCodeCache.get(userId);
+        if (code != SajuChartCode.NONE) return code;
+
         UserEntity user = userRepository.findById(userId).orElse(null);
-        if (user == null || user.getBirthDate() == null) return null;
+        if (user == null || user.getBirthDate() == null) return SajuChartCode.NONE;
 
         // 캐시된 사주 명식이 있으면 복원
         SajuChartEntity cached = sajuChartRepository.findByUserId(userId).orElse(null);
         if (cached != null) {
-            return restoreChart(cached);
+            code = chartCode(cached);
+            // Backfill rows written before chart_code existed; flushed with the surrounding transaction
+            if (cached.getChartCode() == null) cached.setChartCode(code);
+            chartCodeCache.putAfterCommit(userId, code);
+            return code;
         }
 
         // 사주 계산
@@ -67,9 +95,18 @@ public class FortuneService {
         SajuChart chart = SajuCalculator.calculateChart(solarDate, birthHour, gender);
 
         // 캐시 저장
-        saveChartCache(userId, solarDate, birthHour, gender, chart);
+        return saveChartCache(userId, solarDate, birthHour, gender, chart);
+    }
 
-        return chart;
+    /**
+     * 캐시 없이 사용자 출생 정보로 사주 명식 계산 (배치용, 저장하지 않음)
+     */
+    static SajuChart calculateChart(UserEntity user) {
+        LocalDate solarDate = SolarLunarConverter.resolveSolarDate(
+            user.getBirthDate(), user.getCalendarType(), user.getIsLeapMonth());
+        String birthHour = user.getBirthHour() != null ? user.getBirthHour() : "unknown";
+        String gender = user.getGender() != null ? user.getGender() : "male";
+        return SajuCalculator.calculateChart(solarDate, birthHour, gender);
     }
 
     /**
@@ -89,7 +126,7 @@ public class FortuneService {
         saveChartCache(userId, solarDate, hour, gen, chart);
 
         // 오늘 운세도 재생성 (기존 삭제)
-        LocalDate today = LocalDate.now();
+        LocalDate today = today();
         fortuneRepository.findByUserIdAndFortuneDate(userId, today)
                 .ifPresent(fortuneRepository::delete);
 
@@ -131,9 +168,9 @@ public class FortuneService {
 
     private FortuneEntity generateFortune(Long userId, LocalDate date) {
         // 사주 데이터가 있는 경우 사주 기반 운세
-        SajuChart chart = getOrCalculateSajuChart(userId);
-        if (chart != null) {
-            return generateSajuFortune(userId, date, chart);
+        long chartCode = getOrCalculateChartCode(userId);
+        if (chartCode != SajuChartCode.NONE) {
+            return fortuneRepository.save(DailyFortuneTable.lookup(chartCode, date).newFortune(userId, date));
         }
 
         // 사주 데이터가 없는 경우 기존 SHA-256 폴백
@@ -141,59 +178,10 @@ public class FortuneService {
     }
 
     /**
-     * 사주 기반 운세 생성
+     * 사주 기반 운세 엔티티 구성 (저장하지 않음). 요청 경로와 자정 배치가 같은 결과를 내도록 공유한다.
      */
-    private FortuneEntity generateSajuFortune(Long userId, LocalDate date, SajuChart chart) {
-        DailyFortuneCalculator.DailyFortuneResult result = DailyFortuneCalculator.calculate(chart, date);
-        SipseongEnum sipseong = result.getSipseong();
-        TwelveUnseongEnum unseong = result.getUnseong();
-
-        FortuneEntity fortune = new FortuneEntity();
-        fortune.setUserId(userId);
-        fortune.setFortuneDate(date);
-        fortune.setOverallScore(result.getOverallScore());
-        fortune.setWealthScore(result.getWealthScore());
-        fortune.setLoveScore(result.getLoveScore());
-        fortune.setHealthScore(result.getHealthScore());
-
-        // 사주 기반 텍스트
-        fortune.setOverallText(SajuFortuneTexts.getOverallText(sipseong, result.getOverallScore()));
-        fortune.setWealthText(FortuneTexts.getTextsByScore("wealth", result.getWealthScore())[
-            Math.abs(result.getWealthScore()) % FortuneTexts.getTextsByScore("wealth", result.getWealthScore()).length
-        ]);
-        fortune.setLoveText(FortuneTexts.getTextsByScore("love", result.getLoveScore())[
-            Math.abs(result.getLoveScore()) % FortuneTexts.getTextsByScore("love", result.getLoveScore()).length
-        ]);
-        fortune.setHealthText(FortuneTexts.getTextsByScore("health", result.getHealthScore())[
-            Math.abs(result.getHealthScore()) % FortuneTexts.getTextsByScore("health", result.getHealthScore()).length
-        ]);
-
-        // 사주 확장 필드
-        fortune.setDailyGanIndex(result.getTodayGan().getIndex());
-        fortune.setDailyJiIndex(result.getTodayJi().getIndex());
-        fortune.setTwelveUnseong(unseong.getName());
-        fortune.setSipseong(sipseong.getName());
-        fortune.setHarmonyType(result.getHarmonyType());
-        fortune.setCareerScore(result.getCareerScore());
-        fortune.setCareerText(SajuFortuneTexts.getCategoryText("career", result.getCareerScore()));
-        fortune.setStudyScore(result.getStudyScore());
-        fortune.setStudyText(SajuFortuneTexts.getCategoryText("study", result.getStudyScore()));
-
-        fortune.setLuckyColor(result.getLuckyColor());
-        fortune.setLuckyNumber(result.getLuckyNumber());
-        fortune.setLuckyDirection(result.getLuckyDirection());
-        fortune.setLuckyTime(result.getLuckyTime());
-        fortune.setWarningTime(result.getWarningTime());
-
-        fortune.setSajuInsight(SajuFortuneTexts.generateSajuInsight(
-            sipseong, unseong, result.getHarmonyType(),
-            chart.getDayGan(), result.getTodayGan()
-        ));
-        fortune.setCounselorCtaMessage(SajuFortuneTexts.getCounselorCtaMessage(
-            sipseong, result.getOverallScore()
-        ));
-
-        return fortuneRepository.save(fortune);
+    static FortuneEntity newSajuFortune(Long userId, LocalDate date, SajuChart chart) {
+        return DailyFortuneTable.lookup(chart, date).newFortune(userId, date);
     }
 
     /**
@@ -227,8 +215,9 @@ public class FortuneService {
         return fortuneRepository.save(fortune);
     }
 
-    private void saveChartCache(Long userId, LocalDate solarDate, String birthHour,
-                                 String gender, SajuChart chart) {
+    private long saveChartCache(Long userId, LocalDate solarDate, String birthHour,
+                                String gender, SajuChart chart) {
+        long code = SajuChartCode.encode(chart);
         SajuChartEntity entity = new SajuChartEntity();
         entity.setUserId(userId);
         entity.setBirthSolarDate(solarDate);
@@ -249,10 +238,19 @@ public class FortuneService {
         entity.setOhaengEarth(chart.getOhaengBalance().getOrDefault(OhaengEnum.TO, 0));
         entity.setOhaengMetal(chart.getOhaengBalance().getOrDefault(OhaengEnum.GEUM, 0));
         entity.setOhaengWater(chart.getOhaengBalance().getOrDefault(OhaengEnum.SU, 0));
+        entity.setChartCode(code);
         sajuChartRepository.save(entity);
+        chartCodeCache.putAfterCommit(userId, code);
+        return code;
     }
 
-    private SajuChart restoreChart(SajuChartEntity entity) {
+    /** 저장된 명식의 압축 코드. chart_code가 없는 이전 행은 컬럼 값으로 다시 만든다. */
+    static long chartCode(SajuChartEntity entity) {
+        Long code = entity.getChartCode();
+        return code != null && SajuChartCode.isValid(code) ? code : SajuChartCode.encode(restoreChart(entity));
+    }
+
+    static SajuChart restoreChart(SajuChartEntity entity) {
         SajuPillar yearPillar = new SajuPillar(
             CheonganEnum.fromIndex(entity.getYearGan()),
             JijiEnum.fromIndex(entity.getYearJi())
@@ -282,7 +280,10 @@ public class FortuneService {
      * 날짜 기반 시드로 일관된 일일 운세 생성
      */
     public List<FortuneDtos.ZodiacFortuneResponse> getAllZodiacFortunes() {
-        LocalDate today = LocalDate.now();
+        return getAllZodiacFortunes(today());
+    }
+
+    public List<FortuneDtos.ZodiacFortuneResponse> getAllZodiacFortunes(LocalDate today) {
         return java.util.Arrays.stream(JijiEnum.values())
                 .map(ji -> generateZodiacFortune(ji, today))
                 .toList();
@@ -293,7 +294,7 @@ public class FortuneService {
      */
     public FortuneDtos.ZodiacFortuneResponse getZodiacFortune(String animal) {
         JijiEnum ji = findJijiByAnimal(animal);
-        return generateZodiacFortune(ji, LocalDate.now());
+        return generateZodiacFortune(ji, today());
     }
 
     private FortuneDtos.ZodiacFortuneResponse generateZodiacFortune(JijiEnum ji, LocalDate date) {
@@ -332,7 +333,7 @@ public class FortuneService {
         throw new com.cheonjiyeon.api.common.ApiException(400, "알 수 없는 띠입니다: " + animal);
     }
 
-    private String getAnimalEmoji(JijiEnum ji) {
+    private static String getAnimalEmoji(JijiEnum ji) {
         return switch (ji) {
             case JA -> "\uD83D\uDC2D";     // 쥐
             case CHUK -> "\uD83D\uDC2E";   // 소
@@ -351,15 +352,61 @@ public class FortuneService {
 
     // === 궁합 ===
 
+    // Branch-determined part of every compatibility result, indexed by year branch (0 = 자)
+    private static final CompatibilityBase[][] COMPATIBILITY = new CompatibilityBase[12][12];
+
+    static {
+        for (JijiEnum ji1 : JijiEnum.values()) {
+            for (JijiEnum ji2 : JijiEnum.values()) {
+                COMPATIBILITY[ji1.getIndex() - 1][ji2.getIndex() - 1] = compatibilityBase(ji1, ji2);
+            }
+        }
+    }
+
     /**
      * 두 사람의 생년월일로 궁합 점수 계산 (인증 불필요)
      * 띠 오행 기반 궁합 알고리즘
      */
     public FortuneDtos.CompatibilityResponse calculateCompatibility(LocalDate birthDate1, LocalDate birthDate2) {
-        // 출생연도로 띠(지지) 결정
-        JijiEnum ji1 = getYearJiji(birthDate1.getYear());
-        JijiEnum ji2 = getYearJiji(birthDate2.getYear());
+        return calculateCompatibility(birthDate1, birthDate2, today());
+    }
 
+    /**
+     * 띠 조합별 기본 궁합은 12×12 표에서 읽고, 날짜에 따른 카테고리 변동만 계산한다.
+     */
+    public FortuneDtos.CompatibilityResponse calculateCompatibility(LocalDate birthDate1, LocalDate birthDate2,
+                                                                    LocalDate today) {
+        CompatibilityBase base = COMPATIBILITY[yearJijiOffset(birthDate1.getYear())][yearJijiOffset(birthDate2.getYear())];
+        int score = base.score();
+        String relation = base.relation();
+
+        // 날짜 기반 변동으로 카테고리별 점수 약간 다르게
+        byte[] seed = computeHash(birthDate1.getYear() * 10000L + birthDate2.getYear(), today);
+        int loveDelta = (unsignedByte(seed[0]) % 15) - 7;
+        int workDelta = (unsignedByte(seed[1]) % 15) - 7;
+        int friendDelta = (unsignedByte(seed[2]) % 15) - 7;
+
+        int loveScore = Math.max(20, Math.min(100, score + loveDelta));
+        int workScore = Math.max(20, Math.min(100, score + workDelta));
+        int friendScore = Math.max(20, Math.min(100, score + friendDelta));
+
+        return new FortuneDtos.CompatibilityResponse(
+                score,
+                base.summary(),
+                new FortuneDtos.CompatibilityCategoryScore(loveScore, generateCategoryDesc("love", relation, loveScore)),
+                new FortuneDtos.CompatibilityCategoryScore(workScore, generateCategoryDesc("work", relation, workScore)),
+                new FortuneDtos.CompatibilityCategoryScore(friendScore, generateCategoryDesc("friendship", relation, friendScore)),
+                base.animal1(),
+                base.animal2(),
+                base.emoji1(),
+                base.emoji2()
+        );
+    }
+
+    private record CompatibilityBase(int score, String relation, String summary,
+                                     String animal1, String animal2, String emoji1, String emoji2) {}
+
+    private static CompatibilityBase compatibilityBase(JijiEnum ji1, JijiEnum ji2) {
         OhaengEnum ohaeng1 = ji1.getOhaeng();
         OhaengEnum ohaeng2 = ji2.getOhaeng();
 
@@ -390,36 +437,16 @@ public class FortuneService {
 
         int score = Math.max(20, Math.min(100, baseScore));
 
-        // 날짜 기반 변동으로 카테고리별 점수 약간 다르게
-        byte[] seed = computeHash(birthDate1.getYear() * 10000L + birthDate2.getYear(), LocalDate.now());
-        int loveDelta = (unsignedByte(seed[0]) % 15) - 7;
-        int workDelta = (unsignedByte(seed[1]) % 15) - 7;
-        int friendDelta = (unsignedByte(seed[2]) % 15) - 7;
-
-        int loveScore = Math.max(20, Math.min(100, score + loveDelta));
-        int workScore = Math.max(20, Math.min(100, score + workDelta));
-        int friendScore = Math.max(20, Math.min(100, score + friendDelta));
-
-        return new FortuneDtos.CompatibilityResponse(
-                score,
-                generateCompatibilitySummary(ji1, ji2, relation, score),
-                new FortuneDtos.CompatibilityCategoryScore(loveScore, generateCategoryDesc("love", relation, loveScore)),
-                new FortuneDtos.CompatibilityCategoryScore(workScore, generateCategoryDesc("work", relation, workScore)),
-                new FortuneDtos.CompatibilityCategoryScore(friendScore, generateCategoryDesc("friendship", relation, friendScore)),
-                ji1.getAnimal(),
-                ji2.getAnimal(),
-                getAnimalEmoji(ji1),
-                getAnimalEmoji(ji2)
-        );
+        return new CompatibilityBase(score, relation, generateCompatibilitySummary(ji1, ji2, relation, score),
+                ji1.getAnimal(), ji2.getAnimal(), getAnimalEmoji(ji1), getAnimalEmoji(ji2));
     }
 
-    private JijiEnum getYearJiji(int year) {
+    private static int yearJijiOffset(int year) {
         // 지지는 12년 주기, 자(쥐)=1 기준: (year - 4) % 12 → 0=자, 1=축, ...
-        int idx = ((year - 4) % 12 + 12) % 12;
-        return JijiEnum.fromIndex(idx + 1);
+        return ((year - 4) % 12 + 12) % 12;
     }
 
-    private boolean isYukhapPair(JijiEnum a, JijiEnum b) {
+    private static boolean isYukhapPair(JijiEnum a, JijiEnum b) {
         // 육합 쌍: 자-축, 인-해, 묘-술, 진-유, 사-신, 오-미
         int[][] pairs = {{1,2},{3,12},{4,11},{5,10},{6,9},{7,8}};
         for (int[] p : pairs) {
@@ -429,7 +456,7 @@ public class FortuneService {
         return false;
     }
 
-    private String generateCompatibilitySummary(JijiEnum ji1, JijiEnum ji2, String relation, int score) {
+    private static String generateCompatibilitySummary(JijiEnum ji1, JijiEnum ji2, String relation, int score) {
         String animal1 = ji1.getAnimal();
         String animal2 = ji2.getAnimal();
         if (score >= 85) {
@@ -443,7 +470,7 @@ public class FortuneService {
         }
     }
 
-    private String generateCategoryDesc(String category, String relation, int score) {
+    private static String generateCategoryDesc(String category, String relation, int score) {
         return switch (category) {
             case "love" -> score >= 75
                 ? "감정적으로 잘 통하며 서로에게 깊은 유대감을 느낄 수 있습니다."
@@ -464,19 +491,14 @@ public class FortuneService {
         };
     }
 
-    // === SHA-256 helper methods (preserved for fallback) ===
+    // === Hash helper methods (preserved for fallback) ===
 
-    private byte[] computeHash(Long userId, LocalDate date) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            String seed = userId + ":" + date.toString();
-            return digest.digest(seed.getBytes(StandardCharsets.UTF_8));
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
+    // Returns FortuneHash's per-thread buffer; read it before hashing again
+    byte[] computeHash(long key, LocalDate date) {
+        return fortuneHash.hash(key, date);
     }
 
-    private int scoreFromHash(byte[] hash, int offset) {
+    static int scoreFromHash(byte[] hash, int offset) {
         int value = ((unsignedByte(hash[offset]) << 24)
                 | (unsignedByte(hash[offset + 1]) << 16)
                 | (unsignedByte(hash[offset + 2]) << 8)
@@ -484,18 +506,18 @@ public class FortuneService {
         return (Math.abs(value) % 100) + 1;
     }
 
-    private String pickText(String category, int score, byte[] hash, int hashIdx) {
+    private static String pickText(String category, int score, byte[] hash, int hashIdx) {
         String[] texts = FortuneTexts.getTextsByScore(category, score);
         int idx = unsignedByte(hash[hashIdx]) % texts.length;
         return texts[idx];
     }
 
-    private String pickFromArray(String[] array, byte[] hash, int hashIdx) {
+    private static String pickFromArray(String[] array, byte[] hash, int hashIdx) {
         int idx = unsignedByte(hash[hashIdx]) % array.length;
         return array[idx];
     }
 
-    private int unsignedByte(byte b) {
+    private static int unsignedByte(byte b) {
         return b & 0xFF;
     }
 }
@@ -0,0 +1,17 @@
+package com.cheonjiyeon.api.fortune;
+
+import java.time.LocalDate;
+
+/**
+ * 운세 요약 프로젝션 (사용자별 총운 점수·문구).
+ */
+public record FortuneSummaryRow(
+        Long userId,
+        LocalDate fortuneDate,
+        int overallScore,
+        String overallText
+) {
+    public FortuneDtos.FortuneSummaryResponse toResponse() {
+        return new FortuneDtos.FortuneSummaryResponse(fortuneDate, overallScore, overallText);
+    }
+}
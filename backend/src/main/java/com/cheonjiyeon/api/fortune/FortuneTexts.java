@@ -177,7 +177,7 @@ public final class FortuneTexts {
     /**
      * 점수 범위에 따라 적절한 텍스트 배열 반환
      */
-    static String[] getTextsByScore(String category, int score) {
+    public static String[] getTextsByScore(String category, int score) {
         String[][] tiers = switch (category) {
             case "overall" -> new String[][]{
                 OVERALL_TERRIBLE, OVERALL_BAD, OVERALL_NORMAL, OVERALL_GOOD, OVERALL_EXCELLENT
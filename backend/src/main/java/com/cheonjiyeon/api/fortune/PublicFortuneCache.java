@@ -0,0 +1,97 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.fortune.saju.JijiEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인증 없는 띠별 운세의 날짜(KST) 단위 공유 캐시.
+ *
+ * 하루치 12개 띠 응답을 한 번 계산해 직렬화된 JSON 바이트와 ETag로 들고 있다가 그대로 내보낸다.
+ * 날짜가 바뀌면 새 스냅샷을 만들어 참조 하나만 교체하므로, 자정 전후 요청은 어느 한쪽 날짜의 완전한 결과만 본다.
+ */
+@Component
+public class PublicFortuneCache {
+
+    private final FortuneService fortuneService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final AtomicReference<ZodiacSnapshot> zodiac = new AtomicReference<>();
+
+    public PublicFortuneCache(FortuneService fortuneService,
+                              ObjectMapper objectMapper,
+                              Clock fortuneClock) {
+        this.fortuneService = fortuneService;
+        this.objectMapper = objectMapper;
+        this.clock = fortuneClock;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /** 다음 자정까지 남은 시간. 공개 응답의 Cache-Control max-age로 쓴다. */
+    public Duration untilRollover() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        return Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(clock.getZone()));
+    }
+
+    public Json allZodiac() {
+        return zodiac().all();
+    }
+
+    public Json zodiac(String animal) {
+        Json json = zodiac().byAnimal().get(animal);
+        if (json == null) throw new ApiException(400, "알 수 없는 띠입니다: " + animal);
+        return json;
+    }
+
+    public FortuneDtos.CompatibilityResponse compatibility(LocalDate birthDate1, LocalDate birthDate2) {
+        return fortuneService.calculateCompatibility(birthDate1, birthDate2, today());
+    }
+
+    private ZodiacSnapshot zodiac() {
+        LocalDate today = today();
+        ZodiacSnapshot current = zodiac.get();
+        if (current != null && current.date().equals(today)) return current;
+
+        ZodiacSnapshot next = buildZodiac(today);
+        // Never let a slow builder from the previous day overwrite a newer snapshot
+        return zodiac.accumulateAndGet(next, (cur, built) ->
+                cur != null && !cur.date().isBefore(built.date()) ? cur : built);
+    }
+
+    private ZodiacSnapshot buildZodiac(LocalDate date) {
+        List<FortuneDtos.ZodiacFortuneResponse> fortunes = fortuneService.getAllZodiacFortunes(date);
+        Map<String, Json> byAnimal = new HashMap<>();
+        for (int i = 0; i < fortunes.size(); i++) {
+            byAnimal.put(JijiEnum.values()[i].getAnimal(), serialize(fortunes.get(i)));
+        }
+        return new ZodiacSnapshot(date, serialize(new FortuneDtos.ZodiacListResponse(fortunes, date)), Map.copyOf(byAnimal));
+    }
+
+    private Json serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new Json(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize public fortune", e);
+        }
+    }
+
+    public record Json(byte[] body, String etag) {}
+
+    private record ZodiacSnapshot(LocalDate date, Json all, Map<String, Json> byAnimal) {}
+}
@@ -0,0 +1,126 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.fortune.saju.SajuChartCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자 ID → 사주 명식 코드(SajuChartCode)의 노드 로컬 near-cache.
+ *
+ * 직접 사상(direct-mapped) 방식의 long 배열 하나로, 슬롯마다 명식 코드 52비트와
+ * 사용자 ID 상위 비트 태그 12비트를 한 워드에 담는다. 사용자당 8바이트이므로 기본 100만 슬롯이 8MB다.
+ * 같은 슬롯에 들어오는 다른 사용자는 서로 밀어낼 뿐 잘못된 명식을 돌려주지 않는다.
+ *
+ * 다른 노드에서 출생 정보가 바뀐 경우를 위해 max-age마다 전체를 비운다.
+ */
+@Component
+public class SajuChartCodeCache {
+
+    private static final int TAG_BITS = Long.SIZE - SajuChartCode.BITS;
+    private static final long MAX_TAG = (1L << TAG_BITS) - 1;
+    private static final long CODE_MASK = (1L << SajuChartCode.BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int indexBits;
+    private final long maxAgeNanos;
+    private final AtomicLong clearedAt = new AtomicLong(System.nanoTime());
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SajuChartCodeCache(MeterRegistry meterRegistry,
+                              @Value("${fortune.chart-cache.capacity:1048576}") int capacity,
+                              @Value("${fortune.chart-cache.max-age:PT10M}") Duration maxAge) {
+        // Round up to a power of two; capacity 0 disables the cache
+        this.indexBits = capacity <= 0 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+        this.slots = new AtomicLongArray(capacity <= 0 ? 0 : 1 << indexBits);
+        this.maxAgeNanos = maxAge.toNanos();
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+    }
+
+    /** 캐시된 명식 코드. 없으면 SajuChartCode.NONE */
+    public long get(long userId) {
+        expireIfDue();
+        long tag = tag(userId);
+        if (tag == 0) return SajuChartCode.NONE;
+        long slot = slots.getOpaque(index(userId));
+        if (slot >>> SajuChartCode.BITS != tag) {
+            missCounter.increment();
+            return SajuChartCode.NONE;
+        }
+        hitCounter.increment();
+        return slot & CODE_MASK;
+    }
+
+    public void put(long userId, long chartCode) {
+        long tag = tag(userId);
+        if (tag == 0 || chartCode == SajuChartCode.NONE || (chartCode & ~CODE_MASK) != 0) return;
+        slots.setOpaque(index(userId), tag << SajuChartCode.BITS | chartCode);
+    }
+
+    /** 트랜잭션 안이면 커밋된 뒤에 반영해, 롤백된 명식이 캐시에 남지 않게 한다. */
+    public void putAfterCommit(long userId, long chartCode) {
+        evict(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(userId, chartCode);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(userId, chartCode);
+            }
+        });
+    }
+
+    public void evict(long userId) {
+        long tag = tag(userId);
+        if (tag == 0) return;
+        int index = index(userId);
+        long slot = slots.get(index);
+        if (slot >>> SajuChartCode.BITS == tag) slots.compareAndSet(index, slot, 0L);
+    }
+
+    public void clear() {
+        clearedAt.set(System.nanoTime());
+        for (int i = 0; i < slots.length(); i++) slots.setOpaque(i, 0L);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private void expireIfDue() {
+        long last = clearedAt.get();
+        if (System.nanoTime() - last < maxAgeNanos) return;
+        // One caller sweeps; the rest keep reading entries that are at most one sweep old
+        if (clearedAt.compareAndSet(last, System.nanoTime())) clear();
+    }
+
+    // 1-based high bits of the user id; 0 means the id does not fit and is never cached
+    private long tag(long userId) {
+        if (slots.length() == 0 || userId <= 0) return 0;
+        long tag = (userId >>> indexBits) + 1;
+        return tag <= MAX_TAG ? tag : 0;
+    }
+
+    private int index(long userId) {
+        return (int) (userId & (slots.length() - 1));
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("saju.chart_cache.lookups")
+                .description("Saju chart code near-cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+}
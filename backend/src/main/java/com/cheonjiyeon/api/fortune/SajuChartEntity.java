@@ -63,6 +63,9 @@ public class SajuChartEntity {
     @Column(name = "ohaeng_water")
     private int ohaengWater;
 
+    @Column(name = "chart_code")
+    private Long chartCode;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -115,6 +118,8 @@ public class SajuChartEntity {
     public void setOhaengMetal(int ohaengMetal) { this.ohaengMetal = ohaengMetal; }
     public int getOhaengWater() { return ohaengWater; }
     public void setOhaengWater(int ohaengWater) { this.ohaengWater = ohaengWater; }
+    public Long getChartCode() { return chartCode; }
+    public void setChartCode(Long chartCode) { this.chartCode = chartCode; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 }
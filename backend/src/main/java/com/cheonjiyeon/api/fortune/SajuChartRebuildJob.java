@@ -0,0 +1,438 @@
+package com.cheonjiyeon.api.fortune;
+
+import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.fortune.saju.OhaengEnum;
+import com.cheonjiyeon.api.fortune.saju.SajuCalculator;
+import com.cheonjiyeon.api.fortune.saju.SajuChart;
+import com.cheonjiyeon.api.fortune.saju.SajuChartCode;
+import com.cheonjiyeon.api.fortune.saju.SolarLunarConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관리자가 실행하는 saju_charts 전체 재계산 작업.
+ *
+ * 출생 정보가 있는 사용자를 id 순 전방 전용 커서로 흘려 읽고, 배치 단위로 워커 풀에 넘겨
+ * 명식을 병렬 계산한 뒤 JDBC 배치 upsert한다. 앞선 배치가 모두 끝난 지점까지만 체크포인트로 기록하므로
+ * 중단·장애 후 다시 시작하면 체크포인트 다음 사용자부터 이어서 처리한다.
+ * 대기 중인 배치 수와 초당 사용자 수를 제한해 힙과 DB 부하를 일정하게 유지한다.
+ */
+@Service
+public class SajuChartRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SajuChartRebuildJob.class);
+
+    public static final String RUNNING = "RUNNING";
+    public static final String STOPPED = "STOPPED";
+    public static final String FAILED = "FAILED";
+    public static final String COMPLETED = "COMPLETED";
+
+    // A RUNNING row untouched for this long belongs to a process that died mid-run
+    private static final long STALE_RUNNING_SECONDS = 120;
+
+    private static final String USERS_SQL = """
+            SELECT id, birth_date, birth_hour, calendar_type, is_leap_month, gender
+            FROM users WHERE birth_date IS NOT NULL AND id > ? ORDER BY id
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO saju_charts (
+                user_id, birth_solar_date, birth_hour, gender,
+                year_gan, year_ji, month_gan, month_ji, day_gan, day_ji, hour_gan, hour_ji,
+                ohaeng_wood, ohaeng_fire, ohaeng_earth, ohaeng_metal, ohaeng_water, chart_code,
+                created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                birth_solar_date = VALUES(birth_solar_date), birth_hour = VALUES(birth_hour), gender = VALUES(gender),
+                year_gan = VALUES(year_gan), year_ji = VALUES(year_ji), month_gan = VALUES(month_gan),
+                month_ji = VALUES(month_ji), day_gan = VALUES(day_gan), day_ji = VALUES(day_ji),
+                hour_gan = VALUES(hour_gan), hour_ji = VALUES(hour_ji),
+                ohaeng_wood = VALUES(ohaeng_wood), ohaeng_fire = VALUES(ohaeng_fire), ohaeng_earth = VALUES(ohaeng_earth),
+                ohaeng_metal = VALUES(ohaeng_metal), ohaeng_water = VALUES(ohaeng_water),
+                chart_code = VALUES(chart_code), updated_at = VALUES(updated_at)
+            """;
+
+    private static final String CHECKPOINT_SQL = """
+            UPDATE saju_chart_rebuild_jobs SET checkpoint_user_id = ?, processed = ?, failed = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final SajuChartRebuildJobRepository jobRepository;
+    private final SajuChartCodeCache chartCodeCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxUsersPerSecond;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "saju-chart-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    private final Counter upsertedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong checkpointGauge = new AtomicLong();
+    private final AtomicReference<Double> progressGauge = new AtomicReference<>(0.0);
+    private final AtomicReference<Double> usersPerSecondGauge = new AtomicReference<>(0.0);
+
+    public SajuChartRebuildJob(SajuChartRebuildJobRepository jobRepository,
+                               SajuChartCodeCache chartCodeCache,
+                               JdbcTemplate jdbcTemplate,
+                               DataSource dataSource,
+                               MeterRegistry meterRegistry,
+                               @Value("${fortune.chart-rebuild.batch-size:500}") int batchSize,
+                               @Value("${fortune.chart-rebuild.parallelism:0}") int parallelism,
+                               @Value("${fortune.chart-rebuild.fetch-size:1000}") int fetchSize,
+                               @Value("${fortune.chart-rebuild.max-users-per-second:5000}") int maxUsersPerSecond) {
+        this.jobRepository = jobRepository;
+        this.chartCodeCache = chartCodeCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxUsersPerSecond = maxUsersPerSecond;
+
+        this.upsertedCounter = usersCounter(meterRegistry, "upserted");
+        this.failedCounter = usersCounter(meterRegistry, "failed");
+        this.batchTimer = Timer.builder("saju.rebuild.batch")
+                .description("Compute and upsert time per saju chart rebuild batch")
+                .register(meterRegistry);
+        Gauge.builder("saju.rebuild.checkpoint", checkpointGauge, AtomicLong::get)
+                .description("Last user id fully rebuilt by the running saju chart job")
+                .register(meterRegistry);
+        Gauge.builder("saju.rebuild.progress", progressGauge, AtomicReference::get)
+                .description("Fraction of users rebuilt by the current saju chart job")
+                .register(meterRegistry);
+        Gauge.builder("saju.rebuild.users_per_second", usersPerSecondGauge, AtomicReference::get)
+                .description("Throughput of the current saju chart rebuild job")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재계산을 시작한다. 끝나지 않은 직전 작업이 있으면 그 체크포인트부터 이어 가고, fresh면 처음부터 새로 시작한다.
+     */
+    public synchronized SajuChartRebuildJobEntity start(Long adminId, boolean fresh) {
+        if (current.get() != null) throw new ApiException(409, "사주 명식 재계산이 이미 실행 중입니다.");
+
+        SajuChartRebuildJobEntity job = jobRepository.findFirstByOrderByIdDesc()
+                .filter(j -> !COMPLETED.equals(j.getStatus()))
+                .orElse(null);
+        if (job != null && RUNNING.equals(job.getStatus())
+                && job.getUpdatedAt().isAfter(LocalDateTime.now().minusSeconds(STALE_RUNNING_SECONDS))) {
+            throw new ApiException(409, "다른 서버에서 사주 명식 재계산이 실행 중입니다.");
+        }
+        if (job != null && fresh) {
+            job.setStatus(STOPPED);
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            job = null;
+        }
+        if (job == null) {
+            job = new SajuChartRebuildJobEntity();
+            job.setRequestedBy(adminId);
+        }
+        job.setStatus(RUNNING);
+        job.setErrorMessage(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        job.setTotalEstimate(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE birth_date IS NOT NULL", Long.class));
+        job = jobRepository.save(job);
+
+        Run run = new Run(job);
+        current.set(run);
+        runner.submit(() -> execute(run));
+        return job;
+    }
+
+    /** 실행 중인 작업에 중지를 요청한다. 진행 중인 배치까지 기록한 뒤 STOPPED로 끝난다. */
+    public SajuChartRebuildJobEntity stop() {
+        Run run = current.get();
+        if (run == null) throw new ApiException(409, "실행 중인 사주 명식 재계산이 없습니다.");
+        run.stopRequested = true;
+        return jobRepository.findById(run.jobId).orElseThrow();
+    }
+
+    public Optional<SajuChartRebuildJobEntity> latest() {
+        return jobRepository.findFirstByOrderByIdDesc();
+    }
+
+    public boolean isRunning() {
+        return current.get() != null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Run run = current.get();
+        if (run != null) run.stopRequested = true;
+        runner.shutdown();
+    }
+
+    private void execute(Run run) {
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try {
+            streamingJdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(USERS_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setLong(1, run.startCheckpoint);
+                return ps;
+            }, rs -> {
+                if (run.stopRequested || run.failure.get() != null) throw new StopReading();
+                run.batch.add(readRow(rs));
+                if (run.batch.size() >= batchSize) dispatch(run, workers);
+            });
+            if (!run.batch.isEmpty() && !run.stopRequested && run.failure.get() == null) dispatch(run, workers);
+        } catch (StopReading ignored) {
+            // Stop requested or a worker failed; in-flight batches still finish below
+        } catch (RuntimeException e) {
+            run.failure.compareAndSet(null, e);
+        } finally {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(10, TimeUnit.MINUTES)) workers.shutdownNow();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+            finish(run);
+        }
+    }
+
+    private static BirthRow readRow(ResultSet rs) throws SQLException {
+        long userId = rs.getLong(1);
+        LocalDate birthDate = rs.getObject(2, LocalDate.class);
+        String birthHour = rs.getString(3);
+        String calendarType = rs.getString(4);
+        boolean leap = rs.getBoolean(5);
+        Boolean isLeapMonth = rs.wasNull() ? null : leap;
+        return new BirthRow(userId, birthDate, birthHour, calendarType, isLeapMonth, rs.getString(6));
+    }
+
+    private void dispatch(Run run, ExecutorService workers) {
+        List<BirthRow> rows = run.batch;
+        run.batch = new ArrayList<>(batchSize);
+        pace(run);
+        try {
+            // Bounded in-flight batches keep the reader from buffering the whole table
+            run.inflight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StopReading();
+        }
+        long seq = run.dispatchedBatches++;
+        run.dispatchedUsers += rows.size();
+        workers.execute(() -> {
+            try {
+                rebuild(run, seq, rows);
+            } catch (RuntimeException e) {
+                run.failure.compareAndSet(null, e);
+            } finally {
+                run.inflight.release();
+            }
+        });
+    }
+
+    private void pace(Run run) {
+        if (maxUsersPerSecond <= 0) return;
+        long dueNanos = run.startedAt + run.dispatchedUsers * 1_000_000_000L / maxUsersPerSecond;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StopReading();
+        }
+    }
+
+    private void rebuild(Run run, long seq, List<BirthRow> rows) {
+        long startedAt = System.nanoTime();
+        List<Object[]> args = new ArrayList<>(rows.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int failed = 0;
+        for (BirthRow row : rows) {
+            try {
+                args.add(chartRow(row, now));
+            } catch (RuntimeException e) {
+                // A bad birth record is skipped; its old chart stays until the user edits their profile
+                failed++;
+                log.warn("Saju chart rebuild skipped userId={}: {}", row.userId(), e.getMessage());
+            }
+        }
+        if (!args.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, args, CHART_TYPES);
+        for (Object[] chart : args) {
+            chartCodeCache.put((Long) chart[0], (Long) chart[CHART_CODE_COLUMN]);
+        }
+
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        upsertedCounter.increment(args.size());
+        failedCounter.increment(failed);
+        run.progress.complete(seq, rows.get(rows.size() - 1).userId(), args.size(), failed);
+    }
+
+    private static final int CHART_CODE_COLUMN = 17;
+    private static final int[] CHART_TYPES = {
+            Types.BIGINT, Types.DATE, Types.VARCHAR, Types.VARCHAR,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+            Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    // Same normalization as FortuneService.getOrCalculateSajuChart
+    private static Object[] chartRow(BirthRow row, Timestamp now) {
+        LocalDate solarDate = SolarLunarConverter.resolveSolarDate(row.birthDate(), row.calendarType(), row.isLeapMonth());
+        String birthHour = row.birthHour() != null ? row.birthHour() : "unknown";
+        String gender = row.gender() != null ? row.gender() : "male";
+        SajuChart chart = SajuCalculator.calculateChart(solarDate, birthHour, gender);
+        Map<OhaengEnum, Integer> ohaeng = chart.getOhaengBalance();
+        return new Object[]{
+                row.userId(), Date.valueOf(solarDate), birthHour, gender,
+                chart.getYearPillar().getGan().getIndex(), chart.getYearPillar().getJi().getIndex(),
+                chart.getMonthPillar().getGan().getIndex(), chart.getMonthPillar().getJi().getIndex(),
+                chart.getDayPillar().getGan().getIndex(), chart.getDayPillar().getJi().getIndex(),
+                chart.getHourPillar() != null ? chart.getHourPillar().getGan().getIndex() : null,
+                chart.getHourPillar() != null ? chart.getHourPillar().getJi().getIndex() : null,
+                ohaeng.getOrDefault(OhaengEnum.MOK, 0), ohaeng.getOrDefault(OhaengEnum.HWA, 0),
+                ohaeng.getOrDefault(OhaengEnum.TO, 0), ohaeng.getOrDefault(OhaengEnum.GEUM, 0),
+                ohaeng.getOrDefault(OhaengEnum.SU, 0),
+                SajuChartCode.encode(chart), now, now
+        };
+    }
+
+    private void finish(Run run) {
+        Throwable failure = run.failure.get();
+        String status = failure != null ? FAILED : run.stopRequested ? STOPPED : COMPLETED;
+        SajuChartRebuildJobEntity job = jobRepository.findById(run.jobId).orElseThrow();
+        job.setStatus(status);
+        job.setCheckpointUserId(run.progress.checkpoint);
+        job.setProcessed(run.progress.processed);
+        job.setFailed(run.progress.failed);
+        job.setUpdatedAt(LocalDateTime.now());
+        job.setFinishedAt(LocalDateTime.now());
+        if (failure != null) {
+            String message = String.valueOf(failure.getMessage());
+            job.setErrorMessage(message.length() > 500 ? message.substring(0, 500) : message);
+        }
+        jobRepository.save(job);
+        current.set(null);
+
+        log.info("Saju chart rebuild job {} {}: processed={} failed={} checkpoint={} ({} users/sec)",
+                run.jobId, status, run.progress.processed, run.progress.failed, run.progress.checkpoint,
+                String.format("%.0f", usersPerSecondGauge.get()));
+        if (failure != null) log.error("Saju chart rebuild job {} failed", run.jobId, failure);
+    }
+
+    private static Counter usersCounter(MeterRegistry registry, String result) {
+        return Counter.builder("saju.rebuild.users")
+                .description("Users processed by the saju chart rebuild job")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record BirthRow(long userId, LocalDate birthDate, String birthHour,
+                            String calendarType, Boolean isLeapMonth, String gender) {}
+
+    private static final class StopReading extends RuntimeException {
+        StopReading() { super(null, null, false, false); }
+    }
+
+    /** 한 번의 실행 상태. 읽기 스레드만 batch와 dispatch 카운터를 만진다. */
+    private final class Run {
+        final Long jobId;
+        final long startCheckpoint;
+        final long startedAt = System.nanoTime();
+        final Semaphore inflight = new Semaphore(parallelism * 2);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Progress progress;
+        volatile boolean stopRequested;
+        List<BirthRow> batch = new ArrayList<>(batchSize);
+        long dispatchedBatches;
+        long dispatchedUsers;
+
+        Run(SajuChartRebuildJobEntity job) {
+            this.jobId = job.getId();
+            this.startCheckpoint = job.getCheckpointUserId();
+            this.progress = new Progress(this, job);
+        }
+    }
+
+    /**
+     * 배치는 순서 없이 끝나므로, 앞선 배치가 모두 끝난 구간까지만 체크포인트를 전진시킨다.
+     */
+    private final class Progress {
+        private final Run run;
+        private final long total;
+        private final long processedAtStart;
+        private final TreeMap<Long, long[]> done = new TreeMap<>();
+        private long nextSeq;
+        long checkpoint;
+        long processed;
+        long failed;
+
+        Progress(Run run, SajuChartRebuildJobEntity job) {
+            this.run = run;
+            this.total = job.getTotalEstimate();
+            this.checkpoint = job.getCheckpointUserId();
+            this.processed = job.getProcessed();
+            this.processedAtStart = processed;
+            this.failed = job.getFailed();
+            checkpointGauge.set(checkpoint);
+        }
+
+        synchronized void complete(long seq, long lastUserId, int upserted, int failedUsers) {
+            done.put(seq, new long[]{lastUserId, upserted, failedUsers});
+            boolean advanced = false;
+            long[] next;
+            while ((next = done.remove(nextSeq)) != null) {
+                checkpoint = next[0];
+                processed += next[1] + next[2];
+                failed += next[2];
+                nextSeq++;
+                advanced = true;
+            }
+            if (!advanced) return;
+
+            jdbcTemplate.update(CHECKPOINT_SQL, checkpoint, processed, failed,
+                    Timestamp.valueOf(LocalDateTime.now()), run.jobId);
+            checkpointGauge.set(checkpoint);
+            progressGauge.set(total == 0 ? 1.0 : Math.min(1.0, (double) processed / total));
+            double seconds = (System.nanoTime() - run.startedAt) / 1_000_000_000.0;
+            usersPerSecondGauge.set(seconds <= 0 ? 0 : (processed - processedAtStart) / seconds);
+        }
+    }
+}
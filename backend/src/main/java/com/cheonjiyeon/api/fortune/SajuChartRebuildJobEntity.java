@@ -0,0 +1,69 @@
+package com.cheonjiyeon.api.fortune;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saju_chart_rebuild_jobs")
+public class SajuChartRebuildJobEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Long checkpointUserId = 0L;
+
+    @Column(nullable = false)
+    private Long processed = 0L;
+
+    @Column(nullable = false)
+    private Long failed = 0L;
+
+    @Column(nullable = false)
+    private Long totalEstimate = 0L;
+
+    private Long requestedBy;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    void onCreate() {
+        if (startedAt == null) startedAt = LocalDateTime.now();
+        if (updatedAt == null) updatedAt = startedAt;
+    }
+
+    public Long getId() { return id; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getCheckpointUserId() { return checkpointUserId; }
+    public void setCheckpointUserId(Long checkpointUserId) { this.checkpointUserId = checkpointUserId; }
+    public Long getProcessed() { return processed; }
+    public void setProcessed(Long processed) { this.processed = processed; }
+    public Long getFailed() { return failed; }
+    public void setFailed(Long failed) { this.failed = failed; }
+    public Long getTotalEstimate() { return totalEstimate; }
+    public void setTotalEstimate(Long totalEstimate) { this.totalEstimate = totalEstimate; }
+    public Long getRequestedBy() { return requestedBy; }
+    public void setRequestedBy(Long requestedBy) { this.requestedBy = requestedBy; }
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -0,0 +1,9 @@
+package com.cheonjiyeon.api.fortune;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SajuChartRebuildJobRepository extends JpaRepository<SajuChartRebuildJobEntity, Long> {
+    Optional<SajuChartRebuildJobEntity> findFirstByOrderByIdDesc();
+}
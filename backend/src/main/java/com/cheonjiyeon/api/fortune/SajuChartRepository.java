@@ -2,9 +2,12 @@ package com.cheonjiyeon.api.fortune;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SajuChartRepository extends JpaRepository<SajuChartEntity, Long> {
     Optional<SajuChartEntity> findByUserId(Long userId);
+    List<SajuChartEntity> findByUserIdIn(Collection<Long> userIds);
     void deleteByUserId(Long userId);
 }
@@ -1,6 +1,6 @@
 package com.cheonjiyeon.api.fortune;
 
-import com.cheonjiyeon.api.auth.TokenStore;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.common.ApiException;
@@ -15,12 +15,12 @@ import java.time.LocalDate;
 public class SajuController {
 
     private final FortuneService fortuneService;
-    private final TokenStore tokenStore;
+    private final AuthPrincipalResolver authPrincipals;
     private final UserRepository userRepository;
 
-    public SajuController(FortuneService fortuneService, TokenStore tokenStore, UserRepository userRepository) {
+    public SajuController(FortuneService fortuneService, AuthPrincipalResolver authPrincipals, UserRepository userRepository) {
         this.fortuneService = fortuneService;
-        this.tokenStore = tokenStore;
+        this.authPrincipals = authPrincipals;
         this.userRepository = userRepository;
     }
 
@@ -31,7 +31,7 @@ public class SajuController {
     public FortuneDtos.SajuChartResponse getMyChart(
             @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
-        Long userId = resolveUserId(authHeader);
+        Long userId = authPrincipals.require(authHeader).id();
         SajuChart chart = fortuneService.getOrCalculateSajuChart(userId);
         if (chart == null) {
             throw new ApiException(400, "생년월일 정보가 없습니다. 먼저 생년월일을 입력해주세요.");
@@ -48,9 +48,7 @@ public class SajuController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestBody FortuneDtos.BirthInfoRequest req
     ) {
-        Long userId = resolveUserId(authHeader);
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 사용자입니다."));
+        UserEntity user = authPrincipals.requireUser(authHeader);
 
         // 사용자 정보 업데이트
         if (req.birthDate() != null && !req.birthDate().isBlank()) {
@@ -76,22 +74,10 @@ public class SajuController {
 
         // 사주 재계산
         SajuChart chart = fortuneService.recalculateSajuChart(
-            userId, user.getBirthDate(), user.getBirthHour(),
+            user.getId(), user.getBirthDate(), user.getBirthHour(),
             user.getCalendarType(), user.getIsLeapMonth(), user.getGender()
         );
 
         return fortuneService.toChartResponse(chart);
     }
-
-    private Long resolveUserId(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-        return userId;
-    }
 }
@@ -17,19 +17,22 @@ public final class DailyFortuneCalculator {
      * 사주 기반 일일 운세 계산
      */
     public static DailyFortuneResult calculate(SajuChart chart, LocalDate today) {
-        CheonganEnum dayGan = chart.getDayGan();
-        CheonganEnum todayGan = ManseryeokData.getDayGan(today);
         JijiEnum todayJi = ManseryeokData.getDayJi(today);
+        return calculate(chart.getDayGan(), ManseryeokData.getDayGan(today), todayJi,
+            checkHarmony(todayJi, branchMask(chart)));
+    }
 
+    /**
+     * 일간·오늘 일진·합충 결과만으로 운세 계산. 사주의 나머지 요소는 결과에 영향을 주지 않는다.
+     */
+    public static DailyFortuneResult calculate(CheonganEnum dayGan, CheonganEnum todayGan,
+                                               JijiEnum todayJi, String harmonyType) {
         // 십성 관계
         SipseongEnum sipseong = SipseongEnum.calculate(dayGan, todayGan);
 
         // 12운성
         TwelveUnseongEnum unseong = TwelveUnseongEnum.calculate(dayGan, todayJi);
 
-        // 합충 관계
-        String harmonyType = checkHarmony(todayJi, chart);
-
         // 총운 점수 계산
         int overallScore = calculateOverallScore(sipseong, unseong, harmonyType, dayGan, todayGan);
 
@@ -141,34 +144,48 @@ public final class DailyFortuneCalculator {
         return clamp(overallScore + adjustment, 1, 100);
     }
 
+    /**
+     * 사주 네 기둥 지지의 집합 (비트 i-1 = 지지 인덱스 i)
+     */
+    public static int branchMask(SajuChart chart) {
+        int mask = bit(chart.getYearPillar().getJi()) | bit(chart.getMonthPillar().getJi())
+            | bit(chart.getDayPillar().getJi());
+        if (chart.getHourPillar() != null) mask |= bit(chart.getHourPillar().getJi());
+        return mask;
+    }
+
+    private static int bit(JijiEnum ji) {
+        return 1 << (ji.getIndex() - 1);
+    }
+
     /**
      * 합충형파해 체크
      */
-    private static String checkHarmony(JijiEnum todayJi, SajuChart chart) {
+    public static String checkHarmony(JijiEnum todayJi, int branchMask) {
         // 충(沖) 체크 - 인덱스 차이 6
-        if (isChung(todayJi, chart)) return "충";
+        if (isChung(todayJi, branchMask)) return "충";
 
         // 육합(六合) 체크
-        if (isYukhap(todayJi, chart)) return "육합";
+        if (isYukhap(todayJi, branchMask)) return "육합";
 
         // 삼합(三合) 체크
-        if (isSamhap(todayJi, chart)) return "삼합";
+        if (isSamhap(todayJi, branchMask)) return "삼합";
 
         // 형(刑) 체크
-        if (isHyeong(todayJi, chart)) return "형";
+        if (isHyeong(todayJi, branchMask)) return "형";
 
         // 파(破) 체크
-        if (isPa(todayJi, chart)) return "파";
+        if (isPa(todayJi, branchMask)) return "파";
 
         // 해(害) 체크
-        if (isHae(todayJi, chart)) return "해";
+        if (isHae(todayJi, branchMask)) return "해";
 
         return "없음";
     }
 
-    private static boolean isChung(JijiEnum todayJi, SajuChart chart) {
+    private static boolean isChung(JijiEnum todayJi, int branchMask) {
         JijiEnum chungJi = todayJi.getChung();
-        return matchesAnyJi(chungJi, chart);
+        return matchesAnyJi(chungJi, branchMask);
     }
 
     /**
@@ -178,12 +195,12 @@ public final class DailyFortuneCalculator {
         {1, 2}, {3, 12}, {4, 11}, {5, 10}, {6, 9}, {7, 8}
     };
 
-    private static boolean isYukhap(JijiEnum todayJi, SajuChart chart) {
+    private static boolean isYukhap(JijiEnum todayJi, int branchMask) {
         for (int[] pair : YUKHAP_PAIRS) {
             int partner = -1;
             if (todayJi.getIndex() == pair[0]) partner = pair[1];
             else if (todayJi.getIndex() == pair[1]) partner = pair[0];
-            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), chart)) return true;
+            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), branchMask)) return true;
         }
         return false;
     }
@@ -198,13 +215,13 @@ public final class DailyFortuneCalculator {
         {6, 10, 2},  // 사유축 (금국)
     };
 
-    private static boolean isSamhap(JijiEnum todayJi, SajuChart chart) {
+    private static boolean isSamhap(JijiEnum todayJi, int branchMask) {
         for (int[] group : SAMHAP_GROUPS) {
             boolean todayInGroup = false;
             int matchCount = 0;
             for (int idx : group) {
                 if (todayJi.getIndex() == idx) todayInGroup = true;
-                if (matchesAnyJi(JijiEnum.fromIndex(idx), chart)) matchCount++;
+                if (matchesAnyJi(JijiEnum.fromIndex(idx), branchMask)) matchCount++;
             }
             if (todayInGroup && matchCount >= 2) return true;
         }
@@ -218,12 +235,12 @@ public final class DailyFortuneCalculator {
         {3, 6}, {6, 9}, {2, 11}, {2, 8}, {1, 4}
     };
 
-    private static boolean isHyeong(JijiEnum todayJi, SajuChart chart) {
+    private static boolean isHyeong(JijiEnum todayJi, int branchMask) {
         for (int[] pair : HYEONG_PAIRS) {
             int partner = -1;
             if (todayJi.getIndex() == pair[0]) partner = pair[1];
             else if (todayJi.getIndex() == pair[1]) partner = pair[0];
-            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), chart)) return true;
+            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), branchMask)) return true;
         }
         return false;
     }
@@ -235,12 +252,12 @@ public final class DailyFortuneCalculator {
         {1, 10}, {2, 5}, {3, 12}, {4, 7}, {6, 9}, {8, 11}
     };
 
-    private static boolean isPa(JijiEnum todayJi, SajuChart chart) {
+    private static boolean isPa(JijiEnum todayJi, int branchMask) {
         for (int[] pair : PA_PAIRS) {
             int partner = -1;
             if (todayJi.getIndex() == pair[0]) partner = pair[1];
             else if (todayJi.getIndex() == pair[1]) partner = pair[0];
-            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), chart)) return true;
+            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), branchMask)) return true;
         }
         return false;
     }
@@ -252,22 +269,18 @@ public final class DailyFortuneCalculator {
         {1, 8}, {2, 7}, {3, 6}, {4, 5}, {9, 12}, {10, 11}
     };
 
-    private static boolean isHae(JijiEnum todayJi, SajuChart chart) {
+    private static boolean isHae(JijiEnum todayJi, int branchMask) {
         for (int[] pair : HAE_PAIRS) {
             int partner = -1;
             if (todayJi.getIndex() == pair[0]) partner = pair[1];
             else if (todayJi.getIndex() == pair[1]) partner = pair[0];
-            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), chart)) return true;
+            if (partner > 0 && matchesAnyJi(JijiEnum.fromIndex(partner), branchMask)) return true;
         }
         return false;
     }
 
-    private static boolean matchesAnyJi(JijiEnum target, SajuChart chart) {
-        if (chart.getYearPillar().getJi() == target) return true;
-        if (chart.getMonthPillar().getJi() == target) return true;
-        if (chart.getDayPillar().getJi() == target) return true;
-        if (chart.getHourPillar() != null && chart.getHourPillar().getJi() == target) return true;
-        return false;
+    private static boolean matchesAnyJi(JijiEnum target, int branchMask) {
+        return (branchMask & bit(target)) != 0;
     }
 
     private static String determineLuckyColor(CheonganEnum dayGan, CheonganEnum todayGan) {
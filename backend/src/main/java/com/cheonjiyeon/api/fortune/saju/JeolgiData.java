@@ -6,8 +6,8 @@ import java.time.Month;
 /**
  * 24절기 데이터 - 절기(節氣) 기준으로 월주의 지지를 결정
  *
- * 절기는 매년 날짜가 약간씩 다르지만, 근사적으로 고정 날짜를 사용.
- * 정확도를 높이려면 천문 데이터 사용 필요 (향후 확장).
+ * 1900~2100년은 ManseryeokCalendar의 연도별 절기 시각을 사용하고,
+ * 그 밖의 연도는 근사적인 고정 날짜를 사용한다.
  */
 public final class JeolgiData {
 
@@ -59,6 +59,8 @@ public final class JeolgiData {
      * @return 사주 월 번호 (1=인월 ~ 12=축월)
      */
     public static int getSajuMonth(LocalDate solarDate) {
+        if (ManseryeokCalendar.coversJeolgi(solarDate)) return ManseryeokCalendar.getSajuMonth(solarDate);
+
         int solarMonth = solarDate.getMonthValue();
         int solarDay = solarDate.getDayOfMonth();
 
@@ -103,6 +105,8 @@ public final class JeolgiData {
      * 양력 날짜로 입춘 이전인지 확인 (년주 계산용)
      */
     public static boolean isBeforeIpchun(LocalDate solarDate) {
+        if (ManseryeokCalendar.coversJeolgi(solarDate)) return ManseryeokCalendar.isBeforeIpchun(solarDate);
+
         int month = solarDate.getMonthValue();
         int day = solarDate.getDayOfMonth();
         // 입춘은 대략 2월 4일
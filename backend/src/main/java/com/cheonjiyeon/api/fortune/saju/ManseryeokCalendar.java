@@ -0,0 +1,170 @@
+package com.cheonjiyeon.api.fortune.saju;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 표 기반 만세력 (1900~2100)
+ *
+ * 연도별 음력 월 길이·윤달·설날과 12절(節)의 분 단위 시각을 압축한 리소스를
+ * 클래스 로딩 시 한 번 읽어 배열로 펼쳐 둔다. 음양력 변환과 절기 경계 조회는 DB 없이 O(1).
+ * 범위를 벗어난 날짜는 covers()가 false이며, 호출자는 기존 근사 계산으로 처리한다.
+ */
+public final class ManseryeokCalendar {
+
+    private ManseryeokCalendar() {}
+
+    public static final int FIRST_YEAR = 1900;
+    public static final int LAST_YEAR = 2100;
+
+    private static final String RESOURCE = "/saju/manseryeok-1900-2100.txt";
+    private static final int YEARS = LAST_YEAR - FIRST_YEAR + 1;
+    private static final int MAX_MONTHS = 13;
+
+    // Lunar year y starts at NEW_YEAR[y - FIRST_YEAR]; MONTH_START holds every month start in order
+    private static final long[] NEW_YEAR = new long[YEARS + 1];
+    private static final int[] LEAP_MONTH = new int[YEARS];
+    private static final int[] FIRST_MONTH = new int[YEARS + 1];
+    private static final long[] MONTH_START;
+    // Per day: ordinal into MONTH_START of the lunar month containing it
+    private static final char[] MONTH_OF_DAY;
+    // 12 jeol per solar year as KST minutes since 1970-01-01 00:00 KST, 소한 first
+    private static final long[] JEOL_MINUTE = new long[YEARS * 12];
+
+    static {
+        long[] starts = new long[YEARS * MAX_MONTHS + 1];
+        int months = 0;
+        try (InputStream in = ManseryeokCalendar.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) throw new IllegalStateException("Missing " + RESOURCE);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+            String line;
+            int expected = FIRST_YEAR;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] f = line.trim().split(" ");
+                int year = Integer.parseInt(f[0]);
+                if (year != expected++ || f.length != 14) {
+                    throw new IllegalStateException("Malformed " + RESOURCE + " at " + line);
+                }
+                int y = year - FIRST_YEAR;
+                int lunar = Integer.parseInt(f[1], 16);
+                long yearStart = LocalDate.of(year, 1, 1).toEpochDay();
+
+                LEAP_MONTH[y] = (lunar >>> 13) & 0xF;
+                NEW_YEAR[y] = yearStart + (lunar >>> 17);
+                FIRST_MONTH[y] = months;
+                long start = NEW_YEAR[y];
+                int count = LEAP_MONTH[y] == 0 ? 12 : 13;
+                for (int m = 0; m < count; m++) {
+                    starts[months++] = start;
+                    start += (lunar >>> m & 1) == 1 ? 30 : 29;
+                }
+                NEW_YEAR[y + 1] = start;
+
+                for (int t = 0; t < 12; t++) {
+                    JEOL_MINUTE[y * 12 + t] = yearStart * 1440 + Long.parseLong(f[t + 2], 16);
+                }
+            }
+            if (expected != LAST_YEAR + 1) throw new IllegalStateException("Incomplete " + RESOURCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        FIRST_MONTH[YEARS] = months;
+        starts[months] = NEW_YEAR[YEARS];
+        MONTH_START = java.util.Arrays.copyOf(starts, months + 1);
+
+        MONTH_OF_DAY = new char[(int) (NEW_YEAR[YEARS] - NEW_YEAR[0])];
+        for (int m = 0; m < months; m++) {
+            for (long d = MONTH_START[m]; d < MONTH_START[m + 1]; d++) {
+                MONTH_OF_DAY[(int) (d - NEW_YEAR[0])] = (char) m;
+            }
+        }
+    }
+
+    /** 음력 날짜. leapMonth가 true면 month 다음에 오는 윤달 */
+    public record LunarDate(int year, int month, int day, boolean leapMonth) {}
+
+    /** 음양력 변환 범위(1900 설 ~ 2100 섣달그믐) 안의 양력 날짜인지 */
+    public static boolean covers(LocalDate solarDate) {
+        long day = solarDate.toEpochDay();
+        return day >= NEW_YEAR[0] && day < NEW_YEAR[YEARS];
+    }
+
+    /** 절기 표 범위(1900~2100 양력 연도) 안인지 */
+    public static boolean coversJeolgi(LocalDate solarDate) {
+        int year = solarDate.getYear();
+        return year >= FIRST_YEAR && year <= LAST_YEAR;
+    }
+
+    public static LunarDate solarToLunar(LocalDate solarDate) {
+        if (!covers(solarDate)) throw new IllegalArgumentException("만세력 범위를 벗어난 날짜입니다: " + solarDate);
+        long day = solarDate.toEpochDay();
+        int ordinal = MONTH_OF_DAY[(int) (day - NEW_YEAR[0])];
+        int y = yearOfMonth(solarDate.getYear(), ordinal);
+        int index = ordinal - FIRST_MONTH[y];
+        int leap = LEAP_MONTH[y];
+        boolean isLeap = leap != 0 && index == leap;
+        int month = leap != 0 && index >= leap ? index : index + 1;
+        return new LunarDate(FIRST_YEAR + y, month, (int) (day - MONTH_START[ordinal]) + 1, isLeap);
+    }
+
+    /**
+     * 음력 → 양력. 해당 연도에 없는 윤달은 평달로, 월 길이를 넘는 일은 다음 달로 이어서 계산한다.
+     * 범위를 벗어난 연도는 null.
+     */
+    public static LocalDate lunarToSolar(int lunarYear, int lunarMonth, int lunarDay, boolean isLeapMonth) {
+        if (lunarYear < FIRST_YEAR || lunarYear > LAST_YEAR || lunarMonth < 1 || lunarMonth > 12) return null;
+        int y = lunarYear - FIRST_YEAR;
+        int leap = LEAP_MONTH[y];
+        int index = lunarMonth - 1;
+        if (leap != 0 && (lunarMonth > leap || (lunarMonth == leap && isLeapMonth))) index++;
+        return LocalDate.ofEpochDay(MONTH_START[FIRST_MONTH[y] + index] + lunarDay - 1);
+    }
+
+    /** 해당 음력 연도의 윤달 (없으면 0) */
+    public static int leapMonth(int lunarYear) {
+        return LEAP_MONTH[lunarYear - FIRST_YEAR];
+    }
+
+    /**
+     * 양력 연도의 절(節) 시각 (KST)
+     * @param index 0=소한, 1=입춘, 2=경칩 ... 11=대설 (양력 월 - 1)
+     */
+    public static LocalDateTime jeolgiAt(int solarYear, int index) {
+        long minute = JEOL_MINUTE[(solarYear - FIRST_YEAR) * 12 + index];
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 사주 월(1=인월 ~ 12=축월). 절기가 든 날부터 새 달로 본다.
+     */
+    public static int getSajuMonth(LocalDate solarDate) {
+        int index = solarDate.getMonthValue() - 1;
+        boolean entered = solarDate.toEpochDay() >= jeolDay(solarDate.getYear(), index);
+        // 소한 opens 축월(12); 입춘..대설 open 인월(1)..자월(11); before 소한 is still 자월
+        if (entered) return index == 0 ? 12 : index;
+        return index == 0 ? 11 : index == 1 ? 12 : index - 1;
+    }
+
+    /** 입춘이 든 날 이전인지 (년주 계산용) */
+    public static boolean isBeforeIpchun(LocalDate solarDate) {
+        return solarDate.toEpochDay() < jeolDay(solarDate.getYear(), 1);
+    }
+
+    private static long jeolDay(int solarYear, int index) {
+        return Math.floorDiv(JEOL_MINUTE[(solarYear - FIRST_YEAR) * 12 + index], 1440);
+    }
+
+    // The lunar year of a month is the solar year or the one before it
+    private static int yearOfMonth(int solarYear, int ordinal) {
+        int y = Math.min(solarYear - FIRST_YEAR, YEARS - 1);
+        return ordinal >= FIRST_MONTH[y] ? y : y - 1;
+    }
+}
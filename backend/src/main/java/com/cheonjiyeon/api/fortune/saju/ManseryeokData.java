@@ -1,7 +1,6 @@
 package com.cheonjiyeon.api.fortune.saju;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 /**
  * 만세력 데이터 - 일주(日柱) 산출
@@ -17,6 +16,7 @@ public final class ManseryeokData {
 
     // 2000-01-01 기준일
     private static final LocalDate REFERENCE_DATE = LocalDate.of(2000, 1, 1);
+    private static final long REFERENCE_EPOCH_DAY = REFERENCE_DATE.toEpochDay();
     // 2000-01-01의 천간 인덱스 (갑=1)
     private static final int REFERENCE_GAN_INDEX = 1; // 甲
     // 2000-01-01의 지지 인덱스 (진=5)
@@ -26,7 +26,7 @@ public final class ManseryeokData {
      * 양력 날짜의 일간(日干) 인덱스 (1~10) 계산
      */
     public static int getDayGanIndex(LocalDate solarDate) {
-        long days = ChronoUnit.DAYS.between(REFERENCE_DATE, solarDate);
+        long days = solarDate.toEpochDay() - REFERENCE_EPOCH_DAY;
         int ganIndex = (int) (((days % 10) + 10) % 10) + REFERENCE_GAN_INDEX;
         if (ganIndex > 10) ganIndex -= 10;
         return ganIndex;
@@ -36,12 +36,20 @@ public final class ManseryeokData {
      * 양력 날짜의 일지(日支) 인덱스 (1~12) 계산
      */
     public static int getDayJiIndex(LocalDate solarDate) {
-        long days = ChronoUnit.DAYS.between(REFERENCE_DATE, solarDate);
+        long days = solarDate.toEpochDay() - REFERENCE_EPOCH_DAY;
         int jiIndex = (int) (((days % 12) + 12) % 12) + REFERENCE_JI_INDEX;
         if (jiIndex > 12) jiIndex -= 12;
         return jiIndex;
     }
 
+    /**
+     * 양력 날짜의 60갑자 순번 (0=갑자 ~ 59=계해). 일간 = 순번 % 10 + 1, 일지 = 순번 % 12 + 1
+     */
+    public static int getDayGapjaIndex(LocalDate solarDate) {
+        // 2000-01-01 갑진 = 40
+        return (int) Math.floorMod(solarDate.toEpochDay() - REFERENCE_EPOCH_DAY + 40, 60L);
+    }
+
     /**
      * 양력 날짜의 일간 천간 반환
      */
@@ -0,0 +1,100 @@
+package com.cheonjiyeon.api.fortune.saju;
+
+import java.util.Map;
+
+/**
+ * 사주 명식의 64비트 압축 표현.
+ *
+ * 네 기둥을 (천간 4비트 + 지지 4비트)씩 하위 32비트에, 오행 개수 5개를 4비트씩 그 위 20비트에 담는다.
+ * 천간·지지 인덱스는 1부터 시작하므로 시주 8비트가 0이면 시주 미상이고, 정상 명식의 코드는 0이 될 수 없다.
+ *
+ * <pre>
+ *  bit 0-7   년주 (gan | ji << 4)
+ *  bit 8-15  월주
+ *  bit 16-23 일주
+ *  bit 24-31 시주 (0 = 미상)
+ *  bit 32-51 목·화·토·금·수 개수
+ *  bit 52-63 예약 (0)
+ * </pre>
+ */
+public final class SajuChartCode {
+
+    private SajuChartCode() {}
+
+    public static final long NONE = 0L;
+
+    /** 코드가 사용하는 비트. 나머지 상위 비트는 저장소·캐시가 자유롭게 쓸 수 있다. */
+    public static final int BITS = 52;
+
+    private static final int PILLAR_BITS = 8;
+    private static final int OHAENG_SHIFT = 32;
+    private static final OhaengEnum[] OHAENG = OhaengEnum.values();
+
+    public static long encode(SajuChart chart) {
+        long code = pillar(chart.getYearPillar())
+                | pillar(chart.getMonthPillar()) << PILLAR_BITS
+                | pillar(chart.getDayPillar()) << 2 * PILLAR_BITS;
+        if (chart.getHourPillar() != null) code |= pillar(chart.getHourPillar()) << 3 * PILLAR_BITS;
+        Map<OhaengEnum, Integer> balance = chart.getOhaengBalance();
+        for (int i = 0; i < OHAENG.length; i++) {
+            code |= (long) balance.getOrDefault(OHAENG[i], 0) << OHAENG_SHIFT + 4 * i;
+        }
+        return code;
+    }
+
+    public static SajuChart decode(long code) {
+        if (!isValid(code)) throw new IllegalArgumentException("잘못된 사주 명식 코드입니다: " + Long.toHexString(code));
+        SajuPillar hour = hasHour(code) ? pillar(code, 3) : null;
+        return new SajuChart(pillar(code, 0), pillar(code, 1), pillar(code, 2), hour);
+    }
+
+    /** 천간 1~10, 지지 1~12 범위와 오행 개수 합(6 또는 8)을 확인한다. */
+    public static boolean isValid(long code) {
+        if (code >>> BITS != 0) return false;
+        int pillars = hasHour(code) ? 4 : 3;
+        if (!hasHour(code) && (code >>> 3 * PILLAR_BITS & 0xFF) != 0) return false;
+        for (int p = 0; p < pillars; p++) {
+            int gan = gan(code, p), ji = ji(code, p);
+            if (gan < 1 || gan > 10 || ji < 1 || ji > 12) return false;
+        }
+        int total = 0;
+        for (int i = 0; i < OHAENG.length; i++) total += ohaengCount(code, OHAENG[i]);
+        return total == pillars * 2;
+    }
+
+    public static boolean hasHour(long code) {
+        return (code >>> 3 * PILLAR_BITS & 0xF) != 0;
+    }
+
+    /** 일간 인덱스 (1~10) */
+    public static int dayGan(long code) {
+        return gan(code, 2);
+    }
+
+    /** 사주 지지 집합. DailyFortuneCalculator.branchMask(chart)와 같은 값 */
+    public static int branchMask(long code) {
+        int mask = 1 << ji(code, 0) - 1 | 1 << ji(code, 1) - 1 | 1 << ji(code, 2) - 1;
+        if (hasHour(code)) mask |= 1 << ji(code, 3) - 1;
+        return mask;
+    }
+
+    public static int ohaengCount(long code, OhaengEnum ohaeng) {
+        return (int) (code >>> OHAENG_SHIFT + 4 * ohaeng.ordinal() & 0xF);
+    }
+
+    private static long pillar(SajuPillar pillar) {
+        return pillar.getGan().getIndex() | (long) pillar.getJi().getIndex() << 4;
+    }
+
+    private static SajuPillar pillar(long code, int p) {
+        return new SajuPillar(CheonganEnum.fromIndex(gan(code, p)), JijiEnum.fromIndex(ji(code, p)));
+    }
+
+    private static int gan(long code, int p) {
+        return (int) (code >>> p * PILLAR_BITS & 0xF);
+    }
+
+    private static int ji(long code, int p) {
+        return (int) (code >>> p * PILLAR_BITS + 4 & 0xF);
+    }
+}
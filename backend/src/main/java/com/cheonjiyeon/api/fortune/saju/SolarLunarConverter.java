@@ -12,18 +12,17 @@ import java.time.LocalDate;
  * 음력 입력 시 양력 변환이 필요한 케이스:
  * - 사용자가 calendarType="lunar"로 생년월일을 입력한 경우
  *
- * 현재 구현: 음력을 대략적으로 양력으로 변환 (1~2일 오차 가능)
- * 향후: 만세력 DB 테이블의 음력-양력 매핑 데이터로 정확한 변환
+ * 1900~2100년은 ManseryeokCalendar 표로 정확히 변환하고,
+ * 그 밖의 연도만 대략적인 근사 변환을 사용한다 (1~2일 오차 가능)
  */
 public final class SolarLunarConverter {
 
     private SolarLunarConverter() {}
 
     /**
-     * 음력 날짜를 양력 날짜로 변환 (근사값)
+     * 음력 날짜를 양력 날짜로 변환
      *
-     * 정확한 변환은 만세력 DB가 필요하지만,
-     * 현재는 음력-양력 차이의 대략적 보정으로 처리.
+     * 표 범위 밖의 연도는 음력-양력 차이의 대략적 보정으로 처리.
      *
      * 음력은 양력보다 약 20~50일 뒤쳐지므로,
      * 해당 연도의 음력 1월 1일 기준 offset 사용.
@@ -32,9 +31,12 @@ public final class SolarLunarConverter {
      * @param lunarMonth 음력 월
      * @param lunarDay 음력 일
      * @param isLeapMonth 윤달 여부
-     * @return 근사 양력 날짜
+     * @return 양력 날짜 (표 범위 밖이면 근사값)
      */
     public static LocalDate lunarToSolar(int lunarYear, int lunarMonth, int lunarDay, boolean isLeapMonth) {
+        LocalDate exact = ManseryeokCalendar.lunarToSolar(lunarYear, lunarMonth, lunarDay, isLeapMonth);
+        if (exact != null) return exact;
+
         // 음력 1/1은 양력 1월 21일 ~ 2월 20일 사이
         // 대략 양력 = 음력 + 30~33일 (연도별 편차)
         // 이 근사값은 사주 계산에서 +-1~2일 오차를 허용
@@ -0,0 +1,124 @@
+package com.cheonjiyeon.api.loadshed;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 시간으로 동시 처리 한도를 학습하는 리미터(Gradient 방식).
+ *
+ * sample-window마다 평균 응답 시간(short)을 장기 평균(long)과 비교해,
+ * short가 long × tolerance 이내면 한도를 √limit만큼 늘리고 넘으면 그 비율만큼(최대 절반) 줄인다.
+ * 처리 중 요청이 한도의 절반도 안 되는 구간은 한도가 병목이 아니므로 한도를 늘리지 않는다.
+ * 우선순위별로 한도의 일부까지만 받아, 한도가 줄면 낮은 우선순위부터 거절된다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // Number of sample windows the long-term latency average spans
+    private static final int LONG_WINDOW = 100;
+
+    private final LoadSheddingProperties properties;
+    private final LongSupplier nanoClock;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowPeakInFlight = new AtomicInteger();
+    private final LongAdder windowLatencySum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowStart;
+
+    private volatile double limit;
+    private double longLatency;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, System::nanoTime);
+        Gauge.builder("load_shedding.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Learned concurrent request limit")
+                .register(meterRegistry);
+        Gauge.builder("load_shedding.in_flight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Requests currently admitted by the load shedder")
+                .register(meterRegistry);
+    }
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties, LongSupplier nanoClock) {
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException("load-shedding limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.windowNanos = properties.getSampleWindow().toNanos();
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+        this.limit = clamp(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+    }
+
+    /** 우선순위 몫 안에 자리가 있으면 처리 중 요청으로 잡는다. true면 onComplete/onIgnore 중 하나를 꼭 호출해야 한다. */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * properties.share(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) return false;
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowPeakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /** 처리를 마친 요청의 응답 시간을 반영한다. */
+    public void onComplete(long latencyNanos) {
+        inFlight.decrementAndGet();
+        windowLatencySum.add(latencyNanos);
+        windowSamples.increment();
+
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            updateLimit();
+        }
+    }
+
+    /** 응답 시간이 부하를 나타내지 않는 요청(비동기 응답 등)은 자리만 반납한다. */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public double limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void updateLimit() {
+        long samples = windowSamples.sumThenReset();
+        long latencySum = windowLatencySum.sumThenReset();
+        int peak = windowPeakInFlight.getAndSet(inFlight.get());
+        if (samples == 0) return;
+
+        double shortLatency = Math.max(1, (double) latencySum / samples);
+        longLatency = longLatency == 0 ? shortLatency : longLatency + (shortLatency - longLatency) / LONG_WINDOW;
+        // After a slow spell the baseline is inflated; let it fall back quickly once latency recovers
+        if (longLatency / shortLatency > 2) longLatency *= 0.95;
+
+        double current = limit;
+        if (peak < current / 2) return;
+
+        double gradient = clamp(properties.getTolerance() * longLatency / shortLatency, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - properties.getSmoothing()) + target * properties.getSmoothing();
+        limit = clamp(smoothed, properties.getMinLimit(), properties.getMaxLimit());
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
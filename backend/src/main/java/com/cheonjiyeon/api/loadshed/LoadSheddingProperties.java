@@ -0,0 +1,157 @@
+package com.cheonjiyeon.api.loadshed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 200;
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private Duration sampleWindow = Duration.ofMillis(500);
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private double lowPriorityShare = 0.5;
+    private double normalShare = 0.8;
+    private List<String> exemptPaths = new ArrayList<>(List.of("/actuator"));
+    private List<String> lowPriorityPaths = new ArrayList<>(List.of(
+            "/api/v1/stats/public", "/api/v1/fortune/zodiac", "/api/v1/recommendations"));
+    private List<String> criticalPaths = new ArrayList<>(List.of(
+            "/api/v1/bookings", "/api/v1/payments", "/api/v1/cash", "/api/v1/wallet"));
+
+    /** 요청 경로의 우선순위. 제한 대상이 아니면 null */
+    public RequestPriority resolve(String path) {
+        if (startsWithAny(path, exemptPaths)) return null;
+        if (startsWithAny(path, criticalPaths)) return RequestPriority.CRITICAL;
+        if (startsWithAny(path, lowPriorityPaths)) return RequestPriority.LOW;
+        return RequestPriority.NORMAL;
+    }
+
+    /** 우선순위별로 채울 수 있는 한도 비율 */
+    public double share(RequestPriority priority) {
+        return switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> normalShare;
+            case LOW -> lowPriorityShare;
+        };
+    }
+
+    private static boolean startsWithAny(String path, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public Duration getSampleWindow() {
+        return sampleWindow;
+    }
+
+    public void setSampleWindow(Duration sampleWindow) {
+        this.sampleWindow = sampleWindow;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public double getLowPriorityShare() {
+        return lowPriorityShare;
+    }
+
+    public void setLowPriorityShare(double lowPriorityShare) {
+        this.lowPriorityShare = lowPriorityShare;
+    }
+
+    public double getNormalShare() {
+        return normalShare;
+    }
+
+    public void setNormalShare(double normalShare) {
+        this.normalShare = normalShare;
+    }
+
+    public List<String> getExemptPaths() {
+        return exemptPaths;
+    }
+
+    public void setExemptPaths(List<String> exemptPaths) {
+        this.exemptPaths = exemptPaths;
+    }
+
+    public List<String> getLowPriorityPaths() {
+        return lowPriorityPaths;
+    }
+
+    public void setLowPriorityPaths(List<String> lowPriorityPaths) {
+        this.lowPriorityPaths = lowPriorityPaths;
+    }
+
+    public List<String> getCriticalPaths() {
+        return criticalPaths;
+    }
+
+    public void setCriticalPaths(List<String> criticalPaths) {
+        this.criticalPaths = criticalPaths;
+    }
+}
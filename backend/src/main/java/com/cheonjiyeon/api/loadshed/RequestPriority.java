@@ -0,0 +1,10 @@
+package com.cheonjiyeon.api.loadshed;
+
+/**
+ * 과부하 시 처리 순서. LOW부터 버리고 CRITICAL(예약·결제)은 한도 끝까지 받는다.
+ */
+public enum RequestPriority {
+    CRITICAL,
+    NORMAL,
+    LOW
+}
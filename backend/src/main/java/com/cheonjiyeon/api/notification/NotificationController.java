@@ -94,7 +94,7 @@ public class NotificationController {
     }
 
     private Long resolveUserId(String authHeader) {
-        return authService.me(authHeader).id();
+        return authService.principal(authHeader).id();
     }
 
     private Map<String, Object> toMap(NotificationEntity e) {
@@ -37,7 +37,7 @@ public class NotificationPreferenceController {
     }
 
     private Long resolveUserId(String authHeader) {
-        return authService.me(authHeader).id();
+        return authService.principal(authHeader).id();
     }
 
     private Map<String, Object> toMap(NotificationPreferenceEntity p) {
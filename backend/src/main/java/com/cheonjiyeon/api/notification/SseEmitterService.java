@@ -7,6 +7,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
@@ -54,6 +55,34 @@ public class SseEmitterService {
         return emitter;
     }
 
+    /**
+     * Snapshot of users with an open stream on this node.
+     */
+    public Set<Long> connectedUserIds() {
+        return Set.copyOf(emitters.keySet());
+    }
+
+    /**
+     * Send a named event to a connected user. Returns false if the user has no open stream
+     * or the send failed (the broken emitter is dropped).
+     */
+    public boolean push(Long userId, String eventName, Object data) {
+        SseEmitter emitter = emitters.get(userId);
+        if (emitter == null) {
+            return false;
+        }
+
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to push SSE {} to userId={}, removing emitter", eventName, userId);
+            // Only drop this emitter; the user may have reconnected meanwhile
+            emitters.remove(userId, emitter);
+            return false;
+        }
+    }
+
     public void pushNotification(Long userId, NotificationEntity notification) {
         SseEmitter emitter = emitters.get(userId);
         if (emitter == null) {
@@ -23,7 +23,7 @@ public class PaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @Valid @RequestBody PaymentDtos.CreatePaymentRequest req
     ) {
-        Long actor = authService.me(authHeader).id();
+        Long actor = authService.principal(authHeader).id();
         return paymentService.create(actor, req);
     }
 
@@ -32,7 +32,7 @@ public class PaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        Long actor = authService.me(authHeader).id();
+        Long actor = authService.principal(authHeader).id();
         return paymentService.confirm(actor, id);
     }
 
@@ -41,7 +41,7 @@ public class PaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        Long actor = authService.me(authHeader).id();
+        Long actor = authService.principal(authHeader).id();
         return paymentService.cancel(actor, id);
     }
 
@@ -50,7 +50,7 @@ public class PaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        authService.me(authHeader);
+        authService.principal(authHeader);
         return paymentService.get(id);
     }
 
@@ -68,7 +68,7 @@ public class PaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        Long actor = authService.requireAdmin(authHeader).getId();
+        Long actor = authService.requireAdmin(authHeader).id();
         return paymentService.retryPostActions(actor, id);
     }
 }
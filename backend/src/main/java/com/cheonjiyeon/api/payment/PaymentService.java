@@ -3,6 +3,8 @@ package com.cheonjiyeon.api.payment;
 import com.cheonjiyeon.api.alert.AlertWebhookService;
 import com.cheonjiyeon.api.audit.AuditLogService;
 import com.cheonjiyeon.api.booking.BookingEntity;
+import com.cheonjiyeon.api.booking.BookingEvent;
+import com.cheonjiyeon.api.booking.BookingLifecycle;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.chat.ChatRoomRepository;
 import com.cheonjiyeon.api.chat.ChatService;
@@ -32,6 +34,7 @@ public class PaymentService {
     private final PaymentStatusLogRepository paymentStatusLogRepository;
     private final AuditLogService auditLogService;
     private final AlertWebhookService alertWebhookService;
+    private final BookingLifecycle bookingLifecycle;
 
     public PaymentService(PaymentRepository paymentRepository,
                           BookingRepository bookingRepository,
@@ -41,7 +44,8 @@ public class PaymentService {
                           NotificationService notificationService,
                           PaymentStatusLogRepository paymentStatusLogRepository,
                           AuditLogService auditLogService,
-                          AlertWebhookService alertWebhookService) {
+                          AlertWebhookService alertWebhookService,
+                          BookingLifecycle bookingLifecycle) {
         this.paymentRepository = paymentRepository;
         this.bookingRepository = bookingRepository;
         this.paymentProvider = paymentProvider;
@@ -51,6 +55,7 @@ public class PaymentService {
         this.paymentStatusLogRepository = paymentStatusLogRepository;
         this.auditLogService = auditLogService;
         this.alertWebhookService = alertWebhookService;
+        this.bookingLifecycle = bookingLifecycle;
     }
 
     @Transactional
@@ -77,6 +82,10 @@ public class PaymentService {
 
     @Transactional
     public PaymentDtos.PaymentResponse confirm(Long actorId, Long paymentId) {
+        return confirm(actorId, paymentId, false);
+    }
+
+    private PaymentDtos.PaymentResponse confirm(Long actorId, Long paymentId, boolean fromProvider) {
         PaymentEntity p = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new ApiException(404, "결제를 찾을 수 없습니다."));
         ensureConfirmable(p.getStatus());
@@ -90,10 +99,7 @@ public class PaymentService {
         BookingEntity booking = bookingRepository.findById(saved.getBookingId())
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
 
-        if (ok) {
-            booking.setStatus("PAID");
-            bookingRepository.save(booking);
-
+        if (ok && applyBookingEvent(booking, BookingEvent.PAYMENT_CONFIRMED, actorId, fromProvider)) {
             try {
                 chatService.ensureRoom(actorId, booking.getId(), booking.getUser().getId(), booking.getCounselor().getId());
             } catch (Exception e) {
@@ -109,9 +115,10 @@ public class PaymentService {
                 logTransition(saved.getId(), "PAID", "PAID", "notification_retry_needed");
                 alertWebhookService.sendFailureEvent("NOTIFICATION_FAIL", "paymentId=" + saved.getId() + ", bookingId=" + booking.getId());
             }
+        } else if (ok) {
+            refundUnbookableCharge(saved, booking);
         } else {
-            booking.setStatus("PAYMENT_FAILED");
-            bookingRepository.save(booking);
+            applyBookingEvent(booking, BookingEvent.PAYMENT_FAILED, actorId, fromProvider);
             chatRoomRepository.findByBookingId(booking.getId()).ifPresent(room -> {
                 room.setStatus("CLOSED");
                 chatRoomRepository.save(room);
@@ -125,6 +132,10 @@ public class PaymentService {
 
     @Transactional
     public PaymentDtos.PaymentResponse cancel(Long actorId, Long paymentId) {
+        return cancel(actorId, paymentId, false);
+    }
+
+    private PaymentDtos.PaymentResponse cancel(Long actorId, Long paymentId, boolean fromProvider) {
         PaymentEntity p = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new ApiException(404, "결제를 찾을 수 없습니다."));
         ensureCancelable(p.getStatus());
@@ -138,8 +149,7 @@ public class PaymentService {
 
         BookingEntity booking = bookingRepository.findById(saved.getBookingId())
                 .orElseThrow(() -> new ApiException(404, "예약을 찾을 수 없습니다."));
-        booking.setStatus("PAYMENT_CANCELED");
-        bookingRepository.save(booking);
+        applyBookingEvent(booking, BookingEvent.PAYMENT_CANCELED, actorId, fromProvider);
 
         chatRoomRepository.findByBookingId(booking.getId()).ifPresent(room -> {
             room.setStatus("CLOSED");
@@ -217,7 +227,7 @@ public class PaymentService {
         }
 
         if ("PAID".equals(type) || "CONFIRMED".equals(type)) {
-            confirm(0L, p.getId());
+            confirm(0L, p.getId(), true);
             return;
         }
         if ("CANCELED".equals(type) || "FAILED".equals(type)) {
@@ -228,8 +238,7 @@ public class PaymentService {
                 logTransition(p.getId(), prev, "FAILED", "webhook_failed");
 
                 bookingRepository.findById(p.getBookingId()).ifPresent(booking -> {
-                    booking.setStatus("PAYMENT_FAILED");
-                    bookingRepository.save(booking);
+                    applyBookingEvent(booking, BookingEvent.PAYMENT_FAILED, null, true);
                     chatRoomRepository.findByBookingId(booking.getId()).ifPresent(room -> {
                         room.setStatus("CLOSED");
                         chatRoomRepository.save(room);
@@ -237,7 +246,7 @@ public class PaymentService {
                 });
                 alertWebhookService.sendFailureEvent("PAYMENT_WEBHOOK_FAILED", "paymentId=" + p.getId() + ", providerTxId=" + providerTxId);
             } else {
-                cancel(0L, p.getId());
+                cancel(0L, p.getId(), true);
             }
             return;
         }
@@ -245,6 +254,48 @@ public class PaymentService {
         throw new ApiException(400, "지원하지 않는 webhook eventType 입니다.");
     }
 
+    /**
+     * 사용자·관리자 요청은 예약 상태가 맞지 않으면 409로 거절한다.
+     * 결제사 이벤트는 결제 상태를 그대로 기록해야 하므로, 적용할 수 없는 예약 전이는 기록만 남기고 넘어간다.
+     */
+    private boolean applyBookingEvent(BookingEntity booking, BookingEvent event, Long actorId, boolean fromProvider) {
+        if (!fromProvider) {
+            bookingLifecycle.transition(booking, event, actorId);
+            return true;
+        }
+        if (bookingLifecycle.tryTransition(booking, event, actorId).isPresent()) return true;
+
+        log.warn("booking transition ignored for provider event. bookingId={} status={} event={}",
+                booking.getId(), booking.getStatus(), event);
+        auditLogService.log(0L, "BOOKING_TRANSITION_IGNORED", "BOOKING", booking.getId());
+        return false;
+    }
+
+    /**
+     * 결제사에서는 승인됐지만 예약이 이미 취소 등으로 결제를 받을 수 없는 경우. 바로 결제 취소(환불)를 시도하고,
+     * 실패하면 PAID로 두되 refund_required 이력과 알림을 남겨 운영자가 처리하도록 한다.
+     */
+    private void refundUnbookableCharge(PaymentEntity p, BookingEntity booking) {
+        boolean refunded;
+        try {
+            refunded = paymentProvider.cancel(p.getProviderTxId());
+        } catch (Exception e) {
+            log.error("auto refund failed. paymentId={} bookingId={}", p.getId(), booking.getId(), e);
+            refunded = false;
+        }
+
+        if (refunded) {
+            p.setStatus("CANCELED");
+            paymentRepository.save(p);
+            logTransition(p.getId(), "PAID", "CANCELED", "auto_refund_booking_" + booking.getStatus().toLowerCase());
+            auditLogService.log(0L, "PAYMENT_AUTO_REFUNDED", "PAYMENT", p.getId());
+            return;
+        }
+        logTransition(p.getId(), "PAID", "PAID", "refund_required");
+        alertWebhookService.sendFailureEvent("PAYMENT_REFUND_REQUIRED",
+                "paymentId=" + p.getId() + ", bookingId=" + booking.getId() + ", bookingStatus=" + booking.getStatus());
+    }
+
     private void ensureConfirmable(String from) {
         if ("PAID".equals(from) || "CANCELED".equals(from)) {
             throw new ApiException(409, "이미 종료된 결제 상태입니다.");
@@ -28,7 +28,7 @@ public class PortOnePaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @Valid @RequestBody PreparePaymentRequest request
     ) {
-        Long userId = authService.me(authHeader).id();
+        Long userId = authService.principal(authHeader).id();
         return portOnePaymentService.preparePayment(userId, request.productId(), request.customerEmail());
     }
 
@@ -37,7 +37,7 @@ public class PortOnePaymentController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id
     ) {
-        Long userId = authService.me(authHeader).id();
+        Long userId = authService.principal(authHeader).id();
         return portOnePaymentService.confirmPayment(userId, id);
     }
 
@@ -0,0 +1,148 @@
+package com.cheonjiyeon.api.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 로컬 토큰 버킷.
+ *
+ * 버킷 상태(마지막 갱신 시각 40비트 + 1/256 단위 토큰 24비트)를 long 하나에 담아 CAS로 갱신하므로
+ * 요청 경로에 락이 없다. 키는 16개 스트라이프로 나눠 스트라이프마다 max-keys/16개까지만 보관한다.
+ * window 이상 쉬어 가득 찬 버킷은 새 버킷과 같으므로, 자리가 모자라거나 정리 주기가 되면 먼저 지운다.
+ * 그래도 넘치면(XFF 위조 등으로 키가 폭증) 임의의 키를 지워 메모리 상한을 지킨다.
+ */
+@Component
+@ConditionalOnExpression("!(${redis.enabled:false} and '${rate-limit.backend:local}' == 'redis')")
+public class LocalRateLimiter implements RateLimiter {
+
+    private static final int STRIPES = 16;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long SCALE = 256;
+    private static final long SWEEP_INTERVAL_MS = 60_000;
+
+    /** 버킷 하나가 담을 수 있는 최대 요청 수 */
+    public static final int MAX_LIMIT = (int) (TOKEN_MASK / SCALE);
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxKeysPerStripe;
+    private final LongSupplier clock;
+    private final long epoch;
+
+    @Autowired
+    public LocalRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getMaxKeys(), System::currentTimeMillis);
+        Gauge.builder("rate_limit.local.keys", this, LocalRateLimiter::size)
+                .description("Client keys tracked by the local rate limiter")
+                .register(meterRegistry);
+    }
+
+    public LocalRateLimiter(int maxKeys, LongSupplier clock) {
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.clock = clock;
+        // Timestamps are stored relative to construction so they fit in 40 bits
+        this.epoch = clock.getAsLong();
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Stripe();
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitPolicy policy) {
+        long now = clock.getAsLong() - epoch;
+        long windowMs = policy.window().toMillis();
+        long capacity = policy.limit() * SCALE;
+        Bucket bucket = bucket(key, windowMs, capacity, now);
+
+        while (true) {
+            long state = bucket.get();
+            long last = state >>> TOKEN_BITS;
+            long elapsed = Math.max(0, now - last);
+            long refill = elapsed >= windowMs ? capacity : elapsed * capacity / windowMs;
+            long tokens = Math.min(capacity, (state & TOKEN_MASK) + refill);
+            // Advance only by the time that produced whole refill units so frequent callers still refill;
+            // rounding up never hands out more than the configured rate
+            long time = tokens == capacity ? Math.max(now, last) : last + (refill * windowMs + capacity - 1) / capacity;
+
+            boolean allowed = tokens >= SCALE;
+            long left = allowed ? tokens - SCALE : tokens;
+            if (bucket.compareAndSet(state, pack(time, left))) {
+                long retryAfter = allowed ? 0 : ((SCALE - left) * windowMs + capacity - 1) / capacity;
+                return new Decision(allowed, policy.limit(), (int) (left / SCALE), retryAfter);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) size += stripe.buckets.size();
+        return size;
+    }
+
+    private Bucket bucket(String key, long windowMs, long capacity, long now) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (STRIPES - 1)];
+        Bucket bucket = stripe.buckets.get(key);
+        if (bucket != null) return bucket;
+
+        if (stripe.buckets.size() >= maxKeysPerStripe || now - stripe.lastSweep.get() >= SWEEP_INTERVAL_MS) {
+            stripe.sweep(now, maxKeysPerStripe);
+        }
+        Bucket fresh = new Bucket(windowMs, pack(now, capacity));
+        Bucket existing = stripe.buckets.putIfAbsent(key, fresh);
+        return existing != null ? existing : fresh;
+    }
+
+    private static long pack(long time, long tokens) {
+        return time << TOKEN_BITS | tokens;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Bucket extends AtomicLong {
+        final long windowMs;
+
+        Bucket(long windowMs, long state) {
+            super(state);
+            this.windowMs = windowMs;
+        }
+
+        boolean idle(long now) {
+            return now - (get() >>> TOKEN_BITS) >= windowMs;
+        }
+    }
+
+    private static final class Stripe {
+        final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+        final AtomicLong lastSweep = new AtomicLong();
+        final AtomicBoolean sweeping = new AtomicBoolean();
+
+        void sweep(long now, int maxKeys) {
+            // One sweeper per stripe; others insert and let the sweeper catch up
+            if (!sweeping.compareAndSet(false, true)) return;
+            try {
+                lastSweep.set(now);
+                // A bucket idle for a full window has refilled, so dropping it changes nothing
+                buckets.values().removeIf(bucket -> bucket.idle(now));
+                if (buckets.size() < maxKeys) return;
+                // Still full of active keys: drop some so memory stays bounded
+                Iterator<Bucket> it = buckets.values().iterator();
+                for (int i = 0; i < Math.max(1, maxKeys / 8) && it.hasNext(); i++) {
+                    it.next();
+                    it.remove();
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+}
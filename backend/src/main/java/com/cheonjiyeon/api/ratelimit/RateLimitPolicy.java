@@ -0,0 +1,39 @@
+package com.cheonjiyeon.api.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 경로 그룹별 요청 한도. window 동안 limit회, limit이 0이면 제한하지 않는다.
+ * paths는 요청 URI 접두사이며 그룹은 설정 순서대로 처음 일치하는 것을 쓴다.
+ */
+public record RateLimitPolicy(
+        String name,
+        List<String> paths,
+        int limit,
+        Duration window
+) {
+    public RateLimitPolicy {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("rate-limit group name is required");
+        }
+        paths = paths == null ? List.of() : List.copyOf(paths);
+        if (limit < 0 || limit > LocalRateLimiter.MAX_LIMIT) {
+            throw new IllegalArgumentException("rate-limit group " + name + ": limit must be 0.." + LocalRateLimiter.MAX_LIMIT);
+        }
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("rate-limit group " + name + ": window must be positive");
+        }
+    }
+
+    public boolean matches(String path) {
+        for (String prefix : paths) {
+            if (path.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    public boolean unlimited() {
+        return limit == 0;
+    }
+}
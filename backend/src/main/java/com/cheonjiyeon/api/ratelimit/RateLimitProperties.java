@@ -0,0 +1,71 @@
+package com.cheonjiyeon.api.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private String backend = "local";
+    private int maxKeys = 100_000;
+    // Only behind a proxy that sets X-Forwarded-For; otherwise clients pick their own bucket key
+    private boolean trustForwardedFor = false;
+    private List<RateLimitPolicy> groups = new ArrayList<>(List.of(
+            new RateLimitPolicy("auth", List.of("/api/v1/auth/login", "/api/v1/auth/signup"), 10, Duration.ofMinutes(1)),
+            new RateLimitPolicy("general", List.of("/"), 60, Duration.ofMinutes(1))
+    ));
+
+    /** 요청 경로에 적용할 그룹. 일치하는 그룹이 없으면 null */
+    public RateLimitPolicy resolve(String path) {
+        for (RateLimitPolicy group : groups) {
+            if (group.matches(path)) return group;
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    public void setTrustForwardedFor(boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public List<RateLimitPolicy> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<RateLimitPolicy> groups) {
+        this.groups = groups;
+    }
+}
@@ -0,0 +1,18 @@
+package com.cheonjiyeon.api.ratelimit;
+
+/**
+ * 요청 한도 엔진.
+ * rate-limit.backend=redis 이고 redis.enabled=true 일 때만 Redis 슬라이딩 윈도우 구현이 사용되며,
+ * 그 외에는 노드 로컬 토큰 버킷으로 처리한다.
+ */
+public interface RateLimiter {
+
+    /**
+     * @param remaining        이번 요청 이후 남은 요청 수
+     * @param retryAfterMillis 거절된 경우 다음 요청이 가능해질 때까지의 시간
+     */
+    record Decision(boolean allowed, int limit, int remaining, long retryAfterMillis) {}
+
+    /** key(클라이언트 + 그룹)에 대해 요청 1회를 소비한다. */
+    Decision tryAcquire(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,97 @@
+package com.cheonjiyeon.api.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Lua 스크립트 기반 슬라이딩 윈도우.
+ *
+ * 키마다 요청 시각을 ZSET에 담고, 윈도우를 벗어난 항목 정리·개수 확인·추가를 한 스크립트에서 처리해
+ * 모든 노드가 같은 한도를 공유한다. 시각은 Redis TIME을 써서 노드 간 시계 차이에 영향받지 않는다.
+ * Redis 호출이 실패하면 노드 로컬 토큰 버킷으로 대신 판단한다.
+ */
+@Component
+@ConditionalOnExpression("${redis.enabled:false} and '${rate-limit.backend:local}' == 'redis'")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1] = sliding window zset
+    // ARGV = windowMs, limit, member
+    // Returns {allowed, remaining, retryAfterMs}
+    private static final String ACQUIRE_SCRIPT = """
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            local count = redis.call('ZCARD', KEYS[1])
+            if count < limit then
+              redis.call('ZADD', KEYS[1], now, ARGV[3])
+              redis.call('PEXPIRE', KEYS[1], window)
+              return {1, limit - count - 1, 0}
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return {0, 0, tonumber(oldest[2]) + window - now}
+            """;
+
+    private final RedissonClient redissonClient;
+    private final LocalRateLimiter fallback;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean degraded = new AtomicBoolean();
+    private final Counter fallbackCounter;
+
+    public RedisRateLimiter(RedissonClient redissonClient,
+                            RateLimitProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.fallback = new LocalRateLimiter(properties.getMaxKeys(), System::currentTimeMillis);
+        this.fallbackCounter = Counter.builder("rate_limit.redis.fallbacks")
+                .description("Rate limit decisions made locally because Redis was unavailable")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitPolicy policy) {
+        try {
+            List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    ACQUIRE_SCRIPT,
+                    RScript.ReturnType.MULTI,
+                    List.of(KEY_PREFIX + key),
+                    String.valueOf(policy.window().toMillis()),
+                    String.valueOf(policy.limit()),
+                    nodeId + ":" + sequence.incrementAndGet());
+            if (degraded.compareAndSet(true, false)) {
+                log.info("Redis rate limiter recovered");
+            }
+            return new Decision(number(result.get(0)) == 1, policy.limit(),
+                    (int) number(result.get(1)), Math.max(0, number(result.get(2))));
+        } catch (Exception e) {
+            if (degraded.compareAndSet(false, true)) {
+                log.warn("Redis rate limiter unavailable, falling back to local limits", e);
+            }
+            fallbackCounter.increment();
+            return fallback.tryAcquire(key, policy);
+        }
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number n ? n.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
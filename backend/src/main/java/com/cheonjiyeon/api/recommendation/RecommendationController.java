@@ -36,7 +36,7 @@ public class RecommendationController {
     @GetMapping("/personalized")
     public ResponseEntity<List<RecommendationDtos.RecommendedCounselorResponse>> personalized(
             @RequestHeader("Authorization") String auth) {
-        Long userId = authService.me(auth).id();
+        Long userId = authService.principal(auth).id();
         List<RecommendationDtos.RecommendedCounselorResponse> result = recommendationService.getPersonalized(userId);
         return ResponseEntity.ok(result);
     }
@@ -1,6 +1,7 @@
 package com.cheonjiyeon.api.recommendation;
 
 import com.cheonjiyeon.api.booking.BookingRepository;
+import com.cheonjiyeon.api.booking.BookingStatus;
 import com.cheonjiyeon.api.consultation.ConsultationSessionRepository;
 import com.cheonjiyeon.api.counselor.CounselorEntity;
 import com.cheonjiyeon.api.counselor.CounselorRepository;
@@ -141,7 +142,7 @@ public class RecommendationService {
         long totalBookings = bookingRepository.countByCounselorId(counselor.getId());
         var counselorBookings = bookingRepository.findByCounselorIdOrderByIdDesc(counselor.getId());
         long completedSessions = counselorBookings.stream()
-                .filter(b -> "COMPLETED".equals(b.getStatus()) || "PAID".equals(b.getStatus()))
+                .filter(b -> BookingStatus.COMPLETED.is(b.getStatus()) || BookingStatus.PAID.is(b.getStatus()))
                 .count();
         double completionRate = totalBookings > 0 ? (double) completedSessions / totalBookings : 0.5;
 
@@ -1,9 +1,8 @@
 package com.cheonjiyeon.api.referral;
 
 import com.cheonjiyeon.api.audit.AuditLogService;
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.wallet.WalletService;
 import org.springframework.stereotype.Service;
@@ -17,66 +16,63 @@ import java.util.UUID;
 public class ReferralService {
     private final ReferralCodeRepository referralCodeRepository;
     private final ReferralRewardRepository referralRewardRepository;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final WalletService walletService;
     private final AuditLogService auditLogService;
 
     public ReferralService(
             ReferralCodeRepository referralCodeRepository,
             ReferralRewardRepository referralRewardRepository,
-            TokenStore tokenStore,
-            UserRepository userRepository,
+            AuthPrincipalResolver authPrincipals,
             WalletService walletService,
             AuditLogService auditLogService
     ) {
         this.referralCodeRepository = referralCodeRepository;
         this.referralRewardRepository = referralRewardRepository;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.walletService = walletService;
         this.auditLogService = auditLogService;
     }
 
     @Transactional
     public Map<String, Object> getOrCreateCode(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
-        ReferralCodeEntity codeEntity = referralCodeRepository.findByUserId(user.getId())
+        ReferralCodeEntity codeEntity = referralCodeRepository.findByUserId(user.id())
                 .orElseGet(() -> {
                     ReferralCodeEntity newCode = new ReferralCodeEntity();
-                    newCode.setUserId(user.getId());
+                    newCode.setUserId(user.id());
                     newCode.setCode(generateCode());
                     return referralCodeRepository.save(newCode);
                 });
 
         return Map.of(
                 "code", codeEntity.getCode(),
-                "userId", user.getId()
+                "userId", user.id()
         );
     }
 
     @Transactional
     public Map<String, Object> applyReferralCode(String authHeader, String code) {
-        UserEntity referee = resolveUser(authHeader);
+        AuthPrincipal referee = authPrincipals.require(authHeader);
 
         // Cannot refer yourself
         ReferralCodeEntity referralCode = referralCodeRepository.findByCode(code)
                 .orElseThrow(() -> new ApiException(404, "존재하지 않는 추천 코드입니다."));
 
-        if (referralCode.getUserId().equals(referee.getId())) {
+        if (referralCode.getUserId().equals(referee.id())) {
             throw new ApiException(400, "자신의 추천 코드는 사용할 수 없습니다.");
         }
 
         // Check if already referred
-        if (referralRewardRepository.findByRefereeId(referee.getId()).isPresent()) {
+        if (referralRewardRepository.findByRefereeId(referee.id()).isPresent()) {
             throw new ApiException(400, "이미 추천 코드를 사용하셨습니다.");
         }
 
         // Create reward record
         ReferralRewardEntity reward = new ReferralRewardEntity();
         reward.setReferrerId(referralCode.getUserId());
-        reward.setRefereeId(referee.getId());
+        reward.setRefereeId(referee.id());
         reward.setRewardAmount(2000L);
         referralRewardRepository.save(reward);
 
@@ -95,18 +91,18 @@ public class ReferralService {
     }
 
     public Map<String, Object> getMyStats(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
-        long totalReferrals = referralRewardRepository.countByReferrerId(user.getId());
-        long rewardedCount = referralRewardRepository.countByReferrerIdAndReferrerRewardedTrue(user.getId());
+        long totalReferrals = referralRewardRepository.countByReferrerId(user.id());
+        long rewardedCount = referralRewardRepository.countByReferrerIdAndReferrerRewardedTrue(user.id());
 
-        List<ReferralRewardEntity> rewards = referralRewardRepository.findByReferrerId(user.getId());
+        List<ReferralRewardEntity> rewards = referralRewardRepository.findByReferrerId(user.id());
         long totalRewardAmount = rewards.stream()
                 .filter(ReferralRewardEntity::isReferrerRewarded)
                 .mapToLong(ReferralRewardEntity::getRewardAmount)
                 .sum();
 
-        String myCode = referralCodeRepository.findByUserId(user.getId())
+        String myCode = referralCodeRepository.findByUserId(user.id())
                 .map(ReferralCodeEntity::getCode)
                 .orElse(null);
 
@@ -131,16 +127,4 @@ public class ReferralService {
         }
         return code;
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
@@ -1,9 +1,8 @@
 package com.cheonjiyeon.api.refund;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.AuthService;
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.payment.PaymentEntity;
@@ -28,8 +27,7 @@ public class RefundService {
     private final PaymentRepository paymentRepository;
     private final WalletService walletService;
     private final AuthService authService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final SettlementService settlementService;
 
     public RefundService(
@@ -38,8 +36,7 @@ public class RefundService {
             PaymentRepository paymentRepository,
             WalletService walletService,
             AuthService authService,
-            TokenStore tokenStore,
-            UserRepository userRepository,
+            AuthPrincipalResolver authPrincipals,
             SettlementService settlementService
     ) {
         this.refundRepository = refundRepository;
@@ -47,14 +44,13 @@ public class RefundService {
         this.paymentRepository = paymentRepository;
         this.walletService = walletService;
         this.authService = authService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.settlementService = settlementService;
     }
 
     @Transactional
     public RefundEntity requestRefund(String authHeader, RefundDtos.CreateRefundRequest req) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         // Validate booking exists
         bookingRepository.findById(req.reservationId())
@@ -76,7 +72,7 @@ public class RefundService {
         RefundEntity refund = new RefundEntity();
         refund.setReservationId(req.reservationId());
         refund.setPaymentId(payment.getId());
-        refund.setUserId(user.getId());
+        refund.setUserId(user.id());
         refund.setAmount(payment.getAmount());
         refund.setReason(req.reason());
         refund.setStatus("REQUESTED");
@@ -131,10 +127,10 @@ public class RefundService {
     }
 
     public RefundDtos.RefundListResponse getMyRefunds(String authHeader, int page, int size) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         Page<RefundEntity> refundPage = refundRepository.findByUserIdOrderByCreatedAtDesc(
-                user.getId(),
+                user.id(),
                 PageRequest.of(page, size)
         );
 
@@ -146,16 +142,4 @@ public class RefundService {
                 refundPage.getTotalElements()
         );
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.review;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.booking.BookingEntity;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.common.ApiException;
@@ -24,23 +23,20 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final BookingRepository bookingRepository;
     private final CounselorRepository counselorRepository;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final HelpfulVoteRepository helpfulVoteRepository;
 
     public ReviewService(
             ReviewRepository reviewRepository,
             BookingRepository bookingRepository,
             CounselorRepository counselorRepository,
-            TokenStore tokenStore,
-            UserRepository userRepository,
+            AuthPrincipalResolver authPrincipals,
             HelpfulVoteRepository helpfulVoteRepository
     ) {
         this.reviewRepository = reviewRepository;
         this.bookingRepository = bookingRepository;
         this.counselorRepository = counselorRepository;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.helpfulVoteRepository = helpfulVoteRepository;
     }
 
@@ -52,7 +48,7 @@ public class ReviewService {
             @CacheEvict(value = "counselors", allEntries = true)
     })
     public ReviewEntity createReview(String authHeader, Long reservationId, ReviewDtos.CreateReviewRequest req) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         // Check if review already exists
         if (reviewRepository.findByReservationId(reservationId).isPresent()) {
@@ -63,14 +59,14 @@ public class ReviewService {
         BookingEntity booking = bookingRepository.findById(reservationId)
                 .orElseThrow(() -> new ApiException(404, "Reservation not found"));
 
-        if (!booking.getUser().getId().equals(user.getId())) {
+        if (!booking.getUser().getId().equals(user.id())) {
             throw new ApiException(403, "Not authorized to review this reservation");
         }
 
         // Create review
         ReviewEntity review = new ReviewEntity();
         review.setReservationId(reservationId);
-        review.setUserId(user.getId());
+        review.setUserId(user.id());
         review.setCounselorId(booking.getCounselor().getId());
         review.setRating(req.rating());
         review.setComment(req.comment());
@@ -109,7 +105,7 @@ public class ReviewService {
     @Transactional
     @CacheEvict(value = "counselor-reviews", allEntries = true)
     public ReviewEntity reportReview(String authHeader, Long reviewId, String reason) {
-        resolveUser(authHeader);
+        authPrincipals.require(authHeader);
 
         ReviewEntity review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ApiException(404, "리뷰를 찾을 수 없습니다."));
@@ -137,12 +133,12 @@ public class ReviewService {
     @Transactional
     @CacheEvict(value = "counselor-reviews", allEntries = true)
     public ReviewDtos.HelpfulResponse toggleHelpful(String authHeader, Long reviewId) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
 
         ReviewEntity review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ApiException(404, "리뷰를 찾을 수 없습니다."));
 
-        var existing = helpfulVoteRepository.findByUserIdAndReviewId(user.getId(), reviewId);
+        var existing = helpfulVoteRepository.findByUserIdAndReviewId(user.id(), reviewId);
         boolean helpfulByMe;
 
         if (existing.isPresent()) {
@@ -151,7 +147,7 @@ public class ReviewService {
             helpfulByMe = false;
         } else {
             HelpfulVoteEntity vote = new HelpfulVoteEntity();
-            vote.setUserId(user.getId());
+            vote.setUserId(user.id());
             vote.setReviewId(reviewId);
             helpfulVoteRepository.save(vote);
             review.setHelpfulCount(review.getHelpfulCount() + 1);
@@ -171,7 +167,7 @@ public class ReviewService {
             int page,
             int size
     ) {
-        Long currentUserId = resolveUserIdOptional(authHeader);
+        Long currentUserId = authPrincipals.userId(authHeader).orElse(null);
         String consultationType = (type != null && !type.isBlank()) ? type : null;
 
         Page<ReviewEntity> reviewPage;
@@ -196,24 +192,4 @@ public class ReviewService {
                 reviewPage.getTotalElements()
         );
     }
-
-    private Long resolveUserIdOptional(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return null;
-        }
-        String token = authHeader.substring(7);
-        return tokenStore.resolveAccessUserId(token).orElse(null);
-    }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
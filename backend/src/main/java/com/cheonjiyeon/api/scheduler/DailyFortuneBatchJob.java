@@ -0,0 +1,58 @@
+package com.cheonjiyeon.api.scheduler;
+
+import com.cheonjiyeon.api.fortune.DailyFortuneBatch;
+import com.cheonjiyeon.api.fortune.DailyFortuneBroadcast;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
+/**
+ * 일일 운세 선계산 스케줄러
+ * 매일 00:00 (KST) 전체 사주 사용자의 오늘 운세를 미리 생성하고, 00:05까지 끝나지 않으면 경고
+ * 생성이 끝나면 알림 스트림에 연결된 사용자에게 오늘 운세 요약을 보낸다
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class DailyFortuneBatchJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyFortuneBatchJob.class);
+    private static final LocalTime DEADLINE = LocalTime.of(0, 5);
+
+    private final DailyFortuneBatch dailyFortuneBatch;
+    private final DailyFortuneBroadcast dailyFortuneBroadcast;
+    private final Clock clock;
+    private final boolean broadcastEnabled;
+
+    public DailyFortuneBatchJob(DailyFortuneBatch dailyFortuneBatch,
+                                DailyFortuneBroadcast dailyFortuneBroadcast,
+                                Clock fortuneClock,
+                                @Value("${fortune.broadcast.enabled:true}") boolean broadcastEnabled) {
+        this.dailyFortuneBatch = dailyFortuneBatch;
+        this.dailyFortuneBroadcast = dailyFortuneBroadcast;
+        this.clock = fortuneClock;
+        this.broadcastEnabled = broadcastEnabled;
+    }
+
+    @Scheduled(cron = "${scheduler.daily-fortune-cron:0 0 0 * * ?}", zone = "${scheduler.daily-fortune-zone:Asia/Seoul}")
+    public void precomputeTodayFortunes() {
+        LocalDate today = LocalDate.now(clock);
+        dailyFortuneBatch.run(today);
+
+        ZonedDateTime finishedAt = ZonedDateTime.now(clock);
+        if (finishedAt.toLocalDate().equals(today) && finishedAt.toLocalTime().isAfter(DEADLINE)) {
+            log.warn("Daily fortune batch for {} finished after {} ({})", today, DEADLINE, finishedAt.toLocalTime());
+        }
+
+        if (broadcastEnabled) {
+            dailyFortuneBroadcast.broadcast(today);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.cheonjiyeon.api.scheduler;
 import com.cheonjiyeon.api.booking.BookingEntity;
 import com.cheonjiyeon.api.booking.BookingRepository;
 import com.cheonjiyeon.api.booking.BookingSlotEntity;
+import com.cheonjiyeon.api.booking.BookingStatus;
 import com.cheonjiyeon.api.notification.NotificationLogService;
 import com.cheonjiyeon.api.notification.NotificationService;
 import com.cheonjiyeon.api.notification.NotificationType;
@@ -55,7 +56,7 @@ public class NotificationReminderScheduler {
         List<BookingEntity> bookings = bookingRepository.findTop200ByOrderByIdDesc();
 
         for (BookingEntity booking : bookings) {
-            if (!"BOOKED".equals(booking.getStatus())) continue;
+            if (!BookingStatus.BOOKED.is(booking.getStatus())) continue;
 
             // Find the earliest slot start time
             LocalDateTime slotStart = getEarliestSlotStart(booking);
@@ -0,0 +1,25 @@
+package com.cheonjiyeon.api.scheduler;
+
+import com.cheonjiyeon.api.booking.SlotHoldService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Advances the slot hold timing wheel once per tick (1s by default)
+ * and releases expired checkout holds in bulk.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class SlotHoldSweepJob {
+    private final SlotHoldService slotHoldService;
+
+    public SlotHoldSweepJob(SlotHoldService slotHoldService) {
+        this.slotHoldService = slotHoldService;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.sweep-interval-ms:1000}")
+    public void sweep() {
+        slotHoldService.sweepExpired();
+    }
+}
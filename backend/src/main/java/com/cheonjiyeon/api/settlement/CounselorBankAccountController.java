@@ -1,9 +1,8 @@
 package com.cheonjiyeon.api.settlement;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.AuthService;
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.counselor.CounselorEntity;
 import com.cheonjiyeon.api.counselor.CounselorRepository;
@@ -15,19 +14,16 @@ import org.springframework.web.bind.annotation.*;
 public class CounselorBankAccountController {
 
     private final CounselorBankAccountService bankAccountService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final CounselorRepository counselorRepository;
 
     public CounselorBankAccountController(
             CounselorBankAccountService bankAccountService,
-            TokenStore tokenStore,
-            UserRepository userRepository,
+            AuthPrincipalResolver authPrincipals,
             CounselorRepository counselorRepository
     ) {
         this.bankAccountService = bankAccountService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.counselorRepository = counselorRepository;
     }
 
@@ -60,20 +56,9 @@ public class CounselorBankAccountController {
         return bankAccountService.getByCounselorId(counselor.getId());
     }
 
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
-
     private CounselorEntity resolveCounselor(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        return counselorRepository.findByUserId(user.getId())
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        return counselorRepository.findByUserId(user.id())
                 .orElseThrow(() -> new ApiException(403, "상담사 계정이 아닙니다."));
     }
 }
@@ -1,9 +1,8 @@
 package com.cheonjiyeon.api.settlement;
 
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.AuthService;
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.common.ApiException;
 import com.cheonjiyeon.api.counselor.CounselorEntity;
 import com.cheonjiyeon.api.counselor.CounselorRepository;
@@ -13,23 +12,20 @@ import org.springframework.web.bind.annotation.*;
 public class SettlementController {
     private final SettlementService settlementService;
     private final AuthService authService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
     private final CounselorRepository counselorRepository;
     private final CounselorSettlementRepository counselorSettlementRepository;
 
     public SettlementController(
             SettlementService settlementService,
             AuthService authService,
-            TokenStore tokenStore,
-            UserRepository userRepository,
+            AuthPrincipalResolver authPrincipals,
             CounselorRepository counselorRepository,
             CounselorSettlementRepository counselorSettlementRepository
     ) {
         this.settlementService = settlementService;
         this.authService = authService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
         this.counselorRepository = counselorRepository;
         this.counselorSettlementRepository = counselorSettlementRepository;
     }
@@ -37,8 +33,8 @@ public class SettlementController {
     @GetMapping("/api/v1/settlements/my")
     public SettlementDtos.CustomerSettlementListResponse getMySettlements(
             @RequestHeader(value = "Authorization", required = false) String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        return settlementService.getCustomerSettlements(user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        return settlementService.getCustomerSettlements(user.id());
     }
 
     @GetMapping("/api/v1/settlements/session/{sessionId}")
@@ -78,7 +74,7 @@ public class SettlementController {
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable Long id) {
         var admin = authService.requireAdmin(authHeader);
-        return settlementService.confirmSettlement(admin.getId(), id);
+        return settlementService.confirmSettlement(admin.id(), id);
     }
 
     @PostMapping("/api/v1/admin/settlements/{id}/pay")
@@ -88,23 +84,12 @@ public class SettlementController {
             @RequestBody(required = false) SettlementDtos.PaySettlementRequest request) {
         var admin = authService.requireAdmin(authHeader);
         String transferNote = request != null ? request.transferNote() : null;
-        return settlementService.paySettlement(admin.getId(), id, transferNote);
-    }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
+        return settlementService.paySettlement(admin.id(), id, transferNote);
     }
 
     private CounselorEntity resolveCounselor(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        return counselorRepository.findByUserId(user.getId())
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        return counselorRepository.findByUserId(user.id())
                 .orElseThrow(() -> new ApiException(403, "상담사 계정이 아닙니다."));
     }
 }
@@ -1,7 +1,7 @@
 package com.cheonjiyeon.api.user;
 
 import com.cheonjiyeon.api.audit.AuditLogService;
-import com.cheonjiyeon.api.auth.TokenStore;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.auth.UserEntity;
 import com.cheonjiyeon.api.auth.UserRepository;
 import com.cheonjiyeon.api.common.ApiException;
@@ -15,14 +15,14 @@ import java.time.LocalDateTime;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final TokenStore tokenStore;
+    private final AuthPrincipalResolver authPrincipals;
     private final AuditLogService auditLogService;
 
     public UserService(UserRepository userRepository,
-                       TokenStore tokenStore,
+                       AuthPrincipalResolver authPrincipals,
                        AuditLogService auditLogService) {
         this.userRepository = userRepository;
-        this.tokenStore = tokenStore;
+        this.authPrincipals = authPrincipals;
         this.auditLogService = auditLogService;
     }
 
@@ -31,7 +31,7 @@ public class UserService {
      */
     @Transactional
     public UserProfileResponse updateProfile(String bearerToken, UpdateProfileRequest req) {
-        UserEntity user = resolveUser(bearerToken);
+        UserEntity user = authPrincipals.requireUser(bearerToken, "사용자를 찾을 수 없습니다.");
 
         if (req.name() != null && !req.name().isBlank()) {
             if (req.name().trim().length() < 2) {
@@ -62,7 +62,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserProfileResponse getProfile(String bearerToken) {
-        UserEntity user = resolveUser(bearerToken);
+        UserEntity user = authPrincipals.requireUser(bearerToken, "사용자를 찾을 수 없습니다.");
         return toProfileResponse(user);
     }
 
@@ -71,7 +71,7 @@ public class UserService {
      */
     @Transactional
     public void requestDeletion(String bearerToken) {
-        UserEntity user = resolveUser(bearerToken);
+        UserEntity user = authPrincipals.requireUser(bearerToken, "사용자를 찾을 수 없습니다.");
 
         if (user.getDeletionRequestedAt() != null) {
             throw new ApiException(400, "이미 탈퇴가 요청되었습니다.");
@@ -84,21 +84,6 @@ public class UserService {
         auditLogService.log(user.getId(), "ACCOUNT_DELETION_REQUESTED", "USER", user.getId());
     }
 
-    private UserEntity resolveUser(String bearerToken) {
-        String accessToken = extractToken(bearerToken);
-        Long userId = tokenStore.resolveAccessUserId(accessToken)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "사용자를 찾을 수 없습니다."));
-    }
-
-    private String extractToken(String bearerToken) {
-        if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        return bearerToken.substring(7);
-    }
-
     private UserProfileResponse toProfileResponse(UserEntity user) {
         return new UserProfileResponse(
                 user.getId(),
@@ -1,8 +1,7 @@
 package com.cheonjiyeon.api.wallet;
 
-import com.cheonjiyeon.api.auth.TokenStore;
-import com.cheonjiyeon.api.auth.UserEntity;
-import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
 import com.cheonjiyeon.api.cash.CashTransactionEntity;
 import com.cheonjiyeon.api.cash.CashTransactionService;
 import com.cheonjiyeon.api.common.ApiException;
@@ -18,19 +17,16 @@ import java.util.UUID;
 public class WalletService {
     private final WalletRepository walletRepository;
     private final CashTransactionService cashTransactionService;
-    private final TokenStore tokenStore;
-    private final UserRepository userRepository;
+    private final AuthPrincipalResolver authPrincipals;
 
     public WalletService(
             WalletRepository walletRepository,
             CashTransactionService cashTransactionService,
-            TokenStore tokenStore,
-            UserRepository userRepository
+            AuthPrincipalResolver authPrincipals
     ) {
         this.walletRepository = walletRepository;
         this.cashTransactionService = cashTransactionService;
-        this.tokenStore = tokenStore;
-        this.userRepository = userRepository;
+        this.authPrincipals = authPrincipals;
     }
 
     @Transactional
@@ -62,8 +58,8 @@ public class WalletService {
     }
 
     public WalletDtos.WalletResponse getBalance(String authHeader) {
-        UserEntity user = resolveUser(authHeader);
-        WalletEntity wallet = getByUserId(user.getId());
+        AuthPrincipal user = authPrincipals.require(authHeader);
+        WalletEntity wallet = getByUserId(user.id());
         return new WalletDtos.WalletResponse(
                 wallet.getUserId(),
                 wallet.getBalanceCash(),
@@ -90,9 +86,9 @@ public class WalletService {
     }
 
     public WalletDtos.TransactionHistoryResponse getTransactionHistory(String authHeader, int page, int size) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         Page<CashTransactionEntity> txPage = cashTransactionService.getTransactionHistory(
-                user.getId(),
+                user.id(),
                 PageRequest.of(page, size)
         );
 
@@ -108,9 +104,9 @@ public class WalletService {
 
     public WalletDtos.TransactionHistoryResponse getFilteredTransactionHistory(
             String authHeader, String type, LocalDate from, LocalDate to, int page, int size) {
-        UserEntity user = resolveUser(authHeader);
+        AuthPrincipal user = authPrincipals.require(authHeader);
         Page<CashTransactionEntity> txPage = cashTransactionService.getFilteredTransactionHistory(
-                user.getId(), type, from, to, PageRequest.of(page, size)
+                user.id(), type, from, to, PageRequest.of(page, size)
         );
 
         return new WalletDtos.TransactionHistoryResponse(
@@ -122,16 +118,4 @@ public class WalletService {
                 txPage.getNumber()
         );
     }
-
-    private UserEntity resolveUser(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            throw new ApiException(401, "Authorization Bearer 토큰이 필요합니다.");
-        }
-        String token = authHeader.substring(7);
-        Long userId = tokenStore.resolveAccessUserId(token)
-                .orElseThrow(() -> new ApiException(401, "로그인이 필요합니다."));
-
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(401, "유효하지 않은 토큰입니다."));
-    }
 }
@@ -0,0 +1,4 @@
+-- Checkout hold: a slot stays available but is reserved for one user until hold_expires_at
+ALTER TABLE counselor_slots ADD COLUMN held_by_user_id BIGINT NULL;
+ALTER TABLE counselor_slots ADD COLUMN hold_expires_at TIMESTAMP NULL;
+CREATE INDEX idx_counselor_slots_hold_expires ON counselor_slots(hold_expires_at);
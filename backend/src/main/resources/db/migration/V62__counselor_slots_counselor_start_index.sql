@@ -0,0 +1,2 @@
+-- Recurring schedule generation merges new slots against existing ones in start order per counselor
+CREATE INDEX idx_counselor_slots_counselor_start ON counselor_slots(counselor_id, start_at);
@@ -0,0 +1,12 @@
+-- Append-only booking lifecycle history written by BookingLifecycle
+CREATE TABLE booking_event_logs (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  booking_id BIGINT NOT NULL,
+  event VARCHAR(30) NOT NULL,
+  from_status VARCHAR(30),
+  to_status VARCHAR(30) NOT NULL,
+  actor_id BIGINT,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_booking_event_logs_booking_id ON booking_event_logs(booking_id, id);
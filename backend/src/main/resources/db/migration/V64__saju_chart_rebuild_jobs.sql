@@ -0,0 +1,14 @@
+-- Progress and resume checkpoint of admin-triggered bulk saju chart rebuilds
+CREATE TABLE saju_chart_rebuild_jobs (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  status VARCHAR(20) NOT NULL,
+  checkpoint_user_id BIGINT NOT NULL DEFAULT 0,
+  processed BIGINT NOT NULL DEFAULT 0,
+  failed BIGINT NOT NULL DEFAULT 0,
+  total_estimate BIGINT NOT NULL DEFAULT 0,
+  requested_by BIGINT,
+  error_message VARCHAR(500),
+  started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  finished_at TIMESTAMP NULL
+);
@@ -0,0 +1,2 @@
+-- Packed 64-bit chart (SajuChartCode). NULL for rows written before this column existed
+ALTER TABLE saju_charts ADD COLUMN chart_code BIGINT;
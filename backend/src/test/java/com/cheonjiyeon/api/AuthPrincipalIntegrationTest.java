@@ -0,0 +1,109 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.AuthPrincipal;
+import com.cheonjiyeon.api.auth.AuthPrincipalResolver;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class AuthPrincipalIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired AuthPrincipalResolver authPrincipals;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void resetRequestContext() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void principal_is_loaded_once_per_request() throws Exception {
+        String header = "Bearer " + signupAndGetToken("principal_once_" + System.nanoTime() + "@zeom.com");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(AuthPrincipalResolver.REQUEST_ATTRIBUTE, AuthPrincipalResolver.forRequest(header));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        AuthPrincipal first = authPrincipals.require(header);
+        AuthPrincipal second = authPrincipals.require(header);
+        Long userId = authPrincipals.requireUserId(header);
+        long statements = stats.getPrepareStatementCount();
+
+        if (first != second) {
+            throw new AssertionError("same request should reuse the resolved principal");
+        }
+        if (statements != 1) {
+            throw new AssertionError("expected one principal query per request, got " + statements);
+        }
+        if (!userId.equals(first.id()) || !"USER".equals(first.role()) || first.isAdmin()) {
+            throw new AssertionError("unexpected principal " + first);
+        }
+    }
+
+    @Test
+    void principal_without_request_context_is_resolved_each_call() throws Exception {
+        String header = "Bearer " + signupAndGetToken("principal_noreq_" + System.nanoTime() + "@zeom.com");
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        authPrincipals.require(header);
+        authPrincipals.require(header);
+
+        if (stats.getPrepareStatementCount() != 2) {
+            throw new AssertionError("expected a query per call outside a request, got " + stats.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    void missing_or_invalid_token_is_unauthorized() throws Exception {
+        mvc.perform(get("/api/v1/wallet"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Authorization Bearer 토큰이 필요합니다."));
+
+        mvc.perform(get("/api/v1/wallet").header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("로그인이 필요합니다."));
+    }
+
+    @Test
+    void admin_check_uses_principal_role() throws Exception {
+        String userToken = signupAndGetToken("principal_admin_" + System.nanoTime() + "@zeom.com");
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        mvc.perform(get("/api/v1/admin/audit").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("관리자 권한이 필요합니다."));
+        if (stats.getPrepareStatementCount() != 1) {
+            throw new AssertionError("rejecting a non-admin should take one query, got " + stats.getPrepareStatementCount());
+        }
+    }
+
+    private String signupAndGetToken(String email) throws Exception {
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\",\"name\":\"테스트\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -1,25 +1,51 @@
 package com.cheonjiyeon.api;
 
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotAvailabilityIndex;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
-@SpringBootTest
+// Signs up more users than the per-IP auth limit allows in a minute
+@SpringBootTest(properties = {"rate-limit.enabled=false", "booking.slot-index.taken-ttl=PT2S"})
 @AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
 class BookingConcurrencyIntegrationTest {
 
     @Autowired
     MockMvc mvc;
 
+    @Autowired
+    SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @Test
     void same_slot_concurrent_booking_only_one_success() throws Exception {
         String token1 = signup("c1@zeom.com", "유저1");
@@ -50,6 +76,134 @@ class BookingConcurrencyIntegrationTest {
         }
     }
 
+    @Test
+    void taken_slot_is_rejected_by_index_before_transaction() throws Exception {
+        String token1 = signup("idx1@zeom.com", "인덱스1");
+        String token2 = signup("idx2@zeom.com", "인덱스2");
+
+        long slotId = createSlot();
+        int first = book(token1, slotId);
+        if (first != 200) throw new AssertionError("expected 200, got=" + first);
+        if (slotAvailabilityIndex.state(slotId) != SlotAvailabilityIndex.State.TAKEN) {
+            throw new AssertionError("index should mark slot " + slotId + " as TAKEN after commit");
+        }
+
+        double rejectsBefore = meterRegistry.counter("booking.slot_index.lookups", "result", "reject").count();
+        int second = book(token2, slotId);
+        double rejectsAfter = meterRegistry.counter("booking.slot_index.lookups", "result", "reject").count();
+
+        if (second != 409) throw new AssertionError("expected 409, got=" + second);
+        if (rejectsAfter - rejectsBefore != 1.0) {
+            throw new AssertionError("expected one index reject, got=" + (rejectsAfter - rejectsBefore));
+        }
+    }
+
+    @Test
+    void stale_load_does_not_overwrite_committed_availability() {
+        long slotId = createSlot();
+        if (slotAvailabilityIndex.state(slotId) != SlotAvailabilityIndex.State.AVAILABLE) {
+            throw new AssertionError("index should mark slot " + slotId + " as AVAILABLE after commit");
+        }
+
+        // A transaction that read the row as taken before a cancel committed loads it afterwards
+        slotAvailabilityIndex.observe(slotId, false);
+        if (slotAvailabilityIndex.state(slotId) != SlotAvailabilityIndex.State.AVAILABLE) {
+            throw new AssertionError("stale load downgraded slot " + slotId + " to " + slotAvailabilityIndex.state(slotId));
+        }
+
+        long unknownId = slotId + 100_000;
+        slotAvailabilityIndex.observe(unknownId, false);
+        if (slotAvailabilityIndex.state(unknownId) != SlotAvailabilityIndex.State.TAKEN) {
+            throw new AssertionError("load should seed unknown slot " + unknownId);
+        }
+    }
+
+    @Test
+    void slot_freed_outside_the_index_becomes_bookable_again() throws Exception {
+        String token = signup("free1@zeom.com", "해제1");
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // Closed through the entity (index: TAKEN after commit) ...
+        long loaded = createSlot();
+        long aged = createSlot();
+        for (long slotId : List.of(loaded, aged)) {
+            SlotEntity slot = slotRepository.findById(slotId).orElseThrow();
+            slot.setAvailable(false);
+            slotRepository.save(slot);
+        }
+        // ... and reopened by a bulk UPDATE (admin tooling, another node): no listener runs on this node
+        tx.executeWithoutResult(s -> slotRepository.updateAvailability(List.of(loaded, aged), true));
+        if (book(token, aged) != 409) {
+            throw new AssertionError("index should still hold the stale TAKEN entry for slot " + aged);
+        }
+
+        // A read of the free row clears TAKEN right away
+        slotRepository.findById(loaded).orElseThrow();
+        int reloaded = book(token, loaded);
+        if (reloaded != 200) throw new AssertionError("expected 200 after reload, got=" + reloaded);
+
+        // Without any read, TAKEN falls back to UNKNOWN within the TTL and the DB decides
+        Thread.sleep(2_100);
+        int expired = book(token, aged);
+        if (expired != 200) throw new AssertionError("expected 200 after the TAKEN ttl, got=" + expired);
+    }
+
+    @Test
+    void contended_slot_sends_one_request_to_the_database() throws Exception {
+        int users = 8;
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            tokens.add(signup("coalesce" + i + "@zeom.com", "병합" + i));
+        }
+        long slotId = createSlot();
+
+        double leadersBefore = meterRegistry.counter("booking.contention", "result", "leader").count();
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (String token : tokens) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return book(token, slotId);
+            }));
+        }
+        start.countDown();
+
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get(10, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+        double leaders = meterRegistry.counter("booking.contention", "result", "leader").count() - leadersBefore;
+
+        long ok = statuses.stream().filter(s -> s == 200).count();
+        long conflict = statuses.stream().filter(s -> s == 409).count();
+        if (ok != 1 || conflict != users - 1) {
+            throw new AssertionError("expected one 200 and the rest 409, got=" + statuses);
+        }
+        // Late arrivals are rejected by the slot index, concurrent ones wait for the winner
+        if (leaders != 1.0) {
+            throw new AssertionError("expected a single request on the database path, got=" + leaders);
+        }
+    }
+
+    private long createSlot() {
+        SlotEntity slot = new SlotEntity();
+        slot.setCounselor(counselorRepository.findById(4L).orElseThrow());
+        slot.setStartAt(LocalDateTime.now().plusDays(30));
+        slot.setEndAt(LocalDateTime.now().plusDays(30).plusMinutes(30));
+        slot.setAvailable(true);
+        return slotRepository.save(slot).getId();
+    }
+
+    private int book(String token, long slotId) throws Exception {
+        return mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"counselorId\":4,\"slotId\":" + slotId + "}"))
+                .andReturn().getResponse().getStatus();
+    }
+
     private void runBooking(String token, CountDownLatch ready, CountDownLatch start, List<Integer> statuses) {
         try {
             ready.countDown();
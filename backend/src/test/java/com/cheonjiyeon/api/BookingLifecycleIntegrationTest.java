@@ -0,0 +1,166 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.booking.BookingEntity;
+import com.cheonjiyeon.api.booking.BookingEvent;
+import com.cheonjiyeon.api.booking.BookingEventLogEntity;
+import com.cheonjiyeon.api.booking.BookingEventLogRepository;
+import com.cheonjiyeon.api.booking.BookingLifecycle;
+import com.cheonjiyeon.api.booking.BookingRepository;
+import com.cheonjiyeon.api.booking.BookingStatus;
+import com.cheonjiyeon.api.common.ApiException;
+import com.cheonjiyeon.api.counselor.CounselorEntity;
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookingLifecycleIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    BookingLifecycle bookingLifecycle;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    BookingEventLogRepository eventLogRepository;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Test
+    void cancel_is_logged_and_cannot_repeat() throws Exception {
+        String token = signup("lifecycle1@zeom.com", "전이1");
+        long bookingId = book(token);
+
+        mvc.perform(post("/api/v1/bookings/" + bookingId + "/cancel")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/v1/bookings/" + bookingId + "/cancel")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isConflict());
+
+        List<String> events = eventLogRepository.findByBookingIdOrderByIdAsc(bookingId).stream()
+                .map(e -> e.getEvent() + ":" + e.getFromStatus() + "->" + e.getToStatus())
+                .toList();
+        if (!events.equals(List.of("CREATE:null->BOOKED", "CANCEL:BOOKED->CANCELED"))) {
+            throw new AssertionError("unexpected event log " + events);
+        }
+    }
+
+    @Test
+    void concurrent_payment_and_cancel_apply_exactly_one_transition() throws Exception {
+        String token = signup("lifecycle2@zeom.com", "전이2");
+        long bookingId = book(token);
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<String> applied = new CopyOnWriteArrayList<>();
+        List<Integer> rejected = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            BookingEvent event = i % 2 == 0 ? BookingEvent.PAYMENT_CONFIRMED : BookingEvent.CANCEL;
+            pool.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    BookingEntity booking = bookingRepository.findById(bookingId).orElseThrow();
+                    applied.add(bookingLifecycle.transition(booking, event, null).name());
+                } catch (ApiException e) {
+                    rejected.add(e.getStatus());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        ready.await(3, TimeUnit.SECONDS);
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        // PAID -> CANCELED is also legal, so a cancel may follow a winning payment
+        String finalStatus = bookingRepository.findStatusById(bookingId).orElseThrow();
+        List<BookingEventLogEntity> log = eventLogRepository.findByBookingIdOrderByIdAsc(bookingId);
+        if (applied.size() + rejected.size() != threads || rejected.stream().anyMatch(s -> s != 409)) {
+            throw new AssertionError("applied=" + applied + " rejected=" + rejected);
+        }
+        if (log.size() != applied.size() + 1 || !log.get(log.size() - 1).getToStatus().equals(finalStatus)) {
+            throw new AssertionError("event log does not match applied transitions: " + applied + " / " + finalStatus);
+        }
+        for (int i = 1; i < log.size(); i++) {
+            if (!log.get(i).getFromStatus().equals(log.get(i - 1).getToStatus())) {
+                throw new AssertionError("event log chain broken at " + i);
+            }
+        }
+        if (applied.stream().filter(BookingStatus.PAID.name()::equals).count() > 1) {
+            throw new AssertionError("payment applied more than once: " + applied);
+        }
+    }
+
+    @Test
+    void transition_table_rejects_leaving_terminal_states() {
+        for (BookingEvent event : BookingEvent.values()) {
+            if (BookingLifecycle.next(BookingStatus.CANCELED, event) != null
+                    || BookingLifecycle.next(BookingStatus.COMPLETED, event) != null) {
+                throw new AssertionError("terminal state accepts " + event);
+            }
+        }
+        if (BookingLifecycle.next(BookingStatus.PAYMENT_FAILED, BookingEvent.PAYMENT_RETRY) != BookingStatus.BOOKED) {
+            throw new AssertionError("payment retry should return to BOOKED");
+        }
+    }
+
+    private long book(String token) throws Exception {
+        CounselorEntity counselor = counselorRepository.findById(4L).orElseThrow();
+        LocalDateTime start = LocalDateTime.now().plusDays(45).plusMinutes((long) (Math.random() * 100_000));
+        SlotEntity slot = new SlotEntity();
+        slot.setCounselor(counselor);
+        slot.setStartAt(start);
+        slot.setEndAt(start.plusMinutes(30));
+        slot.setAvailable(true);
+        long slotId = slotRepository.save(slot).getId();
+
+        String res = mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"counselorId\":4,\"slotId\":" + slotId + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return Long.parseLong(res.replaceAll(".*\"id\":([0-9]+).*", "$1"));
+    }
+
+    private String signup(String email, String name) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"%s\"}", email, name);
+        String res = mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+        return res.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,148 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.counselor.CounselorEntity;
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/v1/bookings/me: projection read with a fixed statement count and keyset pagination.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class BookingListIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Test
+    void my_bookings_statement_count_does_not_grow_with_booking_count() throws Exception {
+        String fewToken = signup("booking-list1@zeom.com", "목록1");
+        book(fewToken, createSlots(1));
+        String manyToken = signup("booking-list2@zeom.com", "목록2");
+        for (int i = 0; i < 6; i++) {
+            book(manyToken, createSlots(2));
+        }
+
+        long one = countStatements(() -> mvc.perform(get("/api/v1/bookings/me")
+                        .header("Authorization", "Bearer " + fewToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1)));
+        long six = countStatements(() -> mvc.perform(get("/api/v1/bookings/me")
+                        .header("Authorization", "Bearer " + manyToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(6))
+                .andExpect(jsonPath("$[0].slots.length()").value(2))
+                .andExpect(jsonPath("$[0].counselorName").exists()));
+
+        if (one != six) {
+            throw new AssertionError("expected a fixed statement count, got 1 booking=" + one + ", 6 bookings=" + six);
+        }
+    }
+
+    @Test
+    void my_bookings_pages_by_cursor() throws Exception {
+        String token = signup("booking-list3@zeom.com", "목록3");
+        List<String> booked = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            booked.add(0, book(token, createSlots(1)).replaceAll(".*\"id\":([0-9]+).*", "$1"));
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/v1/bookings/me").header("Authorization", "Bearer " + token).param("limit", "2");
+            if (cursor != null) request.param("cursor", cursor);
+            String res = mvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            Matcher m = Pattern.compile("\\{\"id\":([0-9]+)").matcher(res);
+            while (m.find()) seen.add(m.group(1));
+            cursor = res.contains("\"nextCursor\":null") ? null : res.replaceAll(".*\"nextCursor\":([0-9]+).*", "$1");
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        if (!seen.equals(booked) || pages != 3) {
+            throw new AssertionError("expected " + booked + " in 3 pages, got " + seen + " in " + pages);
+        }
+
+        mvc.perform(get("/api/v1/bookings/me").header("Authorization", "Bearer " + token).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long countStatements(ThrowingRunnable action) throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        action.run();
+        return stats.getPrepareStatementCount();
+    }
+
+    private String book(String token, List<Long> slotIds) throws Exception {
+        String ids = slotIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"counselorId\":4,\"slotIds\":[" + ids + "]}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private List<Long> createSlots(int count) {
+        CounselorEntity counselor = counselorRepository.findById(4L).orElseThrow();
+        LocalDateTime base = LocalDateTime.now().plusDays(40).plusMinutes((long) (Math.random() * 100_000));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SlotEntity slot = new SlotEntity();
+            slot.setCounselor(counselor);
+            slot.setStartAt(base.plusMinutes(30L * i));
+            slot.setEndAt(base.plusMinutes(30L * (i + 1)));
+            slot.setAvailable(true);
+            ids.add(slotRepository.save(slot).getId());
+        }
+        return ids;
+    }
+
+    private String signup(String email, String name) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"%s\"}", email, name);
+        String res = mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+        return res.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.counselor.CounselorEntity;
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class BookingMetricsIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Test
+    void booking_phases_are_timed_per_outcome_and_exported() throws Exception {
+        String token = signup("metrics1@zeom.com", "지표");
+        long slotId = createSlot();
+
+        book(token, "{\"counselorId\":4,\"slotId\":" + slotId + "}", 200);
+        // Rejected by the slot index before BookingService runs
+        book(token, "{\"counselorId\":4,\"slotId\":" + slotId + "}", 409);
+        // Rejected inside BookingService
+        book(token, "{\"counselorId\":4,\"slotIds\":[1,2,3,4]}", 400);
+
+        assertRecorded(meterRegistry.find("booking.request").tags("operation", "create", "outcome", "ok").timer());
+        assertRecorded(meterRegistry.find("booking.phase")
+                .tags("operation", "create", "phase", "lock_slots", "outcome", "ok").timer());
+        assertRecorded(meterRegistry.find("booking.phase")
+                .tags("operation", "create", "phase", "audit", "outcome", "ok").timer());
+        assertRecorded(meterRegistry.find("booking.slot_lock.wait").tags("operation", "create").timer());
+        assertRecorded(meterRegistry.find("booking.request").tags("operation", "create", "outcome", "400").timer());
+        assertRecorded(meterRegistry.find("booking.request").tags("operation", "admission", "outcome", "409").timer());
+
+        String scrape = mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        if (!scrape.contains("booking_phase_seconds_bucket") || !scrape.contains("booking_slot_lock_wait_seconds_bucket")) {
+            throw new AssertionError("booking timers missing from prometheus scrape");
+        }
+    }
+
+    private void assertRecorded(Timer timer) {
+        if (timer == null || timer.count() == 0) {
+            throw new AssertionError("expected timer to be recorded: " + timer);
+        }
+    }
+
+    private void book(String token, String body, int expectedStatus) throws Exception {
+        mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().is(expectedStatus));
+    }
+
+    private long createSlot() {
+        CounselorEntity counselor = counselorRepository.findById(4L).orElseThrow();
+        LocalDateTime start = LocalDateTime.now().plusDays(45).plusMinutes((long) (Math.random() * 100_000));
+        SlotEntity slot = new SlotEntity();
+        slot.setCounselor(counselor);
+        slot.setStartAt(start);
+        slot.setEndAt(start.plusMinutes(30));
+        slot.setAvailable(true);
+        return slotRepository.save(slot).getId();
+    }
+
+    private String signup(String email, String name) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"%s\"}", email, name);
+        String res = mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+        return res.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,199 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.booking.BookingEntity;
+import com.cheonjiyeon.api.booking.BookingRepository;
+import com.cheonjiyeon.api.booking.BookingSlotEntity;
+import com.cheonjiyeon.api.booking.BookingSlotRepository;
+import com.cheonjiyeon.api.counselor.CounselorEntity;
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Booking persistence statement counts measured with Hibernate statistics.
+ * Per-row saves (before) vs bulk UPDATE + multi-row INSERT (after).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class BookingStatementCountBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingStatementCountBenchmarkTest.class);
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    BookingSlotRepository bookingSlotRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void bulk_slot_writes_use_fewer_statements_than_per_row_saves() throws Exception {
+        signup("stmt-bench@zeom.com", "벤치");
+        Long userId = userRepository.findByEmail("stmt-bench@zeom.com").orElseThrow().getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<Long> legacyIds = createSlots(3);
+        long before = countStatements(() -> tx.executeWithoutResult(s -> {
+            List<SlotEntity> slots = slotRepository.findByIdsForUpdate(legacyIds);
+            BookingEntity booking = bookingRepository.save(newBooking(userId, slots.get(0)));
+            for (SlotEntity slot : slots) {
+                slot.setAvailable(false);
+                slotRepository.save(slot);
+                bookingSlotRepository.save(new BookingSlotEntity(booking, slot));
+            }
+        }));
+
+        List<Long> batchedIds = createSlots(3);
+        long after = countStatements(() -> tx.executeWithoutResult(s -> {
+            List<SlotEntity> slots = slotRepository.findByIdsForUpdate(batchedIds);
+            BookingEntity booking = bookingRepository.save(newBooking(userId, slots.get(0)));
+            slotRepository.updateAvailability(batchedIds, false);
+            bookingSlotRepository.insertAll(booking.getId(), batchedIds);
+        }));
+
+        log.info("[booking-persistence] 3 slots: per-row={} statements, batched={} statements", before, after);
+        if (after >= before) {
+            throw new AssertionError("batched path should prepare fewer statements: before=" + before + ", after=" + after);
+        }
+    }
+
+    @Test
+    void booking_statement_count_does_not_grow_with_slot_count() throws Exception {
+        String token = signup("stmt-bench2@zeom.com", "벤치2");
+
+        List<Long> single = createSlots(1);
+        long oneSlot = countStatements(() -> book(token, single));
+
+        List<Long> triple = createSlots(3);
+        long threeSlots = countStatements(() -> book(token, triple));
+
+        log.info("[booking-create] 1 slot={} statements, 3 slots={} statements", oneSlot, threeSlots);
+        if (oneSlot != threeSlots) {
+            throw new AssertionError("expected a fixed statement count, got 1 slot=" + oneSlot + ", 3 slots=" + threeSlots);
+        }
+    }
+
+    @Test
+    void reschedule_swaps_booking_slots_in_bulk() throws Exception {
+        String token = signup("stmt-bench3@zeom.com", "벤치3");
+
+        List<Long> original = createSlots(2);
+        String res = book(token, original);
+        String bookingId = res.replaceAll(".*\"id\":([0-9]+).*", "$1");
+
+        List<Long> moved = createSlots(2);
+        String ids = moved.stream().map(String::valueOf).collect(Collectors.joining(","));
+        mvc.perform(put("/api/v1/bookings/" + bookingId + "/reschedule")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newSlotIds\":[" + ids + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slots.length()").value(2));
+
+        for (Long id : original) {
+            if (!slotRepository.findById(id).orElseThrow().isAvailable()) {
+                throw new AssertionError("old slot " + id + " should be released");
+            }
+        }
+        for (Long id : moved) {
+            if (slotRepository.findById(id).orElseThrow().isAvailable()) {
+                throw new AssertionError("new slot " + id + " should be taken");
+            }
+        }
+    }
+
+    private long countStatements(ThrowingRunnable action) throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        action.run();
+        return stats.getPrepareStatementCount();
+    }
+
+    private String book(String token, List<Long> slotIds) throws Exception {
+        String ids = slotIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"counselorId\":4,\"slotIds\":[" + ids + "]}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private BookingEntity newBooking(Long userId, SlotEntity firstSlot) {
+        BookingEntity booking = new BookingEntity();
+        booking.setUser(userRepository.getReferenceById(userId));
+        booking.setCounselor(firstSlot.getCounselor());
+        booking.setSlot(firstSlot);
+        booking.setStatus("BOOKED");
+        return booking;
+    }
+
+    private List<Long> createSlots(int count) {
+        CounselorEntity counselor = counselorRepository.findById(4L).orElseThrow();
+        LocalDateTime base = LocalDateTime.now().plusDays(40).plusMinutes((long) (Math.random() * 100_000));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SlotEntity slot = new SlotEntity();
+            slot.setCounselor(counselor);
+            slot.setStartAt(base.plusMinutes(30L * i));
+            slot.setEndAt(base.plusMinutes(30L * (i + 1)));
+            slot.setAvailable(true);
+            ids.add(slotRepository.save(slot).getId());
+        }
+        return ids;
+    }
+
+    private String signup(String email, String name) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"%s\"}", email, name);
+        String res = mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+        return res.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
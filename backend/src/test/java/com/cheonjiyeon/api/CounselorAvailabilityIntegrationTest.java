@@ -0,0 +1,129 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.counselor.CounselorAvailabilityCalendar;
+import com.cheonjiyeon.api.counselor.CounselorDtos;
+import com.cheonjiyeon.api.counselor.CounselorEntity;
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CounselorAvailabilityIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Test
+    void availability_follows_booking_and_cancel_without_stale_detail() throws Exception {
+        String token = signup("avail1@zeom.com", "가용성");
+        LocalDateTime start = LocalDate.now().plusDays(55).atTime(10, 0);
+        long slotId = createSlot(start);
+        String day = start.toLocalDate().toString();
+
+        // Warm both the read model and the counselor-detail cache
+        mvc.perform(get("/api/v1/counselors/4/availability").param("from", day).param("to", day))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[0].date").value(day))
+                .andExpect(jsonPath("$.days[0].slots[?(@.id == " + slotId + ")]").exists());
+        mvc.perform(get("/api/v1/counselors/4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slots[?(@.id == " + slotId + ")]").exists());
+
+        String booking = mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"counselorId\":4,\"slotId\":" + slotId + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String bookingId = booking.replaceAll(".*\"id\":([0-9]+).*", "$1");
+
+        mvc.perform(get("/api/v1/counselors/4/availability").param("from", day).param("to", day))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[*].slots[?(@.id == " + slotId + ")]").doesNotExist());
+        mvc.perform(get("/api/v1/counselors/4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slots[?(@.id == " + slotId + ")]").doesNotExist());
+
+        mvc.perform(post("/api/v1/bookings/" + bookingId + "/cancel")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/v1/counselors/4/availability").param("from", day).param("to", day))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[0].slots[?(@.id == " + slotId + ")]").exists());
+    }
+
+    @Test
+    void calendar_reloads_writes_from_other_nodes_after_max_age() throws Exception {
+        // A second calendar stands in for another node: it never sees this node's after-commit updates
+        CounselorAvailabilityCalendar otherNode = new CounselorAvailabilityCalendar(
+                slotRepository, new ConcurrentMapCacheManager(), Duration.ofMillis(200));
+        LocalDateTime start = LocalDate.now().plusDays(57).atTime(15, 0);
+        LocalDateTime from = start.toLocalDate().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        otherNode.range(4L, from, to);
+
+        long slotId = createSlot(start);
+        Thread.sleep(250);
+
+        List<CounselorDtos.SlotItem> slots = otherNode.range(4L, from, to);
+        if (slots.stream().noneMatch(slot -> slot.id() == slotId)) {
+            throw new AssertionError("slot created elsewhere should appear once the calendar is older than max-age");
+        }
+    }
+
+    @Test
+    void availability_range_is_validated() throws Exception {
+        mvc.perform(get("/api/v1/counselors/4/availability")
+                        .param("from", "2026-03-10").param("to", "2026-03-01"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v1/counselors/4/availability")
+                        .param("from", "2026-01-01").param("to", "2026-12-31"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v1/counselors/99999/availability"))
+                .andExpect(status().isNotFound());
+    }
+
+    private long createSlot(LocalDateTime start) {
+        CounselorEntity counselor = counselorRepository.findById(4L).orElseThrow();
+        SlotEntity slot = new SlotEntity();
+        slot.setCounselor(counselor);
+        slot.setStartAt(start);
+        slot.setEndAt(start.plusMinutes(30));
+        slot.setAvailable(true);
+        return slotRepository.save(slot).getId();
+    }
+
+    private String signup(String email, String name) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"%s\"}", email, name);
+        String res = mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+        return res.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,132 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.UserEntity;
+import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.fortune.DailyFortuneBatch;
+import com.cheonjiyeon.api.fortune.FortuneRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DailyFortuneBatchIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyFortuneBatchIntegrationTest.class);
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    Clock fortuneClock;
+
+    @Autowired
+    DailyFortuneBatch dailyFortuneBatch;
+
+    @Autowired
+    FortuneRepository fortuneRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void batch_rows_match_request_path_and_rerun_is_a_no_op() throws Exception {
+        String email = "fortune-batch1@zeom.com";
+        String token = signupWithBirthInfo(email, "1991-04-12", "오시", "female");
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        LocalDate today = LocalDate.now(fortuneClock);
+
+        // Lazily generated row is the reference, then removed so the batch has to produce it
+        String lazy = today(token);
+        fortuneRepository.delete(fortuneRepository.findByUserIdAndFortuneDate(userId, today).orElseThrow());
+
+        DailyFortuneBatch.Result first = dailyFortuneBatch.run(today);
+        Long batchRowId = fortuneRepository.findByUserIdAndFortuneDate(userId, today).orElseThrow().getId();
+        String precomputed = today(token);
+
+        if (!withoutIdentity(lazy).equals(withoutIdentity(precomputed))) {
+            throw new AssertionError("batch fortune differs from request path:\n" + lazy + "\n" + precomputed);
+        }
+        if (!precomputed.contains("\"id\":" + batchRowId + ",")) {
+            throw new AssertionError("request path should read the batch row " + batchRowId + ": " + precomputed);
+        }
+        if (first.inserted() < 1 || first.failed() != 0) {
+            throw new AssertionError("unexpected first run " + first);
+        }
+
+        DailyFortuneBatch.Result second = dailyFortuneBatch.run(today);
+        if (second.inserted() != 0 || second.skipped() != second.users()) {
+            throw new AssertionError("rerun should skip every user: " + second);
+        }
+    }
+
+    @Test
+    void batch_throughput() {
+        int count = 3000;
+        List<UserEntity> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserEntity user = new UserEntity();
+            user.setEmail("fortune-bench-" + i + "@zeom.com");
+            user.setName("벤치" + i);
+            user.setBirthDate(LocalDate.of(1960, 1, 1).plusDays(i * 7L));
+            user.setBirthHour(i % 3 == 0 ? "unknown" : "자시");
+            user.setGender(i % 2 == 0 ? "male" : "female");
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        LocalDate date = LocalDate.now(fortuneClock).plusDays(30);
+        DailyFortuneBatch.Result result = dailyFortuneBatch.run(date);
+        log.info("[fortune-batch] users={} inserted={} elapsed={}ms",
+                result.users(), result.inserted(), result.elapsedMillis());
+
+        if (result.inserted() < count || result.failed() != 0) {
+            throw new AssertionError("expected at least " + count + " inserted rows: " + result);
+        }
+    }
+
+    private String today(String token) throws Exception {
+        return mvc.perform(get("/api/v1/fortune/today").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static String withoutIdentity(String json) {
+        return json.replaceAll("\"id\":[0-9]+,", "").replaceAll("\"createdAt\":\"[^\"]*\",", "");
+    }
+
+    private String signupWithBirthInfo(String email, String birthDate, String birthHour, String gender) throws Exception {
+        String json = """
+            {
+                "email": "%s",
+                "password": "Password123!",
+                "name": "배치테스터",
+                "birthDate": "%s",
+                "birthHour": "%s",
+                "gender": "%s",
+                "termsAgreed": true
+            }
+            """.formatted(email, birthDate, birthHour, gender);
+
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
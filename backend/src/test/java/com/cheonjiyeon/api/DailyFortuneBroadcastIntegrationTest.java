@@ -0,0 +1,76 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.fortune.DailyFortuneBroadcast;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DailyFortuneBroadcastIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    Clock fortuneClock;
+
+    @Autowired
+    DailyFortuneBroadcast dailyFortuneBroadcast;
+
+    @Test
+    void broadcast_pushes_summary_to_connected_users_only() throws Exception {
+        String withFortune = signupAndGetToken("broadcast1_" + System.nanoTime() + "@zeom.com");
+        String withoutFortune = signupAndGetToken("broadcast2_" + System.nanoTime() + "@zeom.com");
+
+        String today = mvc.perform(get("/api/v1/fortune/today").header("Authorization", "Bearer " + withFortune))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String overallScore = today.replaceAll(".*\"overallScore\":([0-9]+).*", "$1");
+
+        MvcResult stream1 = openStream(withFortune);
+        MvcResult stream2 = openStream(withoutFortune);
+
+        DailyFortuneBroadcast.Result result = dailyFortuneBroadcast.broadcast(LocalDate.now(fortuneClock));
+        if (result.sent() < 1 || result.skipped() < 1 || result.dropped() != 0) {
+            throw new AssertionError("unexpected broadcast result: " + result);
+        }
+
+        String events1 = stream1.getResponse().getContentAsString();
+        if (!events1.contains("event:" + DailyFortuneBroadcast.EVENT_NAME)
+                || !events1.contains("\"overallScore\":" + overallScore)
+                || !events1.contains("\"fortuneDate\":\"" + LocalDate.now(fortuneClock) + "\"")) {
+            throw new AssertionError("summary event missing: " + events1);
+        }
+        if (stream2.getResponse().getContentAsString().contains(DailyFortuneBroadcast.EVENT_NAME)) {
+            throw new AssertionError("user without today's fortune must not get a summary");
+        }
+    }
+
+    private MvcResult openStream(String token) throws Exception {
+        return mvc.perform(get("/api/v1/notifications/stream").header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String signupAndGetToken(String email) throws Exception {
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\",\"name\":\"알림테스터\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,86 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.fortune.DailyFortuneTable;
+import com.cheonjiyeon.api.fortune.FortuneEntity;
+import com.cheonjiyeon.api.fortune.FortuneTexts;
+import com.cheonjiyeon.api.fortune.saju.DailyFortuneCalculator;
+import com.cheonjiyeon.api.fortune.saju.DailyFortuneCalculator.DailyFortuneResult;
+import com.cheonjiyeon.api.fortune.saju.ManseryeokData;
+import com.cheonjiyeon.api.fortune.saju.SajuCalculator;
+import com.cheonjiyeon.api.fortune.saju.SajuChart;
+import com.cheonjiyeon.api.fortune.saju.SajuFortuneTexts;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사전 계산표가 DailyFortuneCalculator 직접 계산과 같은 결과를 내는지 확인 (속도 비교는 DailyFortuneTableBenchmark)
+ */
+class DailyFortuneTableTest {
+
+    private static final String[] HOURS = {"unknown", "자시", "묘시", "오시", "유시", "해시"};
+
+    @Test
+    void table_matches_direct_calculation() {
+        List<SajuChart> charts = charts(400);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int d = 0; d < 60; d++) {
+            LocalDate date = start.plusDays(d);
+            int gapja = ManseryeokData.getDayGapjaIndex(date);
+            if (gapja % 10 + 1 != ManseryeokData.getDayGanIndex(date) || gapja % 12 + 1 != ManseryeokData.getDayJiIndex(date)) {
+                throw new AssertionError("60갑자 index mismatch on " + date);
+            }
+            for (SajuChart chart : charts) {
+                DailyFortuneResult direct = DailyFortuneCalculator.calculate(chart, date);
+                DailyFortuneTable.Entry entry = DailyFortuneTable.lookup(chart, date);
+                String expected = describe(direct) + SajuFortuneTexts.getOverallText(direct.getSipseong(), direct.getOverallScore())
+                        + "|" + categoryText("wealth", direct.getWealthScore())
+                        + "|" + categoryText("love", direct.getLoveScore())
+                        + "|" + categoryText("health", direct.getHealthScore())
+                        + "|" + SajuFortuneTexts.getCategoryText("career", direct.getCareerScore())
+                        + "|" + SajuFortuneTexts.getCategoryText("study", direct.getStudyScore())
+                        + SajuFortuneTexts.generateSajuInsight(direct.getSipseong(), direct.getUnseong(),
+                        direct.getHarmonyType(), chart.getDayGan(), direct.getTodayGan())
+                        + SajuFortuneTexts.getCounselorCtaMessage(direct.getSipseong(), direct.getOverallScore());
+                FortuneEntity fortune = entry.newFortune(1L, date);
+                String actual = describe(entry.getResult()) + fortune.getOverallText()
+                        + "|" + fortune.getWealthText()
+                        + "|" + fortune.getLoveText()
+                        + "|" + fortune.getHealthText()
+                        + "|" + fortune.getCareerText()
+                        + "|" + fortune.getStudyText()
+                        + fortune.getSajuInsight() + fortune.getCounselorCtaMessage();
+                if (!expected.equals(actual)) {
+                    throw new AssertionError("table differs on " + date + ":\n" + expected + "\n" + actual);
+                }
+            }
+        }
+    }
+
+    // Text choice of the per-user saju generation before the table existed
+    private static String categoryText(String category, int score) {
+        String[] texts = FortuneTexts.getTextsByScore(category, score);
+        return texts[Math.abs(score) % texts.length];
+    }
+
+    private static List<SajuChart> charts(int count) {
+        List<SajuChart> charts = new ArrayList<>(count);
+        LocalDate birth = LocalDate.of(1950, 1, 1);
+        for (int i = 0; i < count; i++) {
+            charts.add(SajuCalculator.calculateChart(birth.plusDays(i * 53L), HOURS[i % HOURS.length],
+                    i % 2 == 0 ? "male" : "female"));
+        }
+        return charts;
+    }
+
+    private static String describe(DailyFortuneResult r) {
+        return String.join("|",
+                String.valueOf(r.getOverallScore()), String.valueOf(r.getWealthScore()), String.valueOf(r.getLoveScore()),
+                String.valueOf(r.getHealthScore()), String.valueOf(r.getCareerScore()), String.valueOf(r.getStudyScore()),
+                r.getSipseong().name(), r.getUnseong().name(), r.getHarmonyType(), r.getTodayGan().name(),
+                r.getTodayJi().name(), r.getLuckyColor(), String.valueOf(r.getLuckyNumber()), r.getLuckyDirection(),
+                r.getLuckyTime(), r.getWarningTime(), "");
+    }
+}
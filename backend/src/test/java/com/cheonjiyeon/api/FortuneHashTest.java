@@ -0,0 +1,59 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.fortune.FortuneHash;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+class FortuneHashTest {
+
+    @Test
+    void sha256_mode_matches_legacy_string_digest() throws Exception {
+        FortuneHash hash = new FortuneHash("sha256");
+        long[] keys = {0, 1, 7, 12, 9, 10, 99, 100, 123_456_789L, 19_902_001L, -1, -42, Long.MAX_VALUE, Long.MIN_VALUE};
+        LocalDate[] dates = {LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), LocalDate.of(1999, 2, 28),
+                LocalDate.of(2000, 2, 29), LocalDate.of(999, 3, 4), LocalDate.of(10_000, 1, 1), LocalDate.of(-5, 6, 7)};
+        for (long key : keys) {
+            for (LocalDate date : dates) {
+                byte[] expected = MessageDigest.getInstance("SHA-256")
+                        .digest((key + ":" + date.toString()).getBytes(StandardCharsets.UTF_8));
+                byte[] actual = hash.hash(key, date);
+                if (!Arrays.equals(expected, actual)) {
+                    throw new AssertionError("digest differs for " + key + ":" + date + " -> "
+                            + HexFormat.of().formatHex(actual));
+                }
+            }
+        }
+    }
+
+    @Test
+    void mix64_mode_is_stable_and_spreads_scores() {
+        FortuneHash hash = new FortuneHash("mix64");
+        if (!HexFormat.of().formatHex(hash.hash(1L, LocalDate.of(2026, 1, 1)))
+                .equals(HexFormat.of().formatHex(new FortuneHash("mix64").hash(1L, LocalDate.of(2026, 1, 1))))) {
+            throw new AssertionError("mix64 must be deterministic");
+        }
+
+        int[] buckets = new int[10];
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        int samples = 0;
+        for (long user = 1; user <= 500; user++) {
+            for (int d = 0; d < 40; d++) {
+                byte[] h = hash.hash(user, start.plusDays(d));
+                int value = ((h[0] & 0xFF) << 24) | ((h[1] & 0xFF) << 16) | ((h[2] & 0xFF) << 8) | (h[3] & 0xFF);
+                buckets[Math.abs(value % 100) / 10]++;
+                samples++;
+            }
+        }
+        for (int count : buckets) {
+            // Expected 2,000 per bucket
+            if (count < samples / 10 * 0.85 || count > samples / 10 * 1.15) {
+                throw new AssertionError("skewed score distribution: " + Arrays.toString(buckets));
+            }
+        }
+    }
+}
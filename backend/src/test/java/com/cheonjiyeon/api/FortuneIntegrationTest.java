@@ -10,6 +10,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -28,6 +29,9 @@ class FortuneIntegrationTest {
     @Autowired
     MockMvc mvc;
 
+    @Autowired
+    Clock fortuneClock;
+
     @Autowired
     FortuneRepository fortuneRepository;
 
@@ -38,7 +42,7 @@ class FortuneIntegrationTest {
         mvc.perform(get("/api/v1/fortune/today")
                         .header("Authorization", "Bearer " + token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.fortuneDate").value(LocalDate.now().toString()))
+                .andExpect(jsonPath("$.fortuneDate").value(LocalDate.now(fortuneClock).toString()))
                 .andExpect(jsonPath("$.overallScore").isNumber())
                 .andExpect(jsonPath("$.wealthScore").isNumber())
                 .andExpect(jsonPath("$.loveScore").isNumber())
@@ -91,7 +95,7 @@ class FortuneIntegrationTest {
         mvc.perform(get("/api/v1/fortune/summary")
                         .header("Authorization", "Bearer " + token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.fortuneDate").value(LocalDate.now().toString()))
+                .andExpect(jsonPath("$.fortuneDate").value(LocalDate.now(fortuneClock).toString()))
                 .andExpect(jsonPath("$.overallScore").isNumber())
                 .andExpect(jsonPath("$.overallText").isString());
     }
@@ -147,9 +151,9 @@ class FortuneIntegrationTest {
         String userIdStr = response.replaceAll(".*\"userId\":([0-9]+).*", "$1");
         Long userId = Long.parseLong(userIdStr);
 
-        Optional<FortuneEntity> saved = fortuneRepository.findByUserIdAndFortuneDate(userId, LocalDate.now());
+        Optional<FortuneEntity> saved = fortuneRepository.findByUserIdAndFortuneDate(userId, LocalDate.now(fortuneClock));
         assertTrue(saved.isPresent(), "Fortune should be persisted in database");
-        assertEquals(LocalDate.now(), saved.get().getFortuneDate());
+        assertEquals(LocalDate.now(fortuneClock), saved.get().getFortuneDate());
     }
 
     private String signupAndGetToken(String email) throws Exception {
@@ -0,0 +1,111 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.fortune.FortuneEntity;
+import com.cheonjiyeon.api.fortune.FortuneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FortuneScoreHistoryIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    Clock fortuneClock;
+
+    @Autowired
+    FortuneRepository fortuneRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void score_history_returns_aligned_columns_and_serves_past_days_from_ring() throws Exception {
+        String token = signupAndGetToken("score_history_" + System.nanoTime() + "@zeom.com");
+        String today = mvc.perform(get("/api/v1/fortune/today").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long userId = Long.parseLong(today.replaceAll(".*\"userId\":([0-9]+).*", "$1"));
+        int todayOverall = Integer.parseInt(today.replaceAll(".*\"overallScore\":([0-9]+).*", "$1"));
+
+        LocalDate now = LocalDate.now(fortuneClock);
+        save(userId, now.minusDays(1), 81, 70);
+        save(userId, now.minusDays(3), 42, null);
+        save(userId, now.minusDays(40), 11, 12);
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get("/api/v1/fortune/history/scores").param("days", "7")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.from").value(now.minusDays(6).toString()))
+                    .andExpect(jsonPath("$.to").value(now.toString()))
+                    .andExpect(jsonPath("$.dates", contains(
+                            now.minusDays(3).toString(), now.minusDays(1).toString(), now.toString())))
+                    .andExpect(jsonPath("$.overallScores", contains(42, 81, todayOverall)))
+                    .andExpect(jsonPath("$.wealthScores", contains(43, 82, Integer.parseInt(
+                            today.replaceAll(".*\"wealthScore\":([0-9]+).*", "$1")))))
+                    .andExpect(jsonPath("$.careerScores[0]").value(nullValue()))
+                    .andExpect(jsonPath("$.careerScores[1]").value(70))
+                    .andExpect(jsonPath("$.totalDays").value(3))
+                    .andExpect(jsonPath("$.overallText").doesNotExist());
+        }
+        double hits = meterRegistry.counter("fortune.history_ring.lookups", "result", "hit").count();
+        if (hits < 1) throw new AssertionError("second lookup should be served from the ring buffer");
+
+        // Longer ranges bypass the ring and read the projection directly
+        mvc.perform(get("/api/v1/fortune/history/scores").param("days", "60")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dates[0]").value(now.minusDays(40).toString()))
+                .andExpect(jsonPath("$.overallScores[0]").value(11))
+                .andExpect(jsonPath("$.totalDays").value(4));
+
+        mvc.perform(get("/api/v1/fortune/history/scores").param("days", "0")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v1/fortune/history/scores"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void save(long userId, LocalDate date, int overall, Integer career) {
+        FortuneEntity fortune = new FortuneEntity();
+        fortune.setUserId(userId);
+        fortune.setFortuneDate(date);
+        fortune.setOverallScore(overall);
+        fortune.setWealthScore(overall + 1);
+        fortune.setLoveScore(overall + 2);
+        fortune.setHealthScore(overall + 3);
+        fortune.setCareerScore(career);
+        fortune.setOverallText("지난 운세");
+        fortune.setWealthText("재물");
+        fortune.setLoveText("애정");
+        fortune.setHealthText("건강");
+        fortuneRepository.save(fortune);
+    }
+
+    private String signupAndGetToken(String email) throws Exception {
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\",\"name\":\"추이테스터\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,119 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.config.LoadSheddingFilter;
+import com.cheonjiyeon.api.loadshed.AdaptiveConcurrencyLimiter;
+import com.cheonjiyeon.api.loadshed.LoadSheddingProperties;
+import com.cheonjiyeon.api.loadshed.RequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class LoadSheddingTest {
+
+    private static final long MS = 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LoadSheddingProperties properties = properties();
+
+    @Test
+    void low_priority_is_shed_before_critical() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        // limit 20: low may fill 10, normal 16, critical all 20
+        int low = acquireAll(limiter, RequestPriority.LOW);
+        int normal = acquireAll(limiter, RequestPriority.NORMAL);
+        int critical = acquireAll(limiter, RequestPriority.CRITICAL);
+
+        if (low != 10 || normal != 6 || critical != 4) {
+            throw new AssertionError("expected 10/6/4 admitted, got " + low + "/" + normal + "/" + critical);
+        }
+        if (limiter.inFlight() != 20) {
+            throw new AssertionError("in-flight should equal the limit, got " + limiter.inFlight());
+        }
+    }
+
+    @Test
+    void limit_grows_while_latency_is_steady_and_shrinks_when_it_rises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        for (int window = 0; window < 20; window++) saturatedWindow(limiter, 10 * MS);
+        double grown = limiter.limit();
+        if (grown <= 20) {
+            throw new AssertionError("limit should grow under steady latency, got " + grown);
+        }
+
+        for (int window = 0; window < 20; window++) saturatedWindow(limiter, 100 * MS);
+        if (limiter.limit() >= grown) {
+            throw new AssertionError("limit should shrink when latency rises, got " + limiter.limit() + " from " + grown);
+        }
+        if (limiter.limit() < properties.getMinLimit()) {
+            throw new AssertionError("limit must not drop below min-limit, got " + limiter.limit());
+        }
+    }
+
+    @Test
+    void limit_does_not_grow_when_it_is_not_the_bottleneck() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        for (int window = 0; window < 20; window++) {
+            limiter.tryAcquire(RequestPriority.NORMAL);
+            clock.addAndGet(500 * MS);
+            limiter.onComplete(10 * MS);
+        }
+        if (limiter.limit() != 20) {
+            throw new AssertionError("idle traffic should leave the limit alone, got " + limiter.limit());
+        }
+    }
+
+    @Test
+    void filter_returns_503_with_retry_after_for_shed_requests() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LoadSheddingFilter filter = new LoadSheddingFilter(limiter, properties, registry);
+        acquireAll(limiter, RequestPriority.LOW);
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/stats/public"), shed, new MockFilterChain());
+        if (shed.getStatus() != 503 || !"1".equals(shed.getHeader("Retry-After"))) {
+            throw new AssertionError("low-priority request should be shed, got " + shed.getStatus());
+        }
+
+        MockHttpServletResponse booking = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/bookings/me"), booking, new MockFilterChain());
+        if (booking.getStatus() != 200) {
+            throw new AssertionError("booking request should pass, got " + booking.getStatus());
+        }
+        if (limiter.inFlight() != 10) {
+            throw new AssertionError("completed request should release its slot, got " + limiter.inFlight());
+        }
+
+        double shedCount = registry.get("load_shedding.requests").tag("priority", "low").tag("result", "shed").counter().count();
+        if (shedCount != 1) {
+            throw new AssertionError("expected 1 shed low-priority request, got " + shedCount);
+        }
+    }
+
+    private void saturatedWindow(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int admitted = acquireAll(limiter, RequestPriority.CRITICAL);
+        clock.addAndGet(500 * MS);
+        for (int i = 0; i < admitted; i++) limiter.onComplete(latencyNanos);
+    }
+
+    private static int acquireAll(AdaptiveConcurrencyLimiter limiter, RequestPriority priority) {
+        int admitted = 0;
+        while (limiter.tryAcquire(priority)) admitted++;
+        return admitted;
+    }
+
+    private static LoadSheddingProperties properties() {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(5);
+        properties.setMaxLimit(100);
+        return properties;
+    }
+}
@@ -0,0 +1,82 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.ratelimit.LocalRateLimiter;
+import com.cheonjiyeon.api.ratelimit.RateLimitPolicy;
+import com.cheonjiyeon.api.ratelimit.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LocalRateLimiterTest {
+
+    private static final RateLimitPolicy POLICY =
+            new RateLimitPolicy("general", List.of("/"), 60, Duration.ofMinutes(1));
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final LocalRateLimiter limiter = new LocalRateLimiter(1000, clock::get);
+
+    @Test
+    void burst_up_to_limit_then_refills_one_per_interval() {
+        for (int i = 0; i < 60; i++) {
+            RateLimiter.Decision d = limiter.tryAcquire("1.2.3.4:general", POLICY);
+            if (!d.allowed() || d.remaining() != 59 - i) {
+                throw new AssertionError("request " + i + " should pass with " + (59 - i) + " left, got " + d);
+            }
+        }
+        RateLimiter.Decision limited = limiter.tryAcquire("1.2.3.4:general", POLICY);
+        if (limited.allowed() || limited.retryAfterMillis() != 1000) {
+            throw new AssertionError("61st request should wait 1s, got " + limited);
+        }
+        if (!limiter.tryAcquire("5.6.7.8:general", POLICY).allowed()) {
+            throw new AssertionError("other clients have their own bucket");
+        }
+
+        clock.addAndGet(1000);
+        if (!limiter.tryAcquire("1.2.3.4:general", POLICY).allowed()) {
+            throw new AssertionError("one token refills per second");
+        }
+        if (limiter.tryAcquire("1.2.3.4:general", POLICY).allowed()) {
+            throw new AssertionError("only one token should have refilled");
+        }
+    }
+
+    @Test
+    void frequent_callers_still_refill() {
+        for (int i = 0; i < 60; i++) limiter.tryAcquire("hot", POLICY);
+        // A denied call every millisecond must not swallow the fractional refill
+        int allowed = 0;
+        for (int ms = 0; ms < 10_000; ms++) {
+            clock.incrementAndGet();
+            if (limiter.tryAcquire("hot", POLICY).allowed()) allowed++;
+        }
+        if (allowed < 9 || allowed > 10) {
+            throw new AssertionError("expected ~10 requests in 10s at 1/s, got " + allowed);
+        }
+    }
+
+    @Test
+    void keys_are_bounded_and_idle_keys_expire() {
+        LocalRateLimiter small = new LocalRateLimiter(160, clock::get);
+        for (int i = 0; i < 10_000; i++) {
+            small.tryAcquire("10.0." + (i / 256) + "." + (i % 256) + ":general", POLICY);
+        }
+        if (small.size() > 160) {
+            throw new AssertionError("key count should stay within 160, got " + small.size());
+        }
+
+    }
+
+    @Test
+    void idle_keys_are_swept_after_the_interval() {
+        for (int i = 0; i < 100; i++) limiter.tryAcquire("old-" + i, POLICY);
+
+        clock.addAndGet(Duration.ofMinutes(2).toMillis());
+        for (int i = 0; i < 100; i++) limiter.tryAcquire("new-" + i, POLICY);
+
+        if (limiter.size() != 100) {
+            throw new AssertionError("idle keys should be dropped, got " + limiter.size() + " keys");
+        }
+    }
+}
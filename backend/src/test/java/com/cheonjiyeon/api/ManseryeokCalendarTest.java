@@ -0,0 +1,123 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.fortune.saju.JeolgiData;
+import com.cheonjiyeon.api.fortune.saju.ManseryeokCalendar;
+import com.cheonjiyeon.api.fortune.saju.ManseryeokCalendar.LunarDate;
+import com.cheonjiyeon.api.fortune.saju.SolarLunarConverter;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.calendar.KoreanCalendar;
+import net.time4j.calendar.SolarTerm;
+import net.time4j.scale.TimeScale;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 만세력 표를 1900~2100 모든 날짜에 대해 독립적인 천문 계산(Time4J 한국 음력)과 비교
+ */
+class ManseryeokCalendarTest {
+
+    private static final int KST_OFFSET_SECONDS = 9 * 3600;
+
+    @Test
+    void every_day_matches_astronomical_korean_calendar() {
+        LocalDate first = LocalDate.of(1900, 1, 31);   // 1900 설날
+        LocalDate last = LocalDate.of(2100, 12, 31);
+        int nextNewYearOf = first.getYear() + 1;
+        LocalDate nextNewYear = toLocal(KoreanCalendar.ofNewYear(nextNewYearOf).transform(PlainDate.axis()));
+        int lunarYear = first.getYear();
+
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (!date.isBefore(nextNewYear)) {
+                lunarYear = nextNewYearOf++;
+                nextNewYear = toLocal(KoreanCalendar.ofNewYear(nextNewYearOf).transform(PlainDate.axis()));
+            }
+            KoreanCalendar expected = PlainDate.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth())
+                    .transform(KoreanCalendar.axis());
+            LunarDate actual = ManseryeokCalendar.solarToLunar(date);
+            if (actual.year() != lunarYear
+                    || actual.month() != expected.getMonth().getNumber()
+                    || actual.leapMonth() != expected.getMonth().isLeap()
+                    || actual.day() != expected.getDayOfMonth()) {
+                throw new AssertionError(date + ": expected " + lunarYear + "/" + expected.getMonth() + "/"
+                        + expected.getDayOfMonth() + " but was " + actual);
+            }
+            LocalDate back = SolarLunarConverter.lunarToSolar(actual.year(), actual.month(), actual.day(), actual.leapMonth());
+            if (!date.equals(back)) {
+                throw new AssertionError(actual + " converts back to " + back + ", expected " + date);
+            }
+        }
+    }
+
+    @Test
+    void jeolgi_minutes_and_saju_months_match_solar_longitude() {
+        for (int year = ManseryeokCalendar.FIRST_YEAR; year <= ManseryeokCalendar.LAST_YEAR; year++) {
+            for (int index = 0; index < 12; index++) {
+                SolarTerm term = SolarTerm.ofMinor(index == 0 ? 12 : index);
+                long minute = kstMinute(ManseryeokCalendar.jeolgiAt(year, index));
+                if (SolarTerm.of(moment(minute)) != term || SolarTerm.of(moment(minute - 1)) == term) {
+                    throw new AssertionError(term + " " + year + " is not at " + ManseryeokCalendar.jeolgiAt(year, index));
+                }
+            }
+        }
+
+        // The day a jeol falls on already belongs to the new month
+        for (LocalDate date = LocalDate.of(1900, 1, 1); date.getYear() <= 2100; date = date.plusDays(1)) {
+            long endOfDay = date.plusDays(1).toEpochDay() * 1440 - 1;
+            SolarTerm term = SolarTerm.of(moment(endOfDay));
+            SolarTerm jeol = term.isMinor() ? term : term.roll(-1);
+            int expectedMonth = jeol.getIndex();    // 입춘 = 1 (인월) ... 소한 = 12 (축월)
+            if (JeolgiData.getSajuMonth(date) != expectedMonth) {
+                throw new AssertionError(date + ": saju month " + JeolgiData.getSajuMonth(date) + ", expected " + expectedMonth);
+            }
+            boolean beforeIpchun = date.getMonthValue() <= 2 && (expectedMonth == 11 || expectedMonth == 12);
+            if (JeolgiData.isBeforeIpchun(date) != beforeIpchun) {
+                throw new AssertionError(date + ": isBeforeIpchun " + JeolgiData.isBeforeIpchun(date));
+            }
+        }
+    }
+
+    @Test
+    void known_korean_dates() {
+        // 설날 (Korean new year differs from the Chinese one in 2027)
+        assertLunar(LocalDate.of(1984, 2, 2), 1984, 1, 1, false);
+        assertLunar(LocalDate.of(2026, 2, 17), 2026, 1, 1, false);
+        assertLunar(LocalDate.of(2027, 2, 7), 2027, 1, 1, false);
+        // 2023 윤2월
+        assertLunar(LocalDate.of(2023, 3, 22), 2023, 2, 1, true);
+        if (ManseryeokCalendar.leapMonth(1984) != 10 || ManseryeokCalendar.leapMonth(2026) != 0) {
+            throw new AssertionError("leap months");
+        }
+        LocalDateTime ipchun = ManseryeokCalendar.jeolgiAt(2026, 1);
+        if (!ipchun.equals(LocalDateTime.of(2026, 2, 4, 5, 2))) {
+            throw new AssertionError("2026 입춘 at " + ipchun);
+        }
+        // Outside the table the converter keeps its approximate behaviour
+        if (SolarLunarConverter.lunarToSolar(1850, 1, 1, false) == null || ManseryeokCalendar.covers(LocalDate.of(1900, 1, 30))) {
+            throw new AssertionError("range fallback");
+        }
+    }
+
+    private static void assertLunar(LocalDate solar, int year, int month, int day, boolean leap) {
+        LunarDate expected = new LunarDate(year, month, day, leap);
+        if (!expected.equals(ManseryeokCalendar.solarToLunar(solar))
+                || !solar.equals(SolarLunarConverter.lunarToSolar(year, month, day, leap))) {
+            throw new AssertionError(solar + " <-> " + expected + " but was " + ManseryeokCalendar.solarToLunar(solar));
+        }
+    }
+
+    private static LocalDate toLocal(PlainDate date) {
+        return LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
+    }
+
+    private static long kstMinute(LocalDateTime kst) {
+        return kst.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static Moment moment(long kstMinute) {
+        return Moment.of(kstMinute * 60 - KST_OFFSET_SECONDS, TimeScale.POSIX);
+    }
+}
@@ -0,0 +1,108 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.PasswordHasher;
+import com.cheonjiyeon.api.common.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void verifies_and_upgrades_weaker_bcrypt_hashes() {
+        String legacy = hasher("bcrypt", 4, 32, Duration.ofSeconds(5)).hash("password123");
+        PasswordHasher current = hasher("bcrypt", 5, 32, Duration.ofSeconds(5));
+
+        PasswordHasher.Verification ok = current.verify("password123", legacy);
+        if (!ok.matched() || ok.upgradedHash() == null || !ok.upgradedHash().startsWith("$2a$05$")) {
+            throw new AssertionError("strength-4 hash should match and be upgraded to strength 5, got " + ok);
+        }
+        if (current.needsRehash(ok.upgradedHash())) {
+            throw new AssertionError("upgraded hash should be current");
+        }
+        if (current.verify("wrong-password", legacy).matched()) {
+            throw new AssertionError("wrong password must not match");
+        }
+        if (current.verify("password123", "").matched()) {
+            throw new AssertionError("empty hash (social login) must not match");
+        }
+    }
+
+    @Test
+    void switching_to_argon2_rehashes_bcrypt_on_login() {
+        String legacy = hasher("bcrypt", 4, 32, Duration.ofSeconds(5)).hash("password123");
+        PasswordHasher argon2 = hasher("argon2", 4, 32, Duration.ofSeconds(5));
+
+        PasswordHasher.Verification ok = argon2.verify("password123", legacy);
+        if (!ok.matched() || ok.upgradedHash() == null || !ok.upgradedHash().startsWith("$argon2id$")) {
+            throw new AssertionError("bcrypt hash should be upgraded to argon2, got " + ok);
+        }
+        if (!argon2.matches("password123", ok.upgradedHash()) || argon2.needsRehash(ok.upgradedHash())) {
+            throw new AssertionError("argon2 hash should verify without further upgrade");
+        }
+        // Rolling back to bcrypt still accepts argon2 hashes and moves them back
+        if (hasher("bcrypt", 4, 32, Duration.ofSeconds(5)).verify("password123", ok.upgradedHash()).upgradedHash() == null) {
+            throw new AssertionError("argon2 hash should be rehashed when bcrypt is configured");
+        }
+    }
+
+    @Test
+    void rejects_fast_when_the_queue_is_full() throws Exception {
+        PasswordHasher busy = hasher("bcrypt", 12, 1, Duration.ofSeconds(30));
+        int callers = 6;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    busy.hash("password123");
+                    return 200;
+                } catch (ApiException e) {
+                    return e.getStatus();
+                }
+            }));
+        }
+        start.countDown();
+
+        int rejected = 0;
+        for (Future<Integer> result : results) {
+            if (result.get() == 503) rejected++;
+        }
+        pool.shutdown();
+
+        // One worker plus one queue slot: the rest are turned away instead of piling up
+        double counted = registry.get("auth.password_hash.tasks").tag("result", "rejected").counter().count();
+        if (rejected < 1 || counted != rejected) {
+            throw new AssertionError("expected fast rejections, got " + rejected + " (counter " + counted + ")");
+        }
+    }
+
+    @Test
+    void gives_up_after_max_wait() {
+        PasswordHasher slow = hasher("bcrypt", 12, 32, Duration.ofMillis(1));
+        try {
+            slow.hash("password123");
+            throw new AssertionError("hash slower than max-wait should be rejected");
+        } catch (ApiException e) {
+            if (e.getStatus() != 503) throw new AssertionError("expected 503, got " + e.getStatus());
+        }
+        if (registry.get("auth.password_hash.tasks").tag("result", "timeout").counter().count() != 1) {
+            throw new AssertionError("timeout should be counted");
+        }
+    }
+
+    private PasswordHasher hasher(String algorithm, int strength, int queueCapacity, Duration maxWait) {
+        return new PasswordHasher(algorithm, strength, 1, queueCapacity, maxWait, registry);
+    }
+}
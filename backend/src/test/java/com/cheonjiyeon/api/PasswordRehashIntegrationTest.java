@@ -0,0 +1,54 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.UserEntity;
+import com.cheonjiyeon.api.auth.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "auth.password.algorithm=argon2")
+@AutoConfigureMockMvc
+@DirtiesContext
+class PasswordRehashIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired UserRepository userRepository;
+
+    @Test
+    void login_upgrades_legacy_bcrypt_hash() throws Exception {
+        String email = "rehash_" + System.nanoTime() + "@zeom.com";
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setName("재해시");
+        user.setRole("USER");
+        user.setPasswordHash(new BCryptPasswordEncoder().encode("Password123!"));
+        userRepository.save(user);
+
+        login(email, "Password123!").andExpect(status().isOk());
+        String upgraded = userRepository.findByEmail(email).orElseThrow().getPasswordHash();
+        if (!upgraded.startsWith("$argon2id$")) {
+            throw new AssertionError("bcrypt hash should be replaced with argon2 on login, got " + upgraded);
+        }
+
+        login(email, "Password123!").andExpect(status().isOk());
+        if (!upgraded.equals(userRepository.findByEmail(email).orElseThrow().getPasswordHash())) {
+            throw new AssertionError("current hash should not be rewritten on every login");
+        }
+        login(email, "wrong-password").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+}
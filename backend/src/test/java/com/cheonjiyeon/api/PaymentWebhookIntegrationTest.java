@@ -1,5 +1,9 @@
 package com.cheonjiyeon.api;
 
+import com.cheonjiyeon.api.booking.BookingEntity;
+import com.cheonjiyeon.api.booking.BookingRepository;
+import com.cheonjiyeon.api.payment.log.PaymentStatusLogEntity;
+import com.cheonjiyeon.api.payment.log.PaymentStatusLogRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,6 +12,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -19,6 +25,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class PaymentWebhookIntegrationTest {
     @Autowired
     MockMvc mvc;
+    @Autowired
+    BookingRepository bookingRepository;
+    @Autowired
+    PaymentStatusLogRepository paymentStatusLogRepository;
 
     @Test
     void webhook_paid_confirms_payment() throws Exception {
@@ -68,6 +78,50 @@ class PaymentWebhookIntegrationTest {
                 .andExpect(jsonPath("$.status").value("PAID"));
     }
 
+    @Test
+    void webhook_failed_on_canceled_booking_still_records_payment() throws Exception {
+        String email = "webhook_" + System.nanoTime() + "@zeom.com";
+        String token = signup(email);
+        String paymentId = pendingPaymentOnCanceledBooking(token);
+
+        // The booking can no longer move to PAYMENT_FAILED; the webhook must still be acknowledged
+        mvc.perform(post("/api/v1/payments/webhooks/provider")
+                        .header("X-Webhook-Secret", "test-secret")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"providerTxId\":\"fake_tx_" + paymentId + "\",\"eventType\":\"FAILED\"}"))
+                .andExpect(status().isAccepted());
+
+        mvc.perform(get("/api/v1/payments/" + paymentId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"));
+    }
+
+    @Test
+    void webhook_paid_on_canceled_booking_refunds_the_charge() throws Exception {
+        String email = "webhook_" + System.nanoTime() + "@zeom.com";
+        String token = signup(email);
+        String paymentId = pendingPaymentOnCanceledBooking(token);
+
+        mvc.perform(post("/api/v1/payments/webhooks/provider")
+                        .header("X-Webhook-Secret", "test-secret")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"providerTxId\":\"fake_tx_" + paymentId + "\",\"eventType\":\"PAID\"}"))
+                .andExpect(status().isAccepted());
+
+        mvc.perform(get("/api/v1/payments/" + paymentId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELED"));
+
+        List<String> reasons = paymentStatusLogRepository.findByPaymentIdOrderByIdAsc(Long.valueOf(paymentId)).stream()
+                .map(PaymentStatusLogEntity::getReason)
+                .toList();
+        if (!reasons.contains("auto_refund_booking_canceled")) {
+            throw new AssertionError("expected an auto refund transition, got " + reasons);
+        }
+    }
+
     @Test
     void webhook_rejects_invalid_secret() throws Exception {
         mvc.perform(post("/api/v1/payments/webhooks/provider")
@@ -76,4 +130,43 @@ class PaymentWebhookIntegrationTest {
                         .content("{\"providerTxId\":\"fake_tx_1\",\"eventType\":\"PAID\"}"))
                 .andExpect(status().isUnauthorized());
     }
+
+    private String signup(String email) throws Exception {
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\",\"name\":\"웹훅유저\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+
+    /** 결제 대기 중 운영자가 예약을 취소해 버린 상황을 만든다. */
+    private String pendingPaymentOnCanceledBooking(String token) throws Exception {
+        String bookingId = null;
+        int[][] candidates = { {1, 4}, {1, 5}, {1, 6}, {1, 7}, {1, 8}, {1, 9}, {1, 10}, {1, 11}, {1, 12}, {1, 13}, {2, 14}, {2, 15}, {2, 16}, {2, 17}, {2, 18}, {2, 19}, {2, 20}, {2, 21}, {2, 22}, {2, 23}, {3, 24}, {3, 25}, {3, 26}, {3, 27}, {3, 28}, {3, 29}, {3, 30}, {3, 31}, {3, 32}, {3, 33}, {1, 1}, {1, 2}, {2, 3} };
+        for (int[] c : candidates) {
+            var res = mvc.perform(post("/api/v1/bookings")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"counselorId\":" + c[0] + ",\"slotId\":" + c[1] + "}"))
+                    .andReturn().getResponse();
+            if (res.getStatus() == 200) {
+                bookingId = res.getContentAsString().replaceAll(".*\"id\":([0-9]+).*", "$1");
+                break;
+            }
+        }
+        if (bookingId == null) throw new IllegalStateException("테스트용 예약 생성 실패");
+
+        String payment = mvc.perform(post("/api/v1/payments")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingId\":" + bookingId + ",\"amount\":50000,\"currency\":\"KRW\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        BookingEntity booking = bookingRepository.findById(Long.valueOf(bookingId)).orElseThrow();
+        booking.setStatus("CANCELED");
+        bookingRepository.save(booking);
+        return payment.replaceAll(".*\"id\":([0-9]+).*", "$1");
+    }
 }
@@ -0,0 +1,95 @@
+package com.cheonjiyeon.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PublicFortuneCacheIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Test
+    void zodiac_is_served_from_cache_with_etag_and_revalidates() throws Exception {
+        String today = LocalDate.now(ZoneId.of("Asia/Seoul")).toString();
+        MockHttpServletResponse first = mvc.perform(get("/api/v1/fortune/zodiac"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.zodiacFortunes.length()").value(12))
+                .andExpect(jsonPath("$.fortuneDate").value(today))
+                .andExpect(jsonPath("$.zodiacFortunes[0].fortuneDate").value(today))
+                .andReturn().getResponse();
+        String etag = first.getHeader("ETag");
+        String cacheControl = first.getHeader("Cache-Control");
+        if (etag == null || cacheControl == null || !cacheControl.contains("public") || !cacheControl.contains("max-age")) {
+            throw new AssertionError("missing cache headers: ETag=" + etag + ", Cache-Control=" + cacheControl);
+        }
+
+        String second = mvc.perform(get("/api/v1/fortune/zodiac"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        if (!second.equals(first.getContentAsString())) {
+            throw new AssertionError("same-day zodiac responses differ");
+        }
+
+        mvc.perform(get("/api/v1/fortune/zodiac").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void single_zodiac_matches_list_entry() throws Exception {
+        String list = mvc.perform(get("/api/v1/fortune/zodiac"))
+                .andReturn().getResponse().getContentAsString();
+        String single = mvc.perform(get("/api/v1/fortune/zodiac/{animal}", "호랑이"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.animal").value("호랑이"))
+                .andReturn().getResponse().getContentAsString();
+        if (!list.contains(single)) {
+            throw new AssertionError("single zodiac response is not the list entry: " + single);
+        }
+
+        mvc.perform(get("/api/v1/fortune/zodiac/{animal}", "고양이"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void compatibility_base_depends_only_on_year_branches() throws Exception {
+        // 1984 and 1996 are both 쥐띠, 1985 and 1997 both 소띠 (자-축 육합)
+        String a = compatibility("1984-03-01", "1985-07-15");
+        String b = compatibility("1996-11-30", "1997-01-02");
+        String summaryA = a.replaceAll(".*\"summary\":\"([^\"]+)\".*", "$1");
+        String summaryB = b.replaceAll(".*\"summary\":\"([^\"]+)\".*", "$1");
+        String scoreA = a.replaceAll("^\\{\"score\":([0-9]+),.*", "$1");
+        String scoreB = b.replaceAll("^\\{\"score\":([0-9]+),.*", "$1");
+        if (!summaryA.equals(summaryB) || !scoreA.equals(scoreB)) {
+            throw new AssertionError("same branches gave different base results:\n" + a + "\n" + b);
+        }
+
+        mvc.perform(post("/api/v1/fortune/compatibility")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"birthDate1\":\"1984-03-01\",\"birthDate2\":\"1985-07-15\"}"))
+                .andExpect(jsonPath("$.animal1").value("쥐"))
+                .andExpect(jsonPath("$.animal2").value("소"));
+    }
+
+    private String compatibility(String birthDate1, String birthDate2) throws Exception {
+        return mvc.perform(post("/api/v1/fortune/compatibility")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"birthDate1\":\"" + birthDate1 + "\",\"birthDate2\":\"" + birthDate2 + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.cheonjiyeon.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "rate-limit.groups[0].name=counselors",
+        "rate-limit.groups[0].paths=/api/v1/counselors",
+        "rate-limit.groups[0].limit=3",
+        "rate-limit.groups[0].window=1m",
+        "rate-limit.groups[1].name=health",
+        "rate-limit.groups[1].paths=/actuator",
+        "rate-limit.groups[1].limit=0",
+        "rate-limit.groups[1].window=1m",
+        "rate-limit.groups[2].name=general",
+        "rate-limit.groups[2].paths=/",
+        "rate-limit.groups[2].limit=100",
+        "rate-limit.groups[2].window=1m",
+        "rate-limit.trust-forwarded-for=true"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class RateLimitIntegrationTest {
+
+    @Autowired MockMvc mvc;
+
+    @Test
+    void route_group_policy_limits_only_its_paths() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(get("/api/v1/counselors").header("X-Forwarded-For", "203.0.113.7"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-RateLimit-Limit", "3"))
+                    .andExpect(header().string("X-RateLimit-Remaining", String.valueOf(2 - i)));
+        }
+
+        mvc.perform(get("/api/v1/counselors").header("X-Forwarded-For", "203.0.113.7"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "20"))
+                .andExpect(jsonPath("$.status").value(429));
+        // A client-supplied hop in front of the proxy's entry does not buy a new bucket
+        mvc.perform(get("/api/v1/counselors").header("X-Forwarded-For", "198.51.100.1, 203.0.113.7"))
+                .andExpect(status().isTooManyRequests());
+
+        // Other groups and other clients keep their own budgets
+        mvc.perform(get("/api/v1/products/cash").header("X-Forwarded-For", "203.0.113.7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-RateLimit-Limit", "100"));
+        mvc.perform(get("/api/v1/counselors").header("X-Forwarded-For", "203.0.113.8"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unlimited_group_skips_the_limiter() throws Exception {
+        mvc.perform(get("/actuator/health"))
+                .andExpect(header().doesNotExist("X-RateLimit-Limit"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.cheonjiyeon.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RecurringScheduleIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Test
+    void recurring_rules_skip_existing_slots_and_exceptions() throws Exception {
+        String token = signupCounselor("recurring_" + System.nanoTime());
+        String counselorId = mvc.perform(get("/api/v1/counselor/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"id\":([0-9]+).*", "$1");
+
+        LocalDate monday = LocalDate.now().plusWeeks(2).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate nextMonday = monday.plusWeeks(1);
+
+        // One slot already published inside the recurring window
+        mvc.perform(put("/api/v1/counselor/schedule")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"slots\":[{\"startAt\":\"" + monday + "T10:00:00\",\"endAt\":\"" + monday + "T10:30:00\"}]}"))
+                .andExpect(status().isOk());
+
+        // Mondays 09:00-12:00 in 30 minute slots = 6 per week; the second Monday blocks 11:00-12:00
+        String body = "{\"from\":\"" + monday + "\",\"to\":\"" + monday.plusDays(13) + "\"," +
+                "\"rules\":[{\"dayOfWeek\":\"MONDAY\",\"startTime\":\"09:00\",\"endTime\":\"12:00\"}]," +
+                "\"exceptions\":[{\"date\":\"" + nextMonday + "\",\"startTime\":\"11:00\",\"endTime\":\"12:00\"}]}";
+
+        mvc.perform(post("/api/v1/counselor/schedule/recurring")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.generated").value(9))
+                .andExpect(jsonPath("$.skipped").value(1));
+
+        // Re-applying the same rules is idempotent
+        mvc.perform(post("/api/v1/counselor/schedule/recurring")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.generated").value(0))
+                .andExpect(jsonPath("$.skipped").value(10));
+
+        mvc.perform(get("/api/v1/counselors/" + counselorId + "/availability")
+                        .param("from", monday.toString())
+                        .param("to", nextMonday.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].slots.length()").value(6))
+                .andExpect(jsonPath("$.days[1].slots.length()").value(4));
+    }
+
+    @Test
+    void recurring_schedule_rejects_invalid_ranges() throws Exception {
+        String token = signupCounselor("recurring_bad_" + System.nanoTime());
+        LocalDate from = LocalDate.now().plusDays(1);
+
+        mvc.perform(post("/api/v1/counselor/schedule/recurring")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\":\"" + from + "\",\"to\":\"" + from.plusDays(400) + "\"," +
+                                "\"rules\":[{\"dayOfWeek\":\"MONDAY\",\"startTime\":\"09:00\",\"endTime\":\"12:00\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(post("/api/v1/counselor/schedule/recurring")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\":\"" + from + "\",\"to\":\"" + from.plusDays(7) + "\"," +
+                                "\"rules\":[{\"dayOfWeek\":\"MONDAY\",\"startTime\":\"12:00\",\"endTime\":\"09:00\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String signupCounselor(String prefix) throws Exception {
+        // e2e_counselor_ prefix triggers auto COUNSELOR role + CounselorEntity creation
+        String email = "e2e_counselor_" + prefix + "@zeom.com";
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\",\"name\":\"반복상담사\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,78 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.counselor.CounselorEntity;
+import com.cheonjiyeon.api.counselor.CounselorPortalDtos;
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.RecurringSlotGenerator;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recurring slot generation throughput: expand + sorted merge + multi-row INSERT.
+ * Every day 00:00-23:50 in 10 minute slots = 143 slots/day.
+ */
+@SpringBootTest
+class RecurringSlotGenerationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringSlotGenerationBenchmarkTest.class);
+
+    private static final int DAYS = 350;   // ~50k slots; raise to 7000 for ~1M
+
+    @Autowired
+    RecurringSlotGenerator generator;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void generates_slots_in_bulk_and_second_pass_is_all_skipped() {
+        CounselorEntity counselor = new CounselorEntity();
+        counselor.setName("벤치상담사");
+        counselor.setSpecialty("종합운세");
+        counselor.setIntro("슬롯 생성 벤치마크");
+        Long counselorId = counselorRepository.save(counselor).getId();
+
+        List<CounselorPortalDtos.RecurringRule> rules = Arrays.stream(DayOfWeek.values())
+                .map(d -> new CounselorPortalDtos.RecurringRule(d, LocalTime.MIDNIGHT, LocalTime.of(23, 50)))
+                .toList();
+        LocalDate from = LocalDate.now().plusYears(5);
+        LocalDate to = from.plusDays(DAYS - 1);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        long started = System.nanoTime();
+        RecurringSlotGenerator.Result first = tx.execute(s ->
+                generator.generate(counselorId, from, to, rules, List.of(), 10, LocalDateTime.MIN));
+        long firstNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        RecurringSlotGenerator.Result second = tx.execute(s ->
+                generator.generate(counselorId, from, to, rules, List.of(), 10, LocalDateTime.MIN));
+        long secondNanos = System.nanoTime() - started;
+
+        log.info("[slot-generation] insert: {} slots in {} ms; re-run merge: {} skipped in {} ms",
+                first.generated(), firstNanos / 1_000_000, second.skipped(), secondNanos / 1_000_000);
+
+        int expected = DAYS * 143;
+        if (first.generated() != expected || first.skipped() != 0) {
+            throw new AssertionError("expected " + expected + " generated, got " + first);
+        }
+        if (second.generated() != 0 || second.skipped() != expected) {
+            throw new AssertionError("expected every slot to be skipped on re-run, got " + second);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.fortune.DailyFortuneTable;
+import com.cheonjiyeon.api.fortune.SajuChartCodeCache;
+import com.cheonjiyeon.api.fortune.saju.DailyFortuneCalculator;
+import com.cheonjiyeon.api.fortune.saju.OhaengEnum;
+import com.cheonjiyeon.api.fortune.saju.SajuCalculator;
+import com.cheonjiyeon.api.fortune.saju.SajuChart;
+import com.cheonjiyeon.api.fortune.saju.SajuChartCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 64비트 명식 코드 왕복 변환과 near-cache 슬롯 충돌 처리 확인
+ */
+class SajuChartCodeTest {
+
+    private static final String[] HOURS = {"unknown", "자시", "인시", "오시", "신시", "해시"};
+
+    @Test
+    void encode_decode_round_trips_every_pillar_and_ohaeng_count() {
+        LocalDate birth = LocalDate.of(1930, 1, 1);
+        LocalDate today = LocalDate.of(2026, 10, 17);
+        for (int i = 0; i < 3000; i++) {
+            SajuChart chart = SajuCalculator.calculateChart(birth.plusDays(i * 11L), HOURS[i % HOURS.length],
+                    i % 2 == 0 ? "male" : "female");
+            long code = SajuChartCode.encode(chart);
+            if (!SajuChartCode.isValid(code) || code >>> SajuChartCode.BITS != 0) {
+                throw new AssertionError("invalid code " + Long.toHexString(code) + " for " + describe(chart));
+            }
+            SajuChart decoded = SajuChartCode.decode(code);
+            if (!describe(decoded).equals(describe(chart))) {
+                throw new AssertionError("round trip differs: " + describe(chart) + " vs " + describe(decoded));
+            }
+            for (OhaengEnum ohaeng : OhaengEnum.values()) {
+                if (SajuChartCode.ohaengCount(code, ohaeng) != chart.getOhaengBalance().get(ohaeng)) {
+                    throw new AssertionError("ohaeng count differs for " + describe(chart));
+                }
+            }
+            if (SajuChartCode.branchMask(code) != DailyFortuneCalculator.branchMask(chart)
+                    || DailyFortuneTable.signature(code, today) != DailyFortuneTable.signature(chart, today)) {
+                throw new AssertionError("fortune signature differs for " + describe(chart));
+            }
+        }
+        if (SajuChartCode.isValid(SajuChartCode.NONE) || SajuChartCode.isValid(-1L)) {
+            throw new AssertionError("empty and out-of-range codes must be invalid");
+        }
+    }
+
+    @Test
+    void near_cache_never_returns_another_users_chart() {
+        SajuChartCodeCache cache = new SajuChartCodeCache(new SimpleMeterRegistry(), 1000, Duration.ofHours(1));
+        if (cache.capacity() != 1024) throw new AssertionError("capacity should round up to 1024");
+
+        long a = SajuChartCode.encode(SajuCalculator.calculateChart(LocalDate.of(1990, 5, 5), "오시", "male"));
+        long b = SajuChartCode.encode(SajuCalculator.calculateChart(LocalDate.of(1985, 2, 1), "unknown", "female"));
+        cache.put(7, a);
+        if (cache.get(7) != a) throw new AssertionError("cached code not returned");
+        // 7 and 7 + 1024 share a slot: the newer entry wins and the older user misses
+        cache.put(7 + 1024, b);
+        if (cache.get(7) != SajuChartCode.NONE || cache.get(7 + 1024) != b) {
+            throw new AssertionError("slot collision must evict, not alias");
+        }
+        cache.evict(7);
+        if (cache.get(7 + 1024) != b) throw new AssertionError("evicting a missing user removed another entry");
+        cache.evict(7 + 1024);
+        cache.put(8, b);
+        cache.clear();
+        if (cache.get(7 + 1024) != SajuChartCode.NONE || cache.get(8) != SajuChartCode.NONE) {
+            throw new AssertionError("evict/clear left entries behind");
+        }
+    }
+
+    private static String describe(SajuChart chart) {
+        return chart.getYearPillar() + " " + chart.getMonthPillar() + " " + chart.getDayPillar() + " "
+                + chart.getHourPillar() + " " + chart.getOhaengBalance();
+    }
+}
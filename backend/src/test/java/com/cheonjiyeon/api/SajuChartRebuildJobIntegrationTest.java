@@ -0,0 +1,165 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.UserEntity;
+import com.cheonjiyeon.api.auth.UserRepository;
+import com.cheonjiyeon.api.fortune.SajuChartEntity;
+import com.cheonjiyeon.api.fortune.SajuChartRebuildJob;
+import com.cheonjiyeon.api.fortune.SajuChartRebuildJobEntity;
+import com.cheonjiyeon.api.fortune.SajuChartRebuildJobRepository;
+import com.cheonjiyeon.api.fortune.SajuChartRepository;
+import com.cheonjiyeon.api.fortune.saju.SajuCalculator;
+import com.cheonjiyeon.api.fortune.saju.SajuChart;
+import com.cheonjiyeon.api.fortune.saju.SajuChartCode;
+import com.cheonjiyeon.api.fortune.saju.SolarLunarConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SajuChartRebuildJobIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    SajuChartRepository sajuChartRepository;
+
+    @Autowired
+    SajuChartRebuildJobRepository jobRepository;
+
+    @Test
+    void rebuild_upserts_every_chart_then_resumes_from_checkpoint() throws Exception {
+        String adminToken = adminToken("rebuild-admin@zeom.com");
+        mvc.perform(post("/api/v1/admin/saju-charts/rebuild")
+                        .header("Authorization", "Bearer " + signup("rebuild-user@zeom.com")))
+                .andExpect(status().isForbidden());
+
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            UserEntity user = new UserEntity();
+            user.setEmail("rebuild-" + i + "@zeom.com");
+            user.setName("재계산" + i);
+            user.setBirthDate(LocalDate.of(1955, 3, 1).plusDays(i * 17L));
+            user.setBirthHour(i % 4 == 0 ? null : "유시");
+            user.setCalendarType(i % 5 == 0 ? "lunar" : "solar");
+            user.setIsLeapMonth(false);
+            user.setGender(i % 2 == 0 ? "female" : "male");
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        // A chart computed under old rules must be overwritten in place
+        SajuChartEntity stale = new SajuChartEntity();
+        stale.setUserId(users.get(7).getId());
+        stale.setBirthSolarDate(LocalDate.of(1900, 1, 1));
+        stale.setGender("male");
+        stale.setYearGan(1); stale.setYearJi(1); stale.setMonthGan(1); stale.setMonthJi(1);
+        stale.setDayGan(1); stale.setDayJi(1);
+        Long staleId = sajuChartRepository.save(stale).getId();
+
+        mvc.perform(post("/api/v1/admin/saju-charts/rebuild").param("fresh", "true")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+        awaitFinished(adminToken);
+        mvc.perform(get("/api/v1/admin/saju-charts/rebuild").header("Authorization", "Bearer " + adminToken))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.checkpointUserId").value(users.get(users.size() - 1).getId()));
+
+        Map<Long, SajuChartEntity> charts = sajuChartRepository.findByUserIdIn(
+                users.stream().map(UserEntity::getId).toList()).stream()
+                .collect(Collectors.toMap(SajuChartEntity::getUserId, Function.identity()));
+        for (UserEntity user : users) {
+            assertChart(user, charts.get(user.getId()));
+        }
+        if (!charts.get(users.get(7).getId()).getId().equals(staleId)) {
+            throw new AssertionError("stale chart should be updated in place");
+        }
+
+        // Resume: a stopped job continues after its checkpoint and keeps its id
+        Long checkpoint = users.get(999).getId();
+        SajuChartRebuildJobEntity stopped = new SajuChartRebuildJobEntity();
+        stopped.setStatus(SajuChartRebuildJob.STOPPED);
+        stopped.setCheckpointUserId(checkpoint);
+        stopped = jobRepository.save(stopped);
+        sajuChartRepository.delete(charts.get(users.get(1100).getId()));
+
+        mvc.perform(post("/api/v1/admin/saju-charts/rebuild").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(stopped.getId()));
+        awaitFinished(adminToken);
+        SajuChartRebuildJobEntity resumed = jobRepository.findById(stopped.getId()).orElseThrow();
+        if (!SajuChartRebuildJob.COMPLETED.equals(resumed.getStatus()) || resumed.getProcessed() != 200) {
+            throw new AssertionError("resume should process only the 200 users after the checkpoint: "
+                    + resumed.getStatus() + " processed=" + resumed.getProcessed());
+        }
+        assertChart(users.get(1100), sajuChartRepository.findByUserId(users.get(1100).getId()).orElse(null));
+    }
+
+    private static void assertChart(UserEntity user, SajuChartEntity entity) {
+        if (entity == null) throw new AssertionError("missing chart for user " + user.getId());
+        LocalDate solar = SolarLunarConverter.resolveSolarDate(user.getBirthDate(), user.getCalendarType(), user.getIsLeapMonth());
+        SajuChart chart = SajuCalculator.calculateChart(solar,
+                user.getBirthHour() != null ? user.getBirthHour() : "unknown", user.getGender());
+        boolean same = entity.getBirthSolarDate().equals(solar)
+                && entity.getYearGan() == chart.getYearPillar().getGan().getIndex()
+                && entity.getYearJi() == chart.getYearPillar().getJi().getIndex()
+                && entity.getMonthJi() == chart.getMonthPillar().getJi().getIndex()
+                && entity.getDayGan() == chart.getDayPillar().getGan().getIndex()
+                && entity.getDayJi() == chart.getDayPillar().getJi().getIndex()
+                && (chart.getHourPillar() == null ? entity.getHourJi() == null
+                    : entity.getHourJi() == chart.getHourPillar().getJi().getIndex());
+        if (!same || entity.getChartCode() == null || entity.getChartCode() != SajuChartCode.encode(chart)) {
+            throw new AssertionError("chart mismatch for user " + user.getId());
+        }
+    }
+
+    private void awaitFinished(String adminToken) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            String body = mvc.perform(get("/api/v1/admin/saju-charts/rebuild")
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andReturn().getResponse().getContentAsString();
+            if (body.contains("\"active\":false")) return;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("rebuild job did not finish");
+    }
+
+    private String adminToken(String email) throws Exception {
+        String token = signup(email);
+        UserEntity admin = userRepository.findByEmail(email).orElseThrow();
+        admin.setRole("ADMIN");
+        userRepository.save(admin);
+        return token;
+    }
+
+    private String signup(String email) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"관리\"}", email);
+        return mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
@@ -0,0 +1,145 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.counselor.CounselorRepository;
+import com.cheonjiyeon.api.counselor.SlotEntity;
+import com.cheonjiyeon.api.counselor.SlotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SlotHoldIntegrationTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    SlotRepository slotRepository;
+
+    @Autowired
+    CounselorRepository counselorRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void held_slot_is_reserved_for_holder_until_booked() throws Exception {
+        String holder = signup("hold1@zeom.com", "홀더");
+        String other = signup("hold2@zeom.com", "경쟁자");
+        long slotId = createSlot();
+
+        mvc.perform(post("/api/v1/bookings/holds")
+                        .header("Authorization", "Bearer " + holder)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(holdBody(slotId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slotIds[0]").value(slotId))
+                .andExpect(jsonPath("$.expiresAt").exists());
+
+        // Another user can neither hold nor book the slot while the hold is active
+        mvc.perform(post("/api/v1/bookings/holds")
+                        .header("Authorization", "Bearer " + other)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(holdBody(slotId)))
+                .andExpect(status().isConflict());
+        mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + other)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingBody(slotId)))
+                .andExpect(status().isConflict());
+
+        mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + holder)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingBody(slotId)))
+                .andExpect(status().isOk());
+
+        SlotEntity slot = slotRepository.findById(slotId).orElseThrow();
+        if (slot.isAvailable() || slot.getHeldByUserId() != null) {
+            throw new AssertionError("booked slot should be unavailable with its hold consumed");
+        }
+    }
+
+    @Test
+    void released_or_expired_hold_frees_the_slot() throws Exception {
+        String holder = signup("hold3@zeom.com", "홀더2");
+        String other = signup("hold4@zeom.com", "경쟁자2");
+        long slotId = createSlot();
+
+        mvc.perform(post("/api/v1/bookings/holds")
+                        .header("Authorization", "Bearer " + holder)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(holdBody(slotId)))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/v1/bookings/holds/release")
+                        .header("Authorization", "Bearer " + holder)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(holdBody(slotId)))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/v1/bookings/holds")
+                        .header("Authorization", "Bearer " + other)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(holdBody(slotId)))
+                .andExpect(status().isOk());
+
+        // Expired holds are ignored even before the sweeper clears them
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDateTime forceOverwrite = LocalDateTime.now().plusYears(1);
+        tx.executeWithoutResult(s -> slotRepository.holdSlots(List.of(slotId), 4L, 0L, past, forceOverwrite));
+        mvc.perform(post("/api/v1/bookings/holds")
+                        .header("Authorization", "Bearer " + holder)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(holdBody(slotId)))
+                .andExpect(status().isOk());
+        tx.executeWithoutResult(s -> slotRepository.holdSlots(List.of(slotId), 4L, 0L, past, forceOverwrite));
+        Integer released = tx.execute(s -> slotRepository.releaseAllExpiredHolds(LocalDateTime.now()));
+        if (released == null || released < 1) throw new AssertionError("expired hold should be swept");
+
+        mvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", "Bearer " + holder)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingBody(slotId)))
+                .andExpect(status().isOk());
+    }
+
+    private long createSlot() {
+        SlotEntity slot = new SlotEntity();
+        slot.setCounselor(counselorRepository.findById(4L).orElseThrow());
+        slot.setStartAt(LocalDateTime.now().plusDays(30));
+        slot.setEndAt(LocalDateTime.now().plusDays(30).plusMinutes(30));
+        slot.setAvailable(true);
+        return slotRepository.save(slot).getId();
+    }
+
+    private String holdBody(long slotId) {
+        return "{\"counselorId\":4,\"slotIds\":[" + slotId + "]}";
+    }
+
+    private String bookingBody(long slotId) {
+        return "{\"counselorId\":4,\"slotId\":" + slotId + "}";
+    }
+
+    private String signup(String email, String name) throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"Password123!\",\"name\":\"%s\"}", email, name);
+        String res = mvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+        return res.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+    }
+}
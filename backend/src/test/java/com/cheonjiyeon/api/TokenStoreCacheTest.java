@@ -0,0 +1,99 @@
+package com.cheonjiyeon.api;
+
+import com.cheonjiyeon.api.auth.TokenStore;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+class TokenStoreCacheTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-32";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TokenStore tokenStore = new TokenStore(SECRET, registry, 1000);
+
+    @Test
+    void repeated_lookups_hit_the_cache() {
+        String token = tokenStore.issueAccess(7L, "USER");
+
+        for (int i = 0; i < 5; i++) {
+            if (!Optional.of(7L).equals(tokenStore.resolveAccessUserId(token))) {
+                throw new AssertionError("access token should resolve to user 7");
+            }
+        }
+
+        if (lookups("hit") != 4 || lookups("miss") != 1) {
+            throw new AssertionError("expected 1 miss + 4 hits, got miss=" + lookups("miss") + " hit=" + lookups("hit"));
+        }
+        double ratio = registry.get("auth.token_cache.hit_ratio").gauge().value();
+        if (Math.abs(ratio - 0.8) > 1e-9) {
+            throw new AssertionError("expected hit ratio 0.8, got " + ratio);
+        }
+    }
+
+    @Test
+    void tampered_refresh_and_expired_tokens_are_rejected() {
+        String token = tokenStore.issueAccess(8L, "USER");
+        tokenStore.resolveAccessUserId(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        if (tokenStore.resolveAccessUserId(tampered).isPresent()) {
+            throw new AssertionError("tampered token must not resolve");
+        }
+        if (tokenStore.resolveAccessUserId(tokenStore.issueRefresh(8L)).isPresent()) {
+            throw new AssertionError("refresh token must not resolve as an access token");
+        }
+
+        Instant past = Instant.now().minusSeconds(3600);
+        String expired = Jwts.builder()
+                .subject("8")
+                .claim("role", "USER")
+                .claim("typ", "access")
+                .issuedAt(Date.from(past))
+                .expiration(Date.from(past.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        if (tokenStore.resolveAccessUserId(expired).isPresent()) {
+            throw new AssertionError("expired token must not resolve");
+        }
+    }
+
+    @Test
+    void revoked_tokens_are_rejected_even_when_cached() {
+        String token = tokenStore.issueAccess(9L, "USER");
+        String other = tokenStore.issueAccess(10L, "USER");
+        tokenStore.resolveAccessUserId(token);
+
+        tokenStore.revokeAccessTokens(9L);
+
+        if (tokenStore.resolveAccessUserId(token).isPresent()) {
+            throw new AssertionError("cached token of a revoked user must not resolve");
+        }
+        if (tokenStore.resolveAccessUserId(other).isEmpty()) {
+            throw new AssertionError("other users are not affected");
+        }
+    }
+
+    @Test
+    void cache_is_bounded() {
+        SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+        TokenStore small = new TokenStore(SECRET, smallRegistry, 32);
+        for (long id = 1; id <= 500; id++) {
+            small.resolveAccessUserId(small.issueAccess(id, "USER"));
+        }
+        double size = smallRegistry.get("auth.token_cache.size").gauge().value();
+        if (size > 32) {
+            throw new AssertionError("cache should stay within 32 entries, got " + size);
+        }
+    }
+
+    private double lookups(String result) {
+        return registry.get("auth.token_cache.lookups").tag("result", result).counter().count();
+    }
+}
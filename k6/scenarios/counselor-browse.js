@@ -5,7 +5,7 @@ import { BASE_URL, defaultHeaders, login, authHeaders } from '../common.js';
 /**
  * Counselor Browse Load Test
  * - 50 virtual users browsing counselor list and details
- * - Each VU: list counselors -> pick random -> view detail -> view reviews
+ * - Each VU: list counselors -> pick random -> view detail -> view availability -> view reviews
  * - Threshold: P95 < 500ms
  */
 export const options = {
@@ -75,7 +75,15 @@ export default function (data) {
 
     sleep(0.5);
 
-    // 3. View reviews for the counselor
+    // 3. View the next two weeks of availability (served from the in-memory read model)
+    const availabilityRes = http.get(`${BASE_URL}/api/v1/counselors/${counselorId}/availability`, { headers });
+    check(availabilityRes, {
+      'counselor availability status 200': (r) => r.status === 200,
+    });
+
+    sleep(0.5);
+
+    // 4. View reviews for the counselor
     const reviewRes = http.get(`${BASE_URL}/api/v1/reviews/counselor/${counselorId}`, { headers });
     check(reviewRes, {
       'reviews status 200': (r) => r.status === 200,